@@ -0,0 +1,109 @@
+package duke.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+import duke.ui.Ui;
+
+/**
+ * Generates the tasks used by the benchmarks.
+ * <p>
+ * The tasks are generated deterministically, cycling through todos, deadlines and events with varied
+ * descriptions and dates, so that every run of a benchmark works on the same data.
+ */
+final class BenchmarkData {
+
+    private static final String[] WORDS = {
+        "read", "book", "return", "library", "project", "meeting", "submit", "report", "buy", "groceries",
+        "call", "mum", "plan", "trip", "fix", "bug", "review", "pull", "request", "water", "plants",
+    };
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Adds the given number of generated tasks to the container.
+     *
+     * @param tasks The container to add the tasks to.
+     * @param count The number of tasks to add.
+     * @return The given container.
+     */
+    static TaskContainer fill(TaskContainer tasks, int count) {
+        for (int i = 0; i < count; i++) {
+            tasks.add(createTask(i));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the PSV strings of the given number of generated tasks.
+     *
+     * @param count The number of tasks.
+     * @return The PSV strings of the tasks.
+     */
+    static List<String> createPsvLines(int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(createTask(i).toPsvString());
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the generated task with the given number.
+     *
+     * @param i The number of the task.
+     * @return A todo, deadline or event, depending on the number.
+     */
+    static Task createTask(int i) {
+        String description = WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + " " + i;
+        LocalDate date = FIRST_DATE.plusDays(i % 1000);
+        Task task = switch (i % 3) {
+        case 0 -> new Todo(description);
+        case 1 -> new Deadline(description, date);
+        default -> new Event(description, date, date.plusDays(i % 7));
+        };
+        if (i % 2 == 0) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * A user interface that discards all output, so that benchmarks only measure the commands themselves.
+     */
+    static final class SilentUi implements Ui {
+
+        @Override
+        public void showOutput(List<String> lines) {
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+        }
+
+        @Override
+        public void showError(String... lines) {
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
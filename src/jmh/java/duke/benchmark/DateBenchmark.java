@@ -0,0 +1,92 @@
+package duke.benchmark;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import duke.Utils;
+
+/**
+ * Measures the time taken by {@link Utils#parseDate(String)} and {@link Utils#dateToString(LocalDate)} on
+ * 10,000 dates spread over the given number of days, against parsing and formatting each date from scratch.
+ * <p>
+ * The baselines create a formatter for every date, and parse dates in the display format only after failing to
+ * parse them in the ISO format, as {@code Utils} used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateBenchmark {
+
+    private static final int COUNT = 10_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+
+    @Param({"30", "365", "100000"})
+    private int days;
+
+    private LocalDate[] dates;
+    private String[] isoStrings;
+    private String[] displayStrings;
+
+    @Setup
+    public void setUp() {
+        dates = new LocalDate[COUNT];
+        isoStrings = new String[COUNT];
+        displayStrings = new String[COUNT];
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Utils.DISPLAY_PATTERN);
+        for (int i = 0; i < COUNT; i++) {
+            dates[i] = FIRST_DATE.plusDays((i * 7919L) % days);
+            isoStrings[i] = dates[i].toString();
+            displayStrings[i] = dates[i].format(formatter);
+        }
+    }
+
+    @Benchmark
+    public void dateToString(Blackhole blackhole) {
+        for (LocalDate date : dates) {
+            blackhole.consume(Utils.dateToString(date));
+        }
+    }
+
+    @Benchmark
+    public void dateToStringBaseline(Blackhole blackhole) {
+        for (LocalDate date : dates) {
+            blackhole.consume(date.format(DateTimeFormatter.ofPattern(Utils.DISPLAY_PATTERN)));
+        }
+    }
+
+    @Benchmark
+    public void parseDate(Blackhole blackhole) {
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(Utils.parseDate(isoStrings[i]));
+            blackhole.consume(Utils.parseDate(displayStrings[i]));
+        }
+    }
+
+    @Benchmark
+    public void parseDateBaseline(Blackhole blackhole) {
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(parseFromScratch(isoStrings[i]));
+            blackhole.consume(parseFromScratch(displayStrings[i]));
+        }
+    }
+
+    private static LocalDate parseFromScratch(String dateString) {
+        try {
+            return LocalDate.parse(dateString);
+        } catch (DateTimeParseException e) {
+            return LocalDate.parse(dateString, DateTimeFormatter.ofPattern(Utils.DISPLAY_PATTERN));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package duke.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.command.FindCommand;
+import duke.history.UndoHistory;
+import duke.storage.Storage;
+import duke.task.PersistentTaskList;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+/**
+ * Measures the time taken by {@link FindCommand#execute(duke.State)} to find tasks by keyword.
+ * <p>
+ * The state is shared between invocations, so the text index is built during warm-up and only queried
+ * while measuring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"report", "book 4", "x"})
+    private String keyword;
+
+    private duke.State state;
+    private FindCommand command;
+
+    @Setup
+    public void setUp() {
+        TaskContainer tasks = BenchmarkData.fill(new PersistentTaskList(), size);
+        Ui ui = new BenchmarkData.SilentUi();
+        Storage storage = new Storage() {
+            @Override
+            public void save(TaskContainer taskList, Ui ui) {
+            }
+
+            @Override
+            public void load(TaskContainer taskContainer, Ui ui) {
+            }
+        };
+        state = new duke.State(tasks, storage, ui, new UndoHistory());
+        command = new FindCommand(keyword);
+    }
+
+    @Benchmark
+    public duke.State find() {
+        return command.execute(state);
+    }
+}
@@ -0,0 +1,66 @@
+package duke.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.command.Command;
+import duke.exception.ParseCommandException;
+import duke.parser.Parser;
+
+/**
+ * Measures the time taken by {@link Parser#parseCommand(String)} to parse a typical input of each command type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+
+    @Param({"ARCHIVE", "BYE", "DEADLINE", "DELETE", "DUE", "EVENT", "FIND", "LIST", "MARK", "ON", "STATS", "TODO",
+            "UNDO", "UNMARK"})
+    private String type;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = inputFor(Command.Type.valueOf(type));
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseCommandException {
+        return Parser.parseCommand(input);
+    }
+
+    /**
+     * Returns a typical input for the given command type.
+     * <p>
+     * The switch has no default, so adding a command type without a sample input here fails to compile.
+     */
+    private static String inputFor(Command.Type type) {
+        return switch (type) {
+        case ARCHIVE -> "archive";
+        case BATCH -> "batch import.txt";
+        case BYE -> "bye";
+        case DEADLINE -> "deadline submit report /by 2024-12-01";
+        case DELETE -> "delete 3";
+        case DUE -> "due /from 2024-11-25 /to 2024-12-01";
+        case EVENT -> "event project meeting /from 2024-12-01 /to 2024-12-02";
+        case FIND -> "find report";
+        case LIST -> "list";
+        case MARK -> "mark 2";
+        case ON -> "on Dec 1 2024";
+        case STATS -> "stats";
+        case TODO -> "todo buy groceries";
+        case UNDO -> "undo";
+        case UNMARK -> "unmark 2";
+        };
+    }
+}
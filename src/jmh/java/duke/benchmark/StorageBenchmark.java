@@ -0,0 +1,89 @@
+package duke.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import duke.exception.ReadStorageException;
+import duke.exception.WriteStorageException;
+import duke.storage.BinaryStorage;
+import duke.storage.FileStorage;
+import duke.task.PersistentTaskList;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+/**
+ * Measures the time taken to save and load all tasks with {@link FileStorage}, and with {@link BinaryStorage}
+ * for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private TaskContainer tasks;
+    private Ui ui;
+    private FileStorage fileStorage;
+    private BinaryStorage binaryStorage;
+
+    @Setup
+    public void setUp() throws IOException, WriteStorageException {
+        directory = Files.createTempDirectory("duke-benchmark");
+        tasks = BenchmarkData.fill(new PersistentTaskList(), size);
+        ui = new BenchmarkData.SilentUi();
+        fileStorage = new FileStorage(directory.resolve("tasks.txt").toString());
+        binaryStorage = new BinaryStorage(directory.resolve("tasks.bin").toString());
+        fileStorage.save(tasks, ui);
+        binaryStorage.save(tasks, ui);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void saveFileStorage() throws WriteStorageException {
+        fileStorage.save(tasks, ui);
+    }
+
+    @Benchmark
+    public TaskContainer loadFileStorage() throws ReadStorageException {
+        TaskContainer loaded = new PersistentTaskList();
+        fileStorage.load(loaded, ui);
+        return loaded;
+    }
+
+    @Benchmark
+    public void saveBinaryStorage() throws WriteStorageException {
+        binaryStorage.save(tasks, ui);
+    }
+
+    @Benchmark
+    public TaskContainer loadBinaryStorage() throws ReadStorageException {
+        TaskContainer loaded = new PersistentTaskList();
+        binaryStorage.load(loaded, ui);
+        return loaded;
+    }
+}
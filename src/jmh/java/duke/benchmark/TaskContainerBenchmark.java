@@ -0,0 +1,47 @@
+package duke.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.task.PersistentTaskList;
+import duke.task.TaskContainer;
+import duke.task.TaskList;
+
+/**
+ * Measures the time taken to copy a task container, which every mutating command does before changing it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskContainerBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private TaskContainer taskList;
+    private TaskContainer persistentTaskList;
+
+    @Setup
+    public void setUp() {
+        taskList = BenchmarkData.fill(new TaskList(), size);
+        persistentTaskList = BenchmarkData.fill(new PersistentTaskList(), size);
+    }
+
+    @Benchmark
+    public TaskContainer copyTaskList() {
+        return taskList.copy();
+    }
+
+    @Benchmark
+    public TaskContainer copyPersistentTaskList() {
+        return persistentTaskList.copy();
+    }
+}
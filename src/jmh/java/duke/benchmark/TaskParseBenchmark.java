@@ -0,0 +1,43 @@
+package duke.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import duke.exception.ParseTaskException;
+import duke.task.Task;
+
+/**
+ * Measures the time taken by {@link Task#fromPsvString(String)} to parse all the lines of a task file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskParseBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<String> lines;
+
+    @Setup
+    public void setUp() {
+        lines = BenchmarkData.createPsvLines(size);
+    }
+
+    @Benchmark
+    public void fromPsvString(Blackhole blackhole) throws ParseTaskException {
+        for (String line : lines) {
+            blackhole.consume(Task.fromPsvString(line));
+        }
+    }
+}
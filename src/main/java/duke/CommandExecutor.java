@@ -0,0 +1,348 @@
+package duke;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import duke.command.Command;
+import duke.exception.ReadStorageException;
+import duke.exception.TaskNotFoundException;
+import duke.exception.WriteStorageException;
+import duke.metrics.Metrics;
+import duke.storage.Storage;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.trace.Span;
+import duke.ui.Ui;
+
+/**
+ * Executes commands against the shared state of the application, committing each new state with a
+ * compare-and-set instead of a lock.
+ * <p>
+ * The current state can be read at any time with {@link #getState()} without blocking, since states are never
+ * modified once they are committed: commands only modify copies of the task container, which share their
+ * structure with the container they are copied from.
+ * <p>
+ * A command is executed on the current state with a stand-in for the user interface and the storage, which
+ * records what the command displays and saves instead. The state returned by the command is then committed
+ * only if no other command was committed in the meantime. If another command was, the command is executed
+ * again on the new current state, discarding what it recorded. Once a command is committed, what it recorded
+ * is replayed on the real user interface and storage, so a command that is retried still displays and saves
+ * its results once. Saves are written in the order the commands are committed.
+ * <p>
+ * The time taken by every command, from its first execution until its results are displayed, is recorded in
+ * {@link Metrics}, together with the tasks it changed and the memory it allocated. Every attempt to execute a
+ * command, and the replay of its results, is also traced as a {@link Span}.
+ */
+public class CommandExecutor {
+
+    private final AtomicReference<Commit> current;
+    private final AtomicLong conflictCount = new AtomicLong();
+    private final Object saveLock = new Object();
+    private final Metrics metrics;
+
+    /** The sequence number of the latest commit whose tasks were saved. */
+    private long savedSequence;
+
+    /**
+     * Constructs a {@code CommandExecutor} starting from the specified state.
+     *
+     * @param state The initial state, whose task container must not be modified afterwards.
+     */
+    public CommandExecutor(State state) {
+        this(state, Metrics.getInstance());
+    }
+
+    /**
+     * Constructs a {@code CommandExecutor} starting from the specified state, recording the commands it executes
+     * in the specified metrics.
+     *
+     * @param state The initial state, whose task container must not be modified afterwards.
+     * @param metrics The metrics to record the commands in.
+     */
+    public CommandExecutor(State state, Metrics metrics) {
+        assert state != null : "State must not be null";
+        assert metrics != null : "Metrics must not be null";
+
+        this.current = new AtomicReference<>(new Commit(state, 0));
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the current state without blocking.
+     * <p>
+     * The returned state is a consistent snapshot: commands committed later do not change it.
+     *
+     * @return The most recently committed state.
+     */
+    public State getState() {
+        return current.get().state;
+    }
+
+    /**
+     * Returns the number of times a command had to be executed again because another command was committed
+     * while it was executed.
+     *
+     * @return The number of conflicts so far.
+     */
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+
+    /**
+     * Executes the command, retrying until its new state is committed, and displays its results.
+     * <p>
+     * The user interface and storage of the current state are kept in the committed state.
+     *
+     * @param command The command to execute.
+     * @param ui The user interface to display the results of the command through.
+     * @return The state committed by the command, or the state it was executed on if it made no changes.
+     */
+    public State execute(Command command, Ui ui) {
+        assert command != null : "Command must not be null";
+        assert ui != null : "Ui must not be null";
+
+        long start = System.nanoTime();
+        long allocatedBefore = metrics.getAllocatedBytes();
+        while (true) {
+            Commit snapshot = current.get();
+            State state = snapshot.state;
+            Staging staging = new Staging(state.getStorage());
+            State staged = new State(state.getTasks(), staging, staging, state.getHistory(), state.getIndex());
+
+            State result = Span.call(Span.Stage.EXECUTE, describe(command), () -> command.execute(staged));
+
+            Commit commit = result == staged
+                    ? snapshot
+                    : new Commit(new State(result.getTasks(), state.getStorage(), state.getUi(),
+                            result.getHistory(), result.getIndex()), snapshot.sequence + 1);
+            if (commit != snapshot && !current.compareAndSet(snapshot, commit)) {
+                conflictCount.incrementAndGet();
+                continue;
+            }
+            Span.run(Span.Stage.RENDER, describe(command), () -> staging.replay(commit, ui));
+            if (command.getType() != null) {
+                long allocated = allocatedBefore < 0 ? -1 : metrics.getAllocatedBytes() - allocatedBefore;
+                metrics.recordCommand(command.getType(), System.nanoTime() - start, allocated,
+                        countChangedTasks(state.getTasks(), commit.state.getTasks()));
+            }
+            return commit.state;
+        }
+    }
+
+    private static String describe(Command command) {
+        return command.getType() == null ? command.getClass().getSimpleName() : command.getType().name();
+    }
+
+    private static int countChangedTasks(TaskContainer before, TaskContainer after) {
+        if (after.getVersion() == before.getVersion()) {
+            return 0;
+        }
+        if (after.getBaseVersion() == before.getVersion()) {
+            return after.getChanges().size();
+        }
+        // A container that was not copied from the one before, such as one restored by undo, replaces every task
+        return after.size();
+    }
+
+    private void save(Commit commit, TaskContainer tasks, Ui ui) {
+        synchronized (saveLock) {
+            if (commit.sequence < savedSequence) {
+                // A later commit is saved already, and contains the changes of this one
+                return;
+            }
+            savedSequence = commit.sequence;
+            try {
+                commit.state.getStorage().save(tasks, ui);
+            } catch (WriteStorageException e) {
+                ui.showError(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Puts tasks removed by a committed command back into the current task list, each before the first task
+     * with a greater ID, and saves it.
+     * <p>
+     * This is used when the removed tasks could not be archived, so that they are not lost once the task list
+     * without them is saved. Like a command, the restored task list is committed with a compare-and-set.
+     */
+    private void restore(List<Task> tasks, Ui ui) {
+        while (true) {
+            Commit snapshot = current.get();
+            State state = snapshot.state;
+            TaskContainer restored = state.getTasks().copy();
+            try {
+                for (Task task : tasks) {
+                    restored.insert(indexBefore(restored, task.getId()), task);
+                }
+            } catch (TaskNotFoundException e) {
+                throw new IllegalStateException("Tasks must be insertable within the task list", e);
+            }
+            Commit commit = new Commit(new State(restored, state.getStorage(), state.getUi(), state.getHistory(),
+                    state.getIndex()), snapshot.sequence + 1);
+            if (current.compareAndSet(snapshot, commit)) {
+                save(commit, restored, ui);
+                return;
+            }
+            conflictCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the index of the first task with an ID greater than the specified one, assuming the tasks are in
+     * increasing order of ID.
+     */
+    private static int indexBefore(TaskContainer tasks, long id) throws TaskNotFoundException {
+        int low = 0;
+        int high = tasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (tasks.get(middle).getId() < id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A committed state, numbered in the order it was committed.
+     */
+    private static final class Commit {
+        private final State state;
+        private final long sequence;
+
+        private Commit(State state, long sequence) {
+            this.state = state;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * An action of a command on the user interface or storage, replayed once the command is committed.
+     */
+    @FunctionalInterface
+    private interface Effect {
+        void replay(Commit commit, Ui ui);
+    }
+
+    /**
+     * Stands in for both the user interface and the storage of a command while it is executed, recording what
+     * the command displays, saves, archives and flushes in the order it does so. Searches of the archive do not
+     * change it, so they are passed on to the real storage right away. If the tasks cannot be archived once the
+     * command is committed, they are put back in the task list, and the effects after archiving are skipped.
+     */
+    private class Staging implements Ui, Storage {
+        private final List<Effect> effects = new ArrayList<>();
+        private final Storage storage;
+
+        /** Whether an effect failed in a way that the effects after it, such as saving, must be skipped. */
+        private boolean isAborted;
+
+        private Staging(Storage storage) {
+            this.storage = storage;
+        }
+
+        @Override
+        public void showOutput(List<String> lines) {
+            List<String> copy = List.copyOf(lines);
+            effects.add((commit, ui) -> ui.showOutput(copy));
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+            showOutput(Arrays.asList(lines));
+        }
+
+        @Override
+        public void streamOutput(Iterable<String> lines) {
+            // The lines are produced from states that are never modified, so they can still be produced on replay
+            effects.add((commit, ui) -> ui.streamOutput(lines));
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+            List<String> copy = List.copyOf(lines);
+            effects.add((commit, ui) -> ui.showError(copy));
+        }
+
+        @Override
+        public void showError(String... lines) {
+            showError(Arrays.asList(lines));
+        }
+
+        @Override
+        public void start() {
+            effects.add((commit, ui) -> ui.start());
+        }
+
+        @Override
+        public void close() {
+            effects.add((commit, ui) -> ui.close());
+        }
+
+        @Override
+        public void save(TaskContainer tasks, Ui ui) {
+            effects.add((commit, realUi) -> CommandExecutor.this.save(commit, tasks, realUi));
+        }
+
+        @Override
+        public void load(TaskContainer taskContainer, Ui ui) {
+            assert false : "Commands must not load tasks";
+        }
+
+        @Override
+        public boolean hasArchive() {
+            return storage.hasArchive();
+        }
+
+        @Override
+        public void archive(List<Task> tasks, Ui ui) throws WriteStorageException {
+            if (!storage.hasArchive()) {
+                // Fail before the command is committed, rather than after its tasks are removed
+                throw new WriteStorageException("Tasks cannot be archived in this storage.");
+            }
+            List<Task> copy = List.copyOf(tasks);
+            effects.add((commit, realUi) -> {
+                try {
+                    commit.state.getStorage().archive(copy, realUi);
+                } catch (WriteStorageException e) {
+                    // The tasks were removed by the commit already, so they must be put back before it is saved
+                    isAborted = true;
+                    restore(copy, realUi);
+                    realUi.showError(e.getMessage(), String.format(
+                            "The %d tasks were kept in the list instead of being archived.", copy.size()));
+                }
+            });
+        }
+
+        @Override
+        public List<Task> findArchived(List<String> keywords, Ui ui) throws ReadStorageException {
+            return storage.findArchived(keywords, ui);
+        }
+
+        @Override
+        public void flush() {
+            effects.add((commit, ui) -> {
+                try {
+                    commit.state.getStorage().flush();
+                } catch (WriteStorageException e) {
+                    ui.showError(e.getMessage());
+                }
+            });
+        }
+
+        private void replay(Commit commit, Ui ui) {
+            for (Effect effect : effects) {
+                if (isAborted) {
+                    break;
+                }
+                effect.replay(commit, ui);
+            }
+        }
+    }
+}
@@ -1,13 +1,33 @@
 package duke;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import duke.command.BatchCommand;
 import duke.command.Command;
 import duke.exception.ParseCommandException;
 import duke.exception.ReadStorageException;
+import duke.exception.WriteStorageException;
+import duke.history.UndoHistory;
+import duke.metrics.Metrics;
 import duke.parser.Parser;
-import duke.storage.FileStorage;
-import duke.task.TaskList;
+import duke.storage.LogStorage;
+import duke.storage.MeteredStorage;
+import duke.storage.Storage;
+import duke.storage.WriteBehindStorage;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.trace.Span;
 import duke.ui.Cli;
+import duke.ui.TextRenderer;
 import duke.ui.Ui;
+import duke.ui.server.SocketServer;
 
 /**
  * The main entry point for the Duke application.
@@ -20,22 +40,82 @@ public class Duke {
 
     private static final String STORAGE_PATH = "./data/duke.txt";
 
-    private State state;
+    private static final String SCRIPT_OPTION = "--script";
+
+    private static final String SERVER_OPTION = "--server";
+
+    private static final String RAW_OPTION = "--raw";
+
+    /** The system property naming the file that the metrics are dumped to, if they are dumped. */
+    private static final String METRICS_FILE_PROPERTY = "duke.metrics.file";
+
+    private static final long METRICS_DUMP_INTERVAL_MILLIS = 60_000;
+
+    /** The system property holding the number of completed tasks beyond which they are archived at launch. */
+    private static final String ARCHIVE_THRESHOLD_PROPERTY = "duke.archive.threshold";
+
+    private static final String ARCHIVE_COMMAND = "archive";
+
+    private final CommandExecutor executor;
+
+    /** The lines of the batches being entered, by the user interface they are entered on. */
+    private final Map<Ui, List<String>> batchLines = Collections.synchronizedMap(new IdentityHashMap<>());
 
     /**
      * Constructs a new instance of Duke with the specified storage, task list, and user interface.
+     * <p>
+     * The saves and loads of the storage are recorded in the metrics of the application. If the system property
+     * {@value #METRICS_FILE_PROPERTY} is set, the metrics are also dumped to the file it names every minute.
+     * <p>
+     * If the system property {@value #ARCHIVE_THRESHOLD_PROPERTY} is set to a number, and more tasks than that
+     * are completed once the tasks are loaded, the completed tasks are archived.
      *
      * @param ui The user interface component to interact with the user.
      */
     public Duke(Ui ui) {
-        this.state = new State(new TaskList(), new FileStorage(STORAGE_PATH), ui, null, null);
+        this(ui, new WriteBehindStorage(new MeteredStorage(new LogStorage(STORAGE_PATH), Metrics.getInstance())),
+                STORAGE_PATH);
+
+        String metricsFile = System.getProperty(METRICS_FILE_PROPERTY);
+        if (metricsFile != null) {
+            Metrics.getInstance().dumpPeriodically(Paths.get(metricsFile), METRICS_DUMP_INTERVAL_MILLIS);
+        }
+
+        String archiveThreshold = System.getProperty(ARCHIVE_THRESHOLD_PROPERTY);
+        if (archiveThreshold != null) {
+            archiveCompletedTasks(archiveThreshold, ui);
+        }
+    }
+
+    /**
+     * Constructs a new instance of Duke with the specified user interface, loading the tasks from the specified
+     * storage.
+     *
+     * @param ui The user interface component to interact with the user.
+     * @param storage The storage to load the tasks from and save them to.
+     * @param location The location of the storage, displayed if no tasks are stored there yet.
+     */
+    public Duke(Ui ui, Storage storage, String location) {
+        State state = new State(new PersistentTaskList(), storage, ui, new UndoHistory());
 
         ui.start();
         try {
-            this.state.getStorage().load(this.state.getTasks(), ui);
+            state.getStorage().load(state.getTasks(), ui);
         } catch (ReadStorageException e) {
-            ui.showOutput(String.format("No storage file found at %s, created new storage file.", STORAGE_PATH));
+            ui.showOutput(String.format("No storage file found at %s, created new storage file.", location));
         }
+        this.executor = new CommandExecutor(state);
+    }
+
+    /**
+     * Returns the current state of the application without blocking.
+     * <p>
+     * The state is a snapshot, so it can be read from any thread while commands are executed.
+     *
+     * @return The most recently committed state.
+     */
+    public State getState() {
+        return executor.getState();
     }
 
     /**
@@ -43,16 +123,110 @@ public class Duke {
      * <p>
      * This method parses the user input into a command, then executes the command with the task list, storage,
      * and user interface components. If the command is a "bye" command, the user interface is closed.
+     * The indexes over the tasks are then brought up to date with the changes made by the command.
+     * <p>
+     * Between the inputs "batch" and "end", the inputs are collected instead, and executed together as a
+     * {@link BatchCommand} once "end" is input.
      *
      * @param input The user input to process.
      */
     public void process(String input) {
+        process(input, executor.getState().getUi());
+    }
+
+    /**
+     * Processes the input of one of several users sharing the tasks, displaying the results through their
+     * user interface.
+     * <p>
+     * Inputs may be processed concurrently. Each command is committed as if it was executed alone, seeing the
+     * changes made by the commands committed before it, whichever user they were input by. Batches are
+     * collected separately for each user interface.
+     *
+     * @param input The user input to process.
+     * @param ui The user interface of the user the input is from.
+     */
+    public void process(String input, Ui ui) {
+        List<String> lines = batchLines.get(ui);
+        if (lines != null) {
+            if (input.equals(BatchCommand.BLOCK_END)) {
+                batchLines.remove(ui);
+                execute(new BatchCommand(lines, String.format("batch of %d lines", lines.size())), ui);
+            } else {
+                lines.add(input);
+            }
+            return;
+        }
+        if (input.equals(BatchCommand.BLOCK_START)) {
+            batchLines.put(ui, new ArrayList<>());
+            ui.showOutput(String.format(
+                    "Enter the commands of the batch, one per line, then [%s] to run them.", BatchCommand.BLOCK_END));
+            return;
+        }
+
+        Command command;
         try {
-            Command command = Parser.parseCommand(input);
-            this.state = command.execute(this.state);
+            command = Span.call(Span.Stage.PARSE, input, () -> Parser.parseCommand(input));
         } catch (ParseCommandException e) {
-            this.state.getUi().showError(e.getMessage());
+            ui.showError(e.getMessage());
+            return;
+        }
+        execute(command, ui);
+    }
+
+    /**
+     * Discards the batch being entered on the specified user interface, if any.
+     * <p>
+     * This should be called when a user interface is closed without ending its batch.
+     *
+     * @param ui The user interface the batch is entered on.
+     */
+    public void discardBatch(Ui ui) {
+        batchLines.remove(ui);
+    }
+
+    /**
+     * Waits for all saved tasks to be written to storage, displaying any error to the user.
+     * <p>
+     * Tasks are saved in the background, so this should be called before the application exits.
+     */
+    public void flush() {
+        State state = executor.getState();
+        try {
+            state.getStorage().flush();
+        } catch (WriteStorageException e) {
+            state.getUi().showError(e.getMessage());
+        }
+    }
+
+    /**
+     * Archives the completed tasks if there are more of them than the given threshold.
+     * <p>
+     * Every task must be checked, so this is only done once at launch, rather than after every command.
+     */
+    private void archiveCompletedTasks(String threshold, Ui ui) {
+        int maxCompleted;
+        try {
+            maxCompleted = Integer.parseInt(threshold.trim());
+        } catch (NumberFormatException e) {
+            ui.showError(String.format("Unable to parse [%s] as the number of completed tasks to archive beyond.",
+                    threshold));
+            return;
         }
+
+        int completed = 0;
+        for (Task task : executor.getState().getTasks()) {
+            if (task.isDone()) {
+                completed++;
+            }
+        }
+        if (completed > maxCompleted) {
+            process(ARCHIVE_COMMAND, ui);
+        }
+    }
+
+    private void execute(Command command, Ui ui) {
+        State state = executor.execute(command, ui);
+        state.getIndex().sync(state.getTasks());
     }
 
     /**
@@ -62,16 +236,52 @@ public class Duke {
      * to load existing tasks from storage, and then enters a loop where user input is continually parsed and
      * processed. Commands are executed accordingly, and errors are displayed if they occur. The program terminates
      * when the user inputs the "bye" command.
+     * <p>
+     * If run with the arguments {@code --script <file>}, the commands in the file are executed as a single
+     * {@link BatchCommand} instead, and the program terminates once they are saved. If run with the arguments
+     * {@code --server <port>}, commands are accepted from local clients through a {@link SocketServer} on the
+     * port until the program is terminated.
+     * <p>
+     * If the arguments start with {@code --raw}, output is rendered for other programs to read instead, in the
+     * format described by {@link TextRenderer}.
      *
-     * @param args Command-line arguments (not used).
+     * @param args Command-line arguments, either none, {@code --script <file>} or {@code --server <port>},
+     *     optionally preceded by {@code --raw}.
      */
     public static void main(String[] args) {
-        Cli ui = new Cli(System.in, System.out);
+        TextRenderer.Mode mode = TextRenderer.Mode.DECORATED;
+        if (args.length > 0 && args[0].equals(RAW_OPTION)) {
+            mode = TextRenderer.Mode.RAW;
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+        Cli ui = new Cli(System.in, System.out, mode);
 
         Duke duke = new Duke(ui);
 
+        if (args.length == 2 && args[0].equals(SCRIPT_OPTION)) {
+            duke.process(String.format("batch %s", args[1]));
+            duke.flush();
+            return;
+        }
+        if (args.length == 2 && args[0].equals(SERVER_OPTION)) {
+            serve(duke, ui, args[1]);
+            return;
+        }
+
         while (ui.isOpen()) {
             duke.process(ui.getInput());
         }
     }
+
+    private static void serve(Duke duke, Ui ui, String port) {
+        Runtime.getRuntime().addShutdownHook(new Thread(duke::flush));
+        try (SocketServer server = new SocketServer(duke, ui, Integer.parseInt(port))) {
+            ui.showOutput(String.format("Listening for commands on port %d.", server.getPort()));
+            server.serve();
+        } catch (NumberFormatException e) {
+            ui.showError(String.format("Unable to parse [%s] as a port.", port));
+        } catch (IOException e) {
+            ui.showError(String.format("Error serving commands on port [%s] %s", port, e.getMessage()));
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package duke;
 
+import duke.history.UndoHistory;
+import duke.index.TaskIndex;
 import duke.storage.Storage;
 import duke.task.TaskContainer;
 import duke.ui.Ui;
@@ -7,35 +9,52 @@ import duke.ui.Ui;
 /**
  * Represents the state of the application at a specific point in time.
  * The state includes the current task container, UI, storage,
- * and a reference to the previous state for state management operations.
+ * the history of commands that can be undone, and the indexes over the tasks.
  */
 public class State {
     private final TaskContainer tasks;
     private final Storage storage;
     private final Ui ui;
-    private final State previousState;
-    private final String previousCommand;
+    private final UndoHistory history;
+    private final TaskIndex index;
 
     /**
      * Constructs a {@code State} with the specified tasks, UI, storage,
-     * and reference to the previous state.
+     * and history of commands that can be undone.
      *
-     * @param tasks         The current task container holding user tasks.
-     * @param storage       The storage system responsible for reading and writing tasks.
-     * @param ui            The user interface component for displaying information.
-     * @param previousState The previous state of the application, or {@code null} if none.
-     * @param previousCommand The previous command that led to this state, or {@code null} if none.
+     * @param tasks   The current task container holding user tasks.
+     * @param storage The storage system responsible for reading and writing tasks.
+     * @param ui      The user interface component for displaying information.
+     * @param history The history of commands that led to this state.
      */
-    public State(TaskContainer tasks, Storage storage, Ui ui, State previousState, String previousCommand) {
+    public State(TaskContainer tasks, Storage storage, Ui ui, UndoHistory history) {
+        this(tasks, storage, ui, history, new TaskIndex());
+    }
+
+    /**
+     * Constructs a {@code State} with the specified tasks, UI, storage, history of commands that can be
+     * undone, and indexes over the tasks.
+     * <p>
+     * The indexes are shared between states, and are synchronized with the tasks of a state when queried.
+     *
+     * @param tasks   The current task container holding user tasks.
+     * @param storage The storage system responsible for reading and writing tasks.
+     * @param ui      The user interface component for displaying information.
+     * @param history The history of commands that led to this state.
+     * @param index   The indexes over the tasks.
+     */
+    public State(TaskContainer tasks, Storage storage, Ui ui, UndoHistory history, TaskIndex index) {
         assert tasks != null : "Task container should not be null";
         assert storage != null : "Storage should not be null";
         assert ui != null : "UI should not be null";
+        assert history != null : "History should not be null";
+        assert index != null : "Index should not be null";
 
         this.tasks = tasks;
         this.ui = ui;
         this.storage = storage;
-        this.previousState = previousState;
-        this.previousCommand = previousCommand;
+        this.history = history;
+        this.index = index;
     }
 
     /**
@@ -66,20 +85,20 @@ public class State {
     }
 
     /**
-     * Returns the previous state of the application.
+     * Returns the history of commands that led to this state.
      *
-     * @return The previous {@code State}, or {@code null} if this is the initial state.
+     * @return The {@code UndoHistory} of commands that can be undone.
      */
-    public State getPreviousState() {
-        return previousState;
+    public UndoHistory getHistory() {
+        return history;
     }
 
     /**
-     * Returns the previous command that led to this state.
+     * Returns the indexes over the tasks.
      *
-     * @return The previous command, or {@code null} if this is the initial state.
+     * @return The {@code TaskIndex} used to query the tasks.
      */
-    public String getPreviousCommand() {
-        return previousCommand;
+    public TaskIndex getIndex() {
+        return index;
     }
 }
@@ -1,38 +1,60 @@
 package duke;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Utility class for handling date parsing and formatting.
  * <p>
  * Provides methods to parse a string into a {@link LocalDate} and format a {@link LocalDate} into a string.
+ * Dates are formatted whenever a dated task is displayed or saved, and parsed whenever one is loaded, while
+ * the tasks of a list tend to share a small number of dates. The most recently used dates are therefore kept in
+ * small LRU caches, and the formatter is shared instead of being created for every call.
  */
 public class Utils {
 
+    /** The pattern of dates as they are displayed, for example "Jan 1 2022". */
+    public static final String DISPLAY_PATTERN = "MMM d yyyy";
+
+    /** The maximum number of dates kept in each of the caches. */
+    static final int CACHE_SIZE = 256;
+
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern(DISPLAY_PATTERN);
+    private static final int ISO_LENGTH = "yyyy-MM-dd".length();
+
+    private static final LruCache<String, LocalDate> PARSED_DATES = new LruCache<>(CACHE_SIZE);
+    private static final LruCache<LocalDate, String> FORMATTED_DATES = new LruCache<>(CACHE_SIZE);
+
     /**
-     * Parses a string into a {@link LocalDate}. The method tries to parse the date string in multiple formats.
+     * Parses a string into a {@link LocalDate}. The method accepts dates in multiple formats.
      * <p>
-     * The first attempt is to parse it using the default {@link LocalDate} format, and if that fails, it tries the
-     * "MMM d yyyy" format (e.g., "Jan 1 2022").
+     * A date starting with a digit is parsed in the default {@link LocalDate} format (e.g., "2022-01-01"), and
+     * any other date in the "MMM d yyyy" format (e.g., "Jan 1 2022"), so that no exception is thrown and caught
+     * to try the next format.
      *
      * @param dateString The string representing the date to be parsed.
      * @return The parsed {@link LocalDate}.
-     * @throws DateTimeParseException If the date string cannot be parsed using both formats.
+     * @throws DateTimeParseException If the date string cannot be parsed in its format.
      */
     public static LocalDate parseDate(String dateString) throws DateTimeParseException {
-        LocalDate date;
-        try {
+        assert dateString != null : "Date string must not be null";
+
+        LocalDate date = PARSED_DATES.get(dateString);
+        if (date != null) {
+            return date;
+        }
+        if (isIsoDate(dateString)) {
+            date = parseIsoDate(dateString);
+        } else if (!dateString.isEmpty() && Character.isDigit(dateString.charAt(0))) {
             date = LocalDate.parse(dateString);
-        } catch (DateTimeParseException e1) {
-            try {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM d yyyy");
-                date = LocalDate.parse(dateString, formatter);
-            } catch (DateTimeParseException e2) {
-                throw e1;
-            }
+        } else {
+            date = LocalDate.parse(dateString, DISPLAY_FORMATTER);
         }
+        PARSED_DATES.put(dateString, date);
         return date;
     }
 
@@ -43,7 +65,62 @@ public class Utils {
      * @return The formatted date as a string.
      */
     public static String dateToString(LocalDate date) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM d yyyy");
-        return date.format(formatter);
+        assert date != null : "Date must not be null";
+
+        String dateString = FORMATTED_DATES.get(date);
+        if (dateString == null) {
+            dateString = date.format(DISPLAY_FORMATTER);
+            FORMATTED_DATES.put(date, dateString);
+        }
+        return dateString;
+    }
+
+    private static boolean isIsoDate(String dateString) {
+        if (dateString.length() != ISO_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < ISO_LENGTH; i++) {
+            char c = dateString.charAt(i);
+            boolean isSeparator = i == 4 || i == 7;
+            if (isSeparator ? c != '-' : c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LocalDate parseIsoDate(String dateString) throws DateTimeParseException {
+        int year = Integer.parseInt(dateString, 0, 4, 10);
+        int month = Integer.parseInt(dateString, 5, 7, 10);
+        int day = Integer.parseInt(dateString, 8, 10, 10);
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            throw new DateTimeParseException(e.getMessage(), dateString, 0, e);
+        }
+    }
+
+    /**
+     * A map that keeps only its most recently used entries, which can be used from any thread.
+     */
+    private static final class LruCache<K, V> {
+        private final Map<K, V> entries;
+
+        private LruCache(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        private synchronized V get(K key) {
+            return entries.get(key);
+        }
+
+        private synchronized void put(K key, V value) {
+            entries.put(key, value);
+        }
     }
 }
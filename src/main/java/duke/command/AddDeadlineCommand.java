@@ -24,6 +24,8 @@ public class AddDeadlineCommand implements Command {
     // Captures `deadline XXX /by YYY` where XXX and YYY are strings
     static final String COMMAND_REGEX = "deadline\\s+(.+)\\s+/by\\s+(.+)";
 
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+
     private final String taskDescription;
     private final LocalDate date;
 
@@ -57,8 +59,7 @@ public class AddDeadlineCommand implements Command {
     public static Command parse(String input) throws ParseCommandException {
         assert input != null : "input must not be null";
 
-        Pattern pattern = Pattern.compile(COMMAND_REGEX);
-        Matcher matcher = pattern.matcher(input);
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
 
         if (!matcher.matches()) {
             throw new ParseCommandException(String.format("Unable to parse [%s] to deadline command.", input));
@@ -102,6 +103,16 @@ public class AddDeadlineCommand implements Command {
         return date;
     }
 
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#DEADLINE}
+     */
+    @Override
+    public Type getType() {
+        return Type.DEADLINE;
+    }
+
     /**
      * Executes the {@code AddDeadlineCommand}.
      * Creates a new {@code Deadline} task, adds it to the task list, and displays the result to the user.
@@ -109,7 +120,7 @@ public class AddDeadlineCommand implements Command {
      * @param state The current application state containing tasks, storage, and UI.
      *
      * @return A new {@link State} object reflecting the updated task list
-     *         and retaining the previous state information.
+     *         and recording the command in the history.
      */
     @Override
     public State execute(State state) {
@@ -131,6 +142,7 @@ public class AddDeadlineCommand implements Command {
             ui.showError(e.getMessage());
         }
 
-        return new State(tasks, storage, ui, state, this.rawInput);
+        return new State(tasks, storage, ui, state.getHistory().record(this.rawInput, state.getTasks(), tasks),
+                state.getIndex());
     }
 }
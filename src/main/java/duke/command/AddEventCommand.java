@@ -23,6 +23,8 @@ public class AddEventCommand implements Command {
     // Captures `event XXX /from YYY /to ZZZ` where XXX, YYY and ZZZ are strings
     static final String COMMAND_REGEX = "event\\s+(.+)\\s+/from\\s+(.+)\\s+/to\\s+(.+)";
 
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+
     private final String taskDescription;
     private final LocalDate from;
     private final LocalDate to;
@@ -63,8 +65,7 @@ public class AddEventCommand implements Command {
     public static Command parse(String input) throws ParseCommandException {
         assert input != null : "input must not be null";
 
-        Pattern pattern = Pattern.compile(COMMAND_REGEX);
-        Matcher matcher = pattern.matcher(input);
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
 
         if (!matcher.matches()) {
             throw new ParseCommandException(String.format("Unable to parse [%s] to event command.", input));
@@ -130,6 +131,16 @@ public class AddEventCommand implements Command {
         return to;
     }
 
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#EVENT}
+     */
+    @Override
+    public Type getType() {
+        return Type.EVENT;
+    }
+
     /**
      * Executes the {@code AddEventCommand} by creating a new {@code Event}
      * task, adding it to the task list, and displaying the result to the user.
@@ -137,7 +148,7 @@ public class AddEventCommand implements Command {
      * @param state The current application state containing tasks, storage, and UI.
      *
      * @return A new {@link State} object reflecting the updated task list
-     *         and retaining the previous state information.
+     *         and recording the command in the history.
      */
     @Override
     public State execute(State state) {
@@ -159,6 +170,7 @@ public class AddEventCommand implements Command {
             ui.showError(e.getMessage());
         }
 
-        return new State(tasks, storage, ui, state, this.rawInput);
+        return new State(tasks, storage, ui, state.getHistory().record(this.rawInput, state.getTasks(), tasks),
+                state.getIndex());
     }
 }
@@ -21,6 +21,8 @@ public class AddTodoCommand implements Command {
     // Captures `todo XXX` where XXX is a string
     static final String COMMAND_REGEX = "todo\\s+(.+)";
 
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+
     private final String taskDescription;
 
     /** The raw input string from the user. */
@@ -51,8 +53,7 @@ public class AddTodoCommand implements Command {
     public static Command parse(String input) throws ParseCommandException {
         assert input != null : "input must not be null";
 
-        Pattern pattern = Pattern.compile(COMMAND_REGEX);
-        Matcher matcher = pattern.matcher(input);
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
 
         if (!matcher.matches()) {
             throw new ParseCommandException(String.format("Unable to parse [%s] to todo command.", input));
@@ -74,6 +75,16 @@ public class AddTodoCommand implements Command {
         return taskDescription;
     }
 
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#TODO}
+     */
+    @Override
+    public Type getType() {
+        return Type.TODO;
+    }
+
     /**
      * Executes the {@code AddTodoCommand}.
      * <p>
@@ -82,7 +93,7 @@ public class AddTodoCommand implements Command {
      * @param state The current application state containing tasks, storage, and UI.
      *
      * @return A new {@link State} object reflecting the updated task list
-     *         and retaining the previous state information.
+     *         and recording the command in the history.
      */
     @Override
     public State execute(State state) {
@@ -105,6 +116,7 @@ public class AddTodoCommand implements Command {
             ui.showError(e.getMessage());
         }
 
-        return new State(tasks, storage, ui, state, this.rawInput);
+        return new State(tasks, storage, ui, state.getHistory().record(this.rawInput, state.getTasks(), tasks),
+                state.getIndex());
     }
 }
@@ -0,0 +1,155 @@
+package duke.command;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import duke.State;
+import duke.exception.ParseCommandException;
+import duke.exception.TaskNotFoundException;
+import duke.exception.WriteStorageException;
+import duke.storage.Storage;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+/**
+ * Represents a command to move completed tasks out of the task list into the archive of the storage.
+ * <p>
+ * Archived tasks are no longer copied by commands or written when the task list is saved, but can still be
+ * found with {@code find /archive}. By default, every completed task is archived. A {@link TaskSelection} can be
+ * given to archive only the completed tasks among the selected ones, e.g. {@code archive /before 2024-12-01}.
+ * <p>
+ * The archive is append-only, so archiving cannot be undone, and the commands before it can no longer be undone
+ * either, since they refer to the positions of tasks in the task list before it.
+ */
+public class ArchiveCommand implements Command {
+
+    // Captures `archive` optionally followed by a selection of tasks, such as `1-50` or `/before 2024-12-01`
+    static final String COMMAND_REGEX = "archive(?:\\s+(" + TaskSelection.REGEX + "))?";
+
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+
+    private static final String DEFAULT_SELECTION = "/done";
+
+    /** The tasks to be archived, if they are completed. */
+    private final TaskSelection selection;
+
+    /**
+     * Constructs an {@code ArchiveCommand} that archives the completed tasks among the specified tasks.
+     *
+     * @param selection the tasks to archive if they are completed
+     */
+    public ArchiveCommand(TaskSelection selection) {
+        assert selection != null : "Selection must not be null";
+
+        this.selection = selection;
+    }
+
+    /**
+     * Parses the user input to create an {@code ArchiveCommand}.
+     * The input should match the pattern `archive` or `archive XXX`, where `XXX` is a selection of tasks as
+     * described in {@link TaskSelection}. Without a selection, every completed task is archived.
+     *
+     * @param input the user input string
+     * @return a new instance of {@code ArchiveCommand}
+     * @throws ParseCommandException if the input does not match the expected pattern or the selection is invalid
+     */
+    public static Command parse(String input) throws ParseCommandException {
+        assert input != null : "input must not be null";
+
+        Matcher matcher = COMMAND_PATTERN.matcher(input.trim());
+
+        if (!matcher.matches()) {
+            throw new ParseCommandException(String.format("Unable to parse [%s] to archive command.", input));
+        }
+
+        String selection = matcher.group(1) == null ? DEFAULT_SELECTION : matcher.group(1);
+        return new ArchiveCommand(TaskSelection.parse(selection));
+    }
+
+    /**
+     * Returns the tasks to be archived if they are completed.
+     *
+     * @return the selection of tasks to archive
+     */
+    public TaskSelection getSelection() {
+        return selection;
+    }
+
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#ARCHIVE}
+     */
+    @Override
+    public Type getType() {
+        return Type.ARCHIVE;
+    }
+
+    /**
+     * Executes the archive command.
+     * <p>
+     * Removes the completed tasks among the selected tasks from the task list, archives them, and then saves the
+     * task list, so that a task is never saved in neither. If no selected task is completed, or the tasks could
+     * not be archived, nothing is changed and an error message is shown.
+     *
+     * @param state The current application state containing tasks, storage, and UI.
+     * @return A new {@link State} object without the archived tasks and with an empty history, or the same
+     *         state if nothing was archived.
+     */
+    @Override
+    public State execute(State state) {
+        TaskContainer tasks = state.getTasks().copy();
+        Storage storage = state.getStorage();
+        Ui ui = state.getUi();
+
+        assert tasks != null : "Tasks must not be null";
+        assert storage != null : "Storage must not be null";
+        assert ui != null : "Ui must not be null";
+
+        List<Task> archived = new ArrayList<>();
+        try {
+            int[] indices = selection.resolve(tasks);
+            // Remove from the back so that the indices of the remaining selected tasks do not shift
+            for (int i = indices.length - 1; i >= 0; i--) {
+                if (tasks.get(indices[i]).isDone()) {
+                    archived.add(tasks.remove(indices[i]));
+                }
+            }
+        } catch (TaskNotFoundException e) {
+            ui.showError(e.getMessage());
+            return state;
+        }
+        if (archived.isEmpty()) {
+            ui.showError(String.format("No completed tasks match [%s] to be archived.", selection));
+            return state;
+        }
+        Collections.reverse(archived);
+
+        try {
+            storage.archive(archived, ui);
+        } catch (WriteStorageException e) {
+            ui.showError(e.getMessage());
+            return state;
+        }
+
+        List<String> output = new ArrayList<>();
+        output.add(String.format("Into the vault! I've archived these %d tasks:", archived.size()));
+        output.addAll(TaskSelection.listTasks(archived));
+        output.add(String.format("Now you have %d tasks in the list! Find the rest with find /archive.",
+                tasks.size()));
+        output.add("This can't be undone, so the commands before it can't be undone either.");
+        ui.showOutput(output);
+
+        try {
+            storage.save(tasks, ui);
+        } catch (WriteStorageException e) {
+            ui.showError(e.getMessage());
+        }
+
+        return new State(tasks, storage, ui, state.getHistory().clear(), state.getIndex());
+    }
+}
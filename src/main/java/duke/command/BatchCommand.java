@@ -0,0 +1,288 @@
+package duke.command;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import duke.State;
+import duke.exception.ParseCommandException;
+import duke.exception.TaskNotFoundException;
+import duke.exception.WriteStorageException;
+import duke.history.UndoHistory;
+import duke.index.TaskIndex;
+import duke.parser.Parser;
+import duke.storage.Storage;
+import duke.task.TaskChange;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+/**
+ * Represents a command that executes many commands as a single command, for importing tasks in bulk.
+ * <p>
+ * The commands are read from a file with {@code batch <file>}, or entered one per line between {@code batch}
+ * and {@code end}. Empty lines and lines starting with {@code #} are skipped. Every command is parsed before
+ * any of them is executed, and nothing is executed if any of them cannot be parsed.
+ * <p>
+ * The commands are executed one after another on a working copy of the tasks, without saving the tasks or
+ * displaying their output. Their changes are then applied to a single copy of the tasks, which is saved once
+ * and recorded as a single command in the history, so that the whole batch is undone at once. Instead of the
+ * output of every command, a summary of the changes and the errors of the commands is displayed.
+ */
+public class BatchCommand implements Command {
+
+    /** The input that starts a batch of commands entered one per line. */
+    public static final String BLOCK_START = "batch";
+
+    /** The input that ends a batch of commands entered one per line. */
+    public static final String BLOCK_END = "end";
+
+    // Captures `batch XXX` where XXX is a file path
+    static final String COMMAND_REGEX = "batch\\s+(.+)";
+
+    /** Maximum number of errors displayed, as a large batch may fail on every line. */
+    static final int MAX_ERRORS_SHOWN = 20;
+
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+
+    private static final Storage DISCARDING_STORAGE = new Storage() {
+        @Override
+        public void save(TaskContainer taskList, Ui ui) {
+        }
+
+        @Override
+        public void load(TaskContainer taskContainer, Ui ui) {
+        }
+    };
+
+    private final List<String> lines;
+
+    /** The raw input string from the user. */
+    private final String rawInput;
+
+    /**
+     * Constructs a {@code BatchCommand} with the specified lines of commands.
+     *
+     * @param lines The lines of commands, one command per line.
+     * @param rawInput The raw input recorded in the history for the whole batch.
+     */
+    public BatchCommand(List<String> lines, String rawInput) {
+        assert lines != null : "Lines must not be null";
+        assert rawInput != null : "Raw input must not be null";
+
+        this.lines = List.copyOf(lines);
+        this.rawInput = rawInput;
+    }
+
+    /**
+     * Parses the input string to create a {@code BatchCommand} for the commands in a file.
+     * <p>
+     * The input must follow the format {@code "batch <file>"}. The file is read when the command is parsed.
+     *
+     * @param input The input string to parse.
+     * @return A new {@code BatchCommand} instance with the lines of the file.
+     * @throws ParseCommandException If the input is invalid or the file cannot be read.
+     */
+    public static Command parse(String input) throws ParseCommandException {
+        assert input != null : "input must not be null";
+        assert input.startsWith("batch") : "Input must start with 'batch'";
+
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
+
+        if (!matcher.matches()) {
+            throw new ParseCommandException("Batch command requires a file.");
+        }
+
+        Path path = Paths.get(matcher.group(1).trim());
+        try {
+            return new BatchCommand(Files.readAllLines(path), input);
+        } catch (IOException e) {
+            throw new ParseCommandException(String.format(
+                    "Unable to read batch file [%s] %s", path, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the lines of commands in the batch.
+     *
+     * @return The lines of commands, including any empty lines and comments.
+     */
+    public List<String> getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#BATCH}
+     */
+    @Override
+    public Type getType() {
+        return Type.BATCH;
+    }
+
+    /**
+     * Executes the commands in the batch, saving their changes and recording them in the history once.
+     * <p>
+     * If any command cannot be parsed, the parse errors are displayed and no command is executed. A command that
+     * fails when it is executed does not stop the batch, like it would not stop a session, but its error is
+     * included in the summary.
+     *
+     * @param state The current application state containing tasks, storage, and UI.
+     *
+     * @return A new {@link State} object with the changes made by the batch, recording the batch in the
+     *         history, or the same state if no command was executed.
+     */
+    @Override
+    public State execute(State state) {
+        TaskContainer tasks = state.getTasks();
+        Storage storage = state.getStorage();
+        Ui ui = state.getUi();
+
+        assert tasks != null : "Tasks must not be null";
+        assert storage != null : "Storage must not be null";
+        assert ui != null : "Ui must not be null";
+
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                Command command = Parser.parseCommand(line);
+                if (command instanceof BatchCommand || command instanceof ByeCommand
+                        || command instanceof UndoCommand || command instanceof ArchiveCommand) {
+                    throw new ParseCommandException(String.format(
+                            "Command [%s] cannot be used in a batch.", line));
+                }
+                commands.add(command);
+                lineNumbers.add(i + 1);
+            } catch (ParseCommandException e) {
+                errors.add(String.format("Line %d: %s", i + 1, e.getMessage()));
+            }
+        }
+        if (!errors.isEmpty()) {
+            errors.add(0, "No commands in the batch were run, as some of them could not be parsed.");
+            ui.showError(limitErrors(errors));
+            return state;
+        }
+
+        BatchUi batchUi = new BatchUi();
+        State working = new State(tasks, DISCARDING_STORAGE, batchUi, new UndoHistory(), new TaskIndex());
+        List<TaskChange> changes = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            batchUi.lineNumber = lineNumbers.get(i);
+            TaskContainer previous = working.getTasks();
+            working = commands.get(i).execute(working);
+            if (working.getTasks() != previous) {
+                assert working.getTasks().getBaseVersion() == previous.getVersion()
+                        : "Commands in a batch must copy the tasks they change";
+                changes.addAll(working.getTasks().getChanges());
+            }
+        }
+
+        TaskContainer newTasks = tasks.copy();
+        try {
+            for (TaskChange change : changes) {
+                change.apply(newTasks);
+            }
+        } catch (TaskNotFoundException e) {
+            // The changes were made on the same tasks, so they can always be applied again
+            ui.showError(e.getMessage());
+            return state;
+        }
+
+        ui.showOutput(summarize(commands.size(), changes, newTasks.size()));
+        if (!batchUi.errors.isEmpty()) {
+            ui.showError(limitErrors(batchUi.errors));
+        }
+
+        if (changes.isEmpty()) {
+            return state;
+        }
+
+        try {
+            storage.save(newTasks, ui);
+        } catch (WriteStorageException e) {
+            ui.showError(e.getMessage());
+        }
+
+        return new State(newTasks, storage, ui, state.getHistory().record(rawInput, tasks, newTasks),
+                state.getIndex());
+    }
+
+    private static List<String> summarize(int commandCount, List<TaskChange> changes, int taskCount) {
+        int added = 0;
+        int deleted = 0;
+        int updated = 0;
+        for (TaskChange change : changes) {
+            if (change instanceof TaskChange.Insert) {
+                added++;
+            } else if (change instanceof TaskChange.Remove) {
+                deleted++;
+            } else {
+                updated++;
+            }
+        }
+        return List.of(
+                String.format("Phew! I ran %d commands from the batch:", commandCount),
+                String.format("%d tasks added, %d deleted and %d updated.", added, deleted, updated),
+                String.format("Now you have %d tasks in the list!", taskCount));
+    }
+
+    private static List<String> limitErrors(List<String> errors) {
+        if (errors.size() <= MAX_ERRORS_SHOWN) {
+            return errors;
+        }
+        List<String> limited = new ArrayList<>(errors.subList(0, MAX_ERRORS_SHOWN));
+        limited.add(String.format("... and %d more errors.", errors.size() - MAX_ERRORS_SHOWN));
+        return limited;
+    }
+
+    /**
+     * A user interface for the commands in a batch, which discards their output and collects their errors.
+     */
+    private static class BatchUi implements Ui {
+        private final List<String> errors = new ArrayList<>();
+        private int lineNumber;
+
+        @Override
+        public void showOutput(List<String> lines) {
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+        }
+
+        @Override
+        public void streamOutput(Iterable<String> lines) {
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+            for (String line : lines) {
+                errors.add(String.format("Line %d: %s", lineNumber, line));
+            }
+        }
+
+        @Override
+        public void showError(String... lines) {
+            showError(List.of(lines));
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package duke.command;
 
 import duke.State;
+import duke.exception.WriteStorageException;
 import duke.ui.Ui;
 
 /**
@@ -25,10 +26,20 @@ public class ByeCommand implements Command {
         return new ByeCommand();
     }
 
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#BYE}
+     */
+    @Override
+    public Type getType() {
+        return Type.BYE;
+    }
+
     /**
      * Executes the {@code ByeCommand} by closing the user interface.
      * <p>
-     * This command does not modify the task list or storage.
+     * This command does not modify the task list, but waits for all saved tasks to be written to storage.
      *
      * @param state The current application state containing tasks, storage, and UI.
      *
@@ -39,6 +50,12 @@ public class ByeCommand implements Command {
         Ui ui = state.getUi();
         assert ui != null : "Ui must not be null";
 
+        try {
+            state.getStorage().flush();
+        } catch (WriteStorageException e) {
+            ui.showError(e.getMessage());
+        }
+
         ui.close();
         return state;
     }
@@ -13,6 +13,12 @@ public interface Command {
      * Enum representing the various types of commands supported by the application.
      */
     public enum Type {
+        /** Command to move completed tasks into the archive. */
+        ARCHIVE,
+
+        /** Command to run many commands as a single command. */
+        BATCH,
+
         /** Command to exit the application. */
         BYE,
 
@@ -22,6 +28,9 @@ public interface Command {
         /** Command to delete a task. */
         DELETE,
 
+        /** Command to find deadlines and events within a range of dates. */
+        DUE,
+
         /** Command to add an event task. */
         EVENT,
 
@@ -34,6 +43,12 @@ public interface Command {
         /** Command to mark a task as completed. */
         MARK,
 
+        /** Command to find deadlines and events on a date. */
+        ON,
+
+        /** Command to show the metrics of the commands executed so far. */
+        STATS,
+
         /** Command to add a todo task. */
         TODO,
 
@@ -54,4 +69,16 @@ public interface Command {
      * @return The updated {@code State} after executing the command.
      */
     public State execute(State state);
+
+    /**
+     * Returns the type of the command, under which its execution is counted in the metrics.
+     * <p>
+     * By default, a command has no type, such as one composed on the fly from other commands, and its execution
+     * is not counted.
+     *
+     * @return The type of the command, or {@code null} if it has none.
+     */
+    public default Type getType() {
+        return null;
+    }
 }
@@ -1,5 +1,8 @@
 package duke.command;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,17 +16,20 @@ import duke.task.TaskContainer;
 import duke.ui.Ui;
 
 /**
- * Represents a command to delete a task from the task list.
+ * Represents a command to delete tasks from the task list.
  * <p>
- * The user must specify a valid positive integer index of the task to be deleted.
+ * The user must specify the tasks to be deleted as a {@link TaskSelection}: a positive integer index, a task ID
+ * prefixed with {@code #}, a list or range of them, or a filter. All the selected tasks are deleted at once.
  */
 public class DeleteCommand implements Command {
 
-    // Captures `delete XXX` where XXX is a positive integer
-    static final String COMMAND_REGEX = "delete\\s+(\\d+)";
+    // Captures `delete XXX` where XXX is a selection of tasks, such as `3`, `1, 4-10, #12` or `/done`
+    static final String COMMAND_REGEX = "delete\\s+(" + TaskSelection.REGEX + ")";
 
-    /** The index of the task to be deleted (1-based). */
-    private final int taskIndex;
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+
+    /** The tasks to be deleted. */
+    private final TaskSelection selection;
 
     /** The raw input string from the user. */
     private final String rawInput;
@@ -35,13 +41,34 @@ public class DeleteCommand implements Command {
      * @param rawInput the raw input string from the user
      */
     public DeleteCommand(int taskIndex, String rawInput) {
-        this.taskIndex = taskIndex;
+        this(TaskReference.ofIndex(taskIndex), rawInput);
+    }
+
+    /**
+     * Constructs a {@code DeleteCommand} for the specified task.
+     *
+     * @param task the task to delete
+     * @param rawInput the raw input string from the user
+     */
+    public DeleteCommand(TaskReference task, String rawInput) {
+        this(TaskSelection.of(task), rawInput);
+    }
+
+    /**
+     * Constructs a {@code DeleteCommand} for the specified tasks.
+     *
+     * @param selection the tasks to delete
+     * @param rawInput the raw input string from the user
+     */
+    public DeleteCommand(TaskSelection selection, String rawInput) {
+        this.selection = selection;
         this.rawInput = rawInput;
     }
 
     /**
      * Parses the user input to create a {@code DeleteCommand}.
-     * The input should match the pattern `delete XXX`, where `XXX` is a positive integer.
+     * The input should match the pattern `delete XXX`, where `XXX` is a selection of tasks as described in
+     * {@link TaskSelection}.
      *
      * @param input the user input string
      * @return a new instance of {@code DeleteCommand}
@@ -50,45 +77,54 @@ public class DeleteCommand implements Command {
     public static Command parse(String input) throws ParseCommandException {
         assert input != null : "input must not be null";
 
-        Pattern pattern = Pattern.compile(COMMAND_REGEX);
-        Matcher matcher = pattern.matcher(input);
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
 
         if (!matcher.matches()) {
             throw new ParseCommandException("Delete command requires an integer index.");
         }
 
-        String indexString = matcher.group(1);
-        try {
-            int index = Integer.parseInt(indexString);
-            if (index < 1) {
-                throw new ParseCommandException(String.format(
-                        "Delete index [%d] should be a positive integer", index));
-            }
-            return new DeleteCommand(index, input);
-        } catch (NumberFormatException e) {
-            throw new ParseCommandException(String.format("Unable to parse [%s] as integer.", indexString));
-        }
-
+        return new DeleteCommand(TaskSelection.parse(matcher.group(1)), input);
     }
 
     /**
-     * Returns the index of the task.
+     * Returns the index of the task, if a single task is deleted by its index.
      *
-     * @return the task index
+     * @return the 1-based task index
      */
     public int getTaskIndex() {
-        return taskIndex;
+        assert selection.isSingle() : "A single task must be selected";
+
+        return selection.getTask().getIndex();
+    }
+
+    /**
+     * Returns the tasks to be deleted.
+     *
+     * @return the selection of tasks to delete
+     */
+    public TaskSelection getSelection() {
+        return selection;
+    }
+
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#DELETE}
+     */
+    @Override
+    public Type getType() {
+        return Type.DELETE;
     }
 
     /**
      * Executes the delete command.
      * <p>
-     * Removes the task from the task list, updates storage, and displays the relevant output to the user.
-     * If the specified task does not exist, an error message is shown.
+     * Removes the selected tasks from the task list, updates storage, and displays the relevant output to the user.
+     * If any of the specified tasks does not exist, none are removed and an error message is shown.
      *
      * @param state The current application state containing tasks, storage, and UI.
      * @return A new {@link State} object reflecting the updated task list
-     *         and retaining the previous state information.
+     *         and recording the command in the history.
      */
     @Override
     public State execute(State state) {
@@ -102,12 +138,26 @@ public class DeleteCommand implements Command {
 
         try {
             int previousSize = tasks.size();
-            Task task = tasks.remove(taskIndex - 1);
+            int[] indices = selection.resolve(tasks);
+            List<Task> removed = new ArrayList<>(indices.length);
+            // Remove from the back so that the indices of the remaining selected tasks do not shift
+            for (int i = indices.length - 1; i >= 0; i--) {
+                removed.add(tasks.remove(indices[i]));
+            }
+            Collections.reverse(removed);
             int currentSize = tasks.size();
-            assert currentSize == previousSize - 1 : "Task should have been removed from the list.";
-
-            ui.showOutput("POOF! I’ve removed this task:", task.toString(),
-                    "Now you have " + tasks.size() + " tasks in the list! Less work for you!");
+            assert currentSize == previousSize - indices.length : "Tasks should have been removed from the list.";
+
+            String summary = "Now you have " + tasks.size() + " tasks in the list! Less work for you!";
+            if (selection.isSingle()) {
+                ui.showOutput("POOF! I’ve removed this task:", removed.get(0).toString(), summary);
+            } else {
+                List<String> output = new ArrayList<>();
+                output.add(String.format("POOF! I’ve removed these %d tasks:", removed.size()));
+                output.addAll(TaskSelection.listTasks(removed));
+                output.add(summary);
+                ui.showOutput(output);
+            }
         } catch (TaskNotFoundException e) {
             ui.showError(e.getMessage());
         }
@@ -118,6 +168,7 @@ public class DeleteCommand implements Command {
             ui.showError(e.getMessage());
         }
 
-        return new State(tasks, storage, ui, state, this.rawInput);
+        return new State(tasks, storage, ui, state.getHistory().record(this.rawInput, state.getTasks(), tasks),
+                state.getIndex());
     }
 }
@@ -0,0 +1,186 @@
+package duke.command;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import duke.State;
+import duke.Utils;
+import duke.exception.ParseCommandException;
+import duke.index.DateIndex;
+import duke.index.TaskIndex;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+/**
+ * Represents a command that finds the deadlines due and events taking place within a range of dates.
+ * <p>
+ * The range is given either as {@code due /from <date> /to <date>}, as {@code due /to <date>} for everything
+ * up to a date, or as {@code on <date>} for a single date. The tasks are looked up in the date index and
+ * displayed from the earliest to the latest date.
+ */
+public class DueCommand implements Command {
+
+    // Captures `due /from XXX /to YYY` or `due /to YYY` where XXX and YYY are strings
+    static final String COMMAND_REGEX = "due(?:\\s+/from\\s+(.+))?\\s+/to\\s+(.+)";
+
+    // Captures `on XXX` where XXX is a string
+    static final String ON_COMMAND_REGEX = "on\\s+(.+)";
+
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+    private static final Pattern ON_COMMAND_PATTERN = Pattern.compile(ON_COMMAND_REGEX);
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Constructs a {@code DueCommand} for the tasks taking place between the specified dates.
+     *
+     * @param from The first date of the range, inclusive.
+     * @param to The last date of the range, inclusive.
+     */
+    public DueCommand(LocalDate from, LocalDate to) {
+        assert from != null : "From date must not be null";
+        assert to != null : "To date must not be null";
+
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Parses the input string to create a {@code DueCommand} for a range of dates.
+     * <p>
+     * The input must follow the format {@code "due /from <start_date> /to <end_date>"}, where the
+     * {@code /from} argument may be left out to include every date up to the end date.
+     *
+     * @param input The input string to parse.
+     * @return A new {@code DueCommand} instance for the parsed range.
+     * @throws ParseCommandException If the input is invalid or cannot be parsed.
+     */
+    public static Command parse(String input) throws ParseCommandException {
+        assert input != null : "input must not be null";
+        assert input.startsWith("due") : "Input must start with 'due'";
+
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
+
+        if (!matcher.matches()) {
+            throw new ParseCommandException(String.format("Unable to parse [%s] to due command.", input));
+        }
+
+        LocalDate from = matcher.group(1) == null ? LocalDate.MIN : parseDate(matcher.group(1).trim());
+        LocalDate to = parseDate(matcher.group(2).trim());
+        if (from.isAfter(to)) {
+            throw new ParseCommandException(String.format(
+                    "Due command requires [/from] date [%s] to be before [/to] date [%s].",
+                    Utils.dateToString(from), Utils.dateToString(to)));
+        }
+        return new DueCommand(from, to);
+    }
+
+    /**
+     * Parses the input string to create a {@code DueCommand} for a single date.
+     * <p>
+     * The input must follow the format {@code "on <date>"}.
+     *
+     * @param input The input string to parse.
+     * @return A new {@code DueCommand} instance for the parsed date.
+     * @throws ParseCommandException If the input is invalid or cannot be parsed.
+     */
+    public static Command parseOn(String input) throws ParseCommandException {
+        assert input != null : "input must not be null";
+        assert input.startsWith("on") : "Input must start with 'on'";
+
+        Matcher matcher = ON_COMMAND_PATTERN.matcher(input);
+
+        if (!matcher.matches()) {
+            throw new ParseCommandException(String.format("Unable to parse [%s] to on command.", input));
+        }
+
+        LocalDate date = parseDate(matcher.group(1).trim());
+        return new DueCommand(date, date);
+    }
+
+    /**
+     * Returns the first date of the range.
+     *
+     * @return The first date, inclusive.
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the last date of the range.
+     *
+     * @return The last date, inclusive.
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the type of the command, which is {@link Command.Type#ON} if it finds the tasks on a single date.
+     *
+     * @return {@link Command.Type#ON} or {@link Command.Type#DUE}
+     */
+    @Override
+    public Type getType() {
+        return from.equals(to) ? Type.ON : Type.DUE;
+    }
+
+    /**
+     * Executes the due command, displaying the deadlines and events that take up any date in the range.
+     * <p>
+     * Tasks are displayed by their due or start date, and in the order of the task container for the same date.
+     *
+     * @param state The current application state containing tasks, storage, and UI.
+     *
+     * @return The same {@link State} object, as no modifications are made.
+     */
+    @Override
+    public State execute(State state) {
+        TaskContainer tasks = state.getTasks();
+        Ui ui = state.getUi();
+
+        assert tasks != null : "Tasks must not be null";
+        assert ui != null : "Ui must not be null";
+
+        Set<Task> matches = state.getIndex().findOverlapping(tasks, from, to);
+        // The sort is stable, so tasks due on the same date stay in the order of the container
+        List<Task> dueTasks = TaskIndex.inContainerOrder(tasks, matches);
+        dueTasks.sort(Comparator.comparing(DateIndex::getStartDate));
+
+        ArrayList<String> output = new ArrayList<>();
+        if (from.equals(to)) {
+            output.add(String.format("Here's what's happening on %s:", Utils.dateToString(to)));
+        } else if (from.equals(LocalDate.MIN)) {
+            output.add(String.format("Here's what's happening up to %s:", Utils.dateToString(to)));
+        } else {
+            output.add(String.format("Here's what's happening from %s to %s:",
+                    Utils.dateToString(from), Utils.dateToString(to)));
+        }
+        for (int i = 0; i < dueTasks.size(); i++) {
+            Task task = dueTasks.get(i);
+            output.add(String.format("%d. %s (#%d)", i + 1, task, task.getId()));
+        }
+        output.add("Better not miss these!");
+
+        ui.showOutput(output);
+
+        return state;
+    }
+
+    private static LocalDate parseDate(String dateString) throws ParseCommandException {
+        try {
+            return Utils.parseDate(dateString);
+        } catch (DateTimeParseException e) {
+            throw new ParseCommandException(String.format("Unable to parse [%s] to date.", dateString));
+        }
+    }
+}
@@ -1,31 +1,50 @@
 package duke.command;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.StreamSupport;
 
 import duke.State;
 import duke.exception.ParseCommandException;
+import duke.exception.ReadStorageException;
+import duke.index.TaskIndex;
 import duke.task.Task;
 import duke.task.TaskContainer;
 import duke.ui.Ui;
 
 /**
- * Represents a command that finds tasks with a description matching a given keyword.
+ * Represents a command that finds tasks with a description matching one or more given keywords.
  * <p>
- * This command parses the user input, searches for the keyword in the descriptions of all tasks in
- * the {@code TaskContainer}, and displays the tasks that match the keyword.
+ * This command parses the user input, looks up the keywords in the text index over the descriptions of
+ * the tasks in the {@code TaskContainer}, and displays the tasks that contain all the keywords.
+ * Multiple keywords are separated by {@code /and}, e.g. {@code find book /and return}.
+ * <p>
+ * With {@code /archive} before the keywords, e.g. {@code find /archive book}, the archived tasks are searched
+ * instead, through the text index of the archive of the storage.
  */
 public class FindCommand implements Command {
 
     // Captures `find XXX` where XXX is a string
     static final String COMMAND_REGEX = "find\\s+(.+)";
 
-    private final String keyword;
+    // Separates the keywords in XXX
+    static final String AND_REGEX = "\\s+/and\\s+";
+
+    // Matches the flag at the start of XXX to search the archived tasks instead
+    static final String ARCHIVE_REGEX = "/archive(?:\\s+|$)";
+
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+    private static final Pattern AND_PATTERN = Pattern.compile(AND_REGEX);
+    private static final Pattern ARCHIVE_PATTERN = Pattern.compile(ARCHIVE_REGEX);
+
+    private final List<String> keywords;
+
+    /** Whether the archived tasks are searched instead of the tasks in the task list. */
+    private final boolean isArchived;
 
     /**
      * Constructs a {@code FindCommand} with the specified keyword.
@@ -33,45 +52,95 @@ public class FindCommand implements Command {
      * @param keyword The keyword to search for in task descriptions.
      */
     public FindCommand(String keyword) {
-        assert keyword != null : "Keyword must not be null";
+        this(List.of(keyword));
+    }
+
+    /**
+     * Constructs a {@code FindCommand} that finds tasks containing all the specified keywords.
+     *
+     * @param keywords The keywords to search for in task descriptions.
+     */
+    public FindCommand(List<String> keywords) {
+        this(keywords, false);
+    }
+
+    /**
+     * Constructs a {@code FindCommand} that finds tasks containing all the specified keywords, either in the
+     * task list or in the archive.
+     *
+     * @param keywords The keywords to search for in task descriptions.
+     * @param isArchived Whether the archived tasks are searched instead of the tasks in the task list.
+     */
+    public FindCommand(List<String> keywords, boolean isArchived) {
+        assert keywords != null && !keywords.isEmpty() : "Keywords must not be empty";
 
-        this.keyword = keyword;
+        this.keywords = List.copyOf(keywords);
+        this.isArchived = isArchived;
     }
 
     /**
      * Parses the input string to create a {@code FindCommand} instance.
      * <p>
-     * This method extracts the keyword from the input string and creates a {@code FindCommand}
-     * if the input is in the correct format. If the input does not match the expected format,
+     * This method extracts the keywords, and whether the archive is searched, from the input string and creates
+     * a {@code FindCommand} if the input is in the correct format. If the input does not match the expected format,
      * a {@code ParseCommandException} is thrown.
      *
      * @param input The input string to parse.
-     * @return A new {@code FindCommand} instance with the parsed keyword.
+     * @return A new {@code FindCommand} instance with the parsed keywords.
      * @throws ParseCommandException If the input is invalid or cannot be parsed.
      */
     public static Command parse(String input) throws ParseCommandException {
         assert input != null : "input must not be null";
         assert input.startsWith("find") : "Input must start with 'find'";
 
-        Pattern pattern = Pattern.compile(COMMAND_REGEX);
-        Matcher matcher = pattern.matcher(input);
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
 
         if (!matcher.matches()) {
             throw new ParseCommandException(String.format("Unable to parse [%s] to find command.", input));
         }
 
-        String keyword = matcher.group(1).trim();
-        if (keyword.isEmpty()) {
-            throw new ParseCommandException("Find command requires a keyword.");
+        String query = matcher.group(1).trim();
+        Matcher archiveMatcher = ARCHIVE_PATTERN.matcher(query);
+        boolean isArchived = archiveMatcher.lookingAt();
+        if (isArchived) {
+            query = query.substring(archiveMatcher.end());
         }
-        return new FindCommand(keyword);
+
+        List<String> keywords = Arrays.asList(AND_PATTERN.split(query));
+        for (String keyword : keywords) {
+            if (keyword.trim().isEmpty()) {
+                throw new ParseCommandException("Find command requires a keyword.");
+            }
+        }
+        return new FindCommand(keywords.stream().map(String::trim).collect(Collectors.toList()), isArchived);
+    }
+
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#FIND}
+     */
+    @Override
+    public Type getType() {
+        return Type.FIND;
     }
 
     /**
-     * Executes the find command, searching for tasks that contain the keyword in their descriptions.
+     * Returns whether the archived tasks are searched instead of the tasks in the task list.
+     *
+     * @return {@code true} if the command searches the archive.
+     */
+    public boolean isArchived() {
+        return isArchived;
+    }
+
+    /**
+     * Executes the find command, searching for tasks that contain the keywords in their descriptions.
      * <p>
-     * This method iterates through all tasks in the provided {@code TaskContainer}, filters the tasks
-     * that contain the keyword in their description, and displays them using the provided {@code Ui}.
+     * This method looks up the matching tasks in the text index, which is brought up to date with the
+     * provided {@code TaskContainer} first, and displays them in the order of the container using the
+     * provided {@code Ui}. Archived tasks are looked up in the archive of the storage instead, and displayed in
+     * the order they were archived.
      *
      * @param state The current application state containing tasks, storage, and UI.
      *
@@ -79,21 +148,33 @@ public class FindCommand implements Command {
      */
     @Override
     public State execute(State state) {
-        TaskContainer tasks = state.getTasks().copy();
+        TaskContainer tasks = state.getTasks();
         Ui ui = state.getUi();
 
         assert tasks != null : "Tasks must not be null";
         assert ui != null : "Ui must not be null";
 
-        List<Task> filteredTasks = StreamSupport.stream(tasks.spliterator(), false).filter(
-            task -> task.getDescription().contains(keyword)
-        ).collect(Collectors.toList());
+        List<Task> filteredTasks;
+        if (isArchived) {
+            try {
+                filteredTasks = state.getStorage().findArchived(keywords, ui);
+            } catch (ReadStorageException e) {
+                ui.showError(e.getMessage());
+                return state;
+            }
+        } else {
+            filteredTasks = findTasks(state, tasks);
+        }
 
         ArrayList<String> output = new ArrayList<>();
-        output.add(String.format("Here you go! Tasks matching \"%s\":", keyword));
+        output.add(String.format("Here you go! %s matching \"%s\":", isArchived ? "Archived tasks" : "Tasks",
+                String.join("\" and \"", keywords)));
 
         output.addAll(IntStream.range(0, filteredTasks.size())
-                .mapToObj(i -> String.format("%d. %s", i + 1, filteredTasks.get(i).toString()))
+                .mapToObj(i -> {
+                    Task task = filteredTasks.get(i);
+                    return String.format("%d. %s (#%d)", i + 1, task, task.getId());
+                })
                 .collect(Collectors.toList()));
         output.add("Now go finish it!");
 
@@ -101,4 +182,8 @@ public class FindCommand implements Command {
 
         return state;
     }
+
+    private List<Task> findTasks(State state, TaskContainer tasks) {
+        return TaskIndex.inContainerOrder(tasks, state.getIndex().findText(tasks, keywords));
+    }
 }
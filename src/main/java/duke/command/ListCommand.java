@@ -1,41 +1,92 @@
 package duke.command;
 
-import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import duke.State;
+import duke.exception.ParseCommandException;
 import duke.exception.TaskNotFoundException;
 import duke.task.TaskContainer;
 import duke.ui.Ui;
 
 /**
- * Represents a command to list all the tasks in the task container.
+ * Represents a command to list the tasks in the task container.
  * <p>
- * The command retrieves all tasks and formats them for display to the user.
+ * The command lists all tasks, or a single page of them with {@code list /page <page> /size <size>}. The lines
+ * are formatted only as the user interface displays them, so listing many tasks does not build all of their
+ * lines in memory at once.
  */
 public class ListCommand implements Command {
 
+    // Captures `list`, optionally followed by `/page XXX` and `/size YYY` where XXX and YYY are positive integers
+    static final String COMMAND_REGEX = "list(?:\\s+/page\\s+(\\d+))?(?:\\s+/size\\s+(\\d+))?";
+
+    /** The number of tasks on a page if only the page is given. */
+    static final int DEFAULT_PAGE_SIZE = 50;
+
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+
+    /** The page size of a command that lists all tasks. */
+    private static final int UNPAGED = 0;
+
+    /** The 1-based page to list. */
+    private final int page;
+
+    /** The number of tasks on a page, or {@link #UNPAGED} to list all tasks. */
+    private final int pageSize;
+
+    private ListCommand(int page, int pageSize) {
+        this.page = page;
+        this.pageSize = pageSize;
+    }
+
     /**
      * Parses the user input to create a new {@code ListCommand}.
      * <p>
-     * Since the list command does not require additional parameters, it directly returns a new {@code ListCommand}.
+     * The input is either {@code list} to list all tasks, or {@code list /page <page> /size <size>}, where either
+     * argument may be left out to list the first page or pages of {@value #DEFAULT_PAGE_SIZE} tasks.
      *
      * @param input the user input string
      *
      * @return a new instance of {@code ListCommand}
+     * @throws ParseCommandException if the input is invalid or the page or size is not a positive integer
      */
-    public static Command parse(String input) {
+    public static Command parse(String input) throws ParseCommandException {
         assert input != null : "input must not be null";
         assert input.startsWith("list") : "Input must start with 'list'";
 
-        return new ListCommand();
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
+
+        if (!matcher.matches()) {
+            throw new ParseCommandException(String.format("Unable to parse [%s] to list command.", input));
+        }
+        if (matcher.group(1) == null && matcher.group(2) == null) {
+            return new ListCommand(1, UNPAGED);
+        }
+
+        int page = matcher.group(1) == null ? 1 : parsePositive(matcher.group(1), "Page");
+        int pageSize = matcher.group(2) == null ? DEFAULT_PAGE_SIZE : parsePositive(matcher.group(2), "Page size");
+        return new ListCommand(page, pageSize);
     }
 
     /**
-     * Executes the list command by retrieving all tasks in the task container and displaying them to the user.
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#LIST}
+     */
+    @Override
+    public Type getType() {
+        return Type.LIST;
+    }
+
+    /**
+     * Executes the list command by displaying the tasks on the page to the user.
      * <p>
-     * The tasks are formatted as a numbered list, and the output is shown via the user interface.
+     * The tasks are formatted as a numbered list, and the output is streamed to the user interface, which
+     * formats each line as it displays it. The tasks of the state are never modified, so they are listed
+     * without being copied.
      *
      * @param state The current application state containing tasks, storage, and UI.
      *
@@ -43,25 +94,57 @@ public class ListCommand implements Command {
      */
     @Override
     public State execute(State state) {
-        TaskContainer tasks = state.getTasks().copy();
+        TaskContainer tasks = state.getTasks();
         Ui ui = state.getUi();
 
         assert tasks != null : "Tasks must not be null";
         assert ui != null : "Ui must not be null";
 
-        ArrayList<String> output = new ArrayList<>();
-        output.add("Here's what's on your plate:");
-        output.addAll(IntStream.range(0, tasks.size())
+        if (pageSize == UNPAGED) {
+            showTasks(ui, tasks, "Here's what's on your plate:", 0, tasks.size());
+            return state;
+        }
+
+        int pageCount = Math.max(1, (tasks.size() + pageSize - 1) / pageSize);
+        if (page > pageCount) {
+            ui.showError(String.format("Page [%d] out of range [%d]", page, pageCount));
+            return state;
+        }
+        int first = (page - 1) * pageSize;
+        showTasks(ui, tasks, String.format("Here's what's on your plate (page %d of %d):", page, pageCount),
+                first, Math.min(first + pageSize, tasks.size()));
+
+        return state;
+    }
+
+    private static void showTasks(Ui ui, TaskContainer tasks, String header, int first, int last) {
+        ui.streamOutput(() -> Stream.concat(
+                Stream.concat(Stream.of(header), formatTasks(tasks, first, last)),
+                Stream.of("Let's get these done so I can poof away!")).iterator());
+    }
+
+    private static Stream<String> formatTasks(TaskContainer tasks, int first, int last) {
+        return IntStream.range(first, last)
                 .mapToObj(i -> {
                     try {
                         return String.format("%d. %s", i + 1, tasks.get(i).toString());
                     } catch (TaskNotFoundException e) {
                         return String.format("%d. [Error: %s]", i + 1, e.getMessage());
                     }
-                }).collect(Collectors.toList()));
-        output.add("Let's get these done so I can poof away!");
-        ui.showOutput(output);
+                });
+    }
 
-        return state;
+    private static int parsePositive(String numberString, String name) throws ParseCommandException {
+        try {
+            int number = Integer.parseInt(numberString);
+            if (number <= 0) {
+                throw new ParseCommandException(String.format(
+                        "Invalid %s [%d]. %s should be a positive integer.", name.toLowerCase(), number, name));
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new ParseCommandException(String.format(
+                    "Unable to parse [%s] as integer. %s should be a positive integer.", numberString, name));
+        }
     }
 }
@@ -1,5 +1,7 @@
 package duke.command;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,75 +15,75 @@ import duke.task.TaskContainer;
 import duke.ui.Ui;
 
 /**
- * Represents a command to mark a task as done.
+ * Represents a command to mark tasks as done.
  * <p>
- * The command takes the task index, retrieves the task from the container, and marks it as done.
+ * The command takes a {@link TaskSelection}, retrieves the selected tasks from the container, and marks them all
+ * as done on a single copy of the container.
  */
 public class MarkCommand implements Command {
 
-    // Captures `mark XXX` where XXX is a positive integer
-    static final String COMMAND_REGEX = "mark\\s+(\\d+)";
+    // Captures `mark XXX` where XXX is a selection of tasks, such as `3`, `1, 4-10, #12` or `/done`
+    static final String COMMAND_REGEX = "mark\\s+(" + TaskSelection.REGEX + ")";
 
-    private final int taskIndex;
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+
+    private final TaskSelection selection;
 
     /** The raw input string from the user. */
     private final String rawInput;
 
     /**
-     * Constructs a {@code MarkCommand} with the specified task index.
+     * Constructs a {@code MarkCommand} for the specified tasks.
      *
-     * @param taskIndex the index of the task to be marked as done
+     * @param selection the tasks to be marked as done
      */
-    private MarkCommand(int taskIndex, String rawInput) {
-        this.taskIndex = taskIndex;
+    private MarkCommand(TaskSelection selection, String rawInput) {
+        this.selection = selection;
         this.rawInput = rawInput;
     }
 
     /**
      * Parses the user input to create a new {@code MarkCommand}.
      * <p>
-     * The input should contain the `mark` keyword followed by a positive integer index,
-     * representing the task to mark as done.
+     * The input should contain the `mark` keyword followed by a selection of tasks as described in
+     * {@link TaskSelection}, representing the tasks to mark as done.
      *
      * @param input the user input string
-     * @return a new instance of {@code MarkCommand} with the task index
-     * @throws ParseCommandException if the input is invalid or the task index is not a positive integer
+     * @return a new instance of {@code MarkCommand} with the selected tasks
+     * @throws ParseCommandException if the input is invalid or a task index is not a positive integer
      */
     public static Command parse(String input) throws ParseCommandException {
         assert input != null : "input must not be null";
 
-        Pattern pattern = Pattern.compile(COMMAND_REGEX);
-        Matcher matcher = pattern.matcher(input);
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
 
         if (!matcher.matches()) {
             throw new ParseCommandException("Mark command requires an integer index.");
         }
 
-        String indexString = matcher.group(1);
-        try {
-            int index = Integer.parseInt(indexString);
-            if (index <= 0) {
-                throw new ParseCommandException(String.format(
-                        "Invalid index [%d]. Task index should be a positive integer.", index));
-            }
-            return new MarkCommand(index, input);
-        } catch (NumberFormatException e) {
-            throw new ParseCommandException(String.format(
-                    "Unable to parse [%s] as integer. Task index should be a positive integer.",
-                    indexString));
-        }
+        return new MarkCommand(TaskSelection.parse(matcher.group(1)), input);
+    }
+
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#MARK}
+     */
+    @Override
+    public Type getType() {
+        return Type.MARK;
     }
 
     /**
      * Executes the mark command.
      * <p>
-     * Retrieves the task from the task container with the specified index and mark it as done.
-     * The task is then saved, and appropriate messages are shown via the user interface.
+     * Copies each selected task, marks the copy as done and stores it back in the task container. The tasks
+     * are then saved once, and appropriate messages are shown via the user interface.
      *
      * @param state The current application state containing tasks, storage, and UI.
      *
      * @return A new {@link State} object reflecting the updated task list
-     *         and retaining the previous state information.
+     *         and recording the command in the history.
      */
     @Override
     public State execute(State state) {
@@ -93,9 +95,24 @@ public class MarkCommand implements Command {
         assert ui != null : "Ui must not be null";
 
         try {
-            Task task = tasks.get(taskIndex - 1);
-            task.markAsDone();
-            ui.showOutput("YESSS! I've marked this task as done:", task.toString(), "Good job! Now do the rest!");
+            int[] indices = selection.resolve(tasks);
+            List<Task> marked = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                Task task = tasks.get(index).copy();
+                task.markAsDone();
+                tasks.set(index, task);
+                marked.add(task);
+            }
+            if (selection.isSingle()) {
+                ui.showOutput("YESSS! I've marked this task as done:", marked.get(0).toString(),
+                        "Good job! Now do the rest!");
+            } else {
+                List<String> output = new ArrayList<>();
+                output.add(String.format("YESSS! I've marked these %d tasks as done:", marked.size()));
+                output.addAll(TaskSelection.listTasks(marked));
+                output.add("Good job! Now do the rest!");
+                ui.showOutput(output);
+            }
         } catch (TaskNotFoundException e) {
             ui.showError(e.getMessage());
         }
@@ -106,6 +123,7 @@ public class MarkCommand implements Command {
             ui.showError(e.getMessage());
         }
 
-        return new State(tasks, storage, ui, state, this.rawInput);
+        return new State(tasks, storage, ui, state.getHistory().record(this.rawInput, state.getTasks(), tasks),
+                state.getIndex());
     }
 }
@@ -0,0 +1,71 @@
+package duke.command;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.State;
+import duke.metrics.Metrics;
+import duke.ui.Ui;
+
+/**
+ * Represents a command to show the metrics of the commands executed and of the storage so far.
+ * <p>
+ * The metrics show which commands are slow, how many tasks they change and how much memory they allocate,
+ * and how long saving and loading tasks takes.
+ */
+public class StatsCommand implements Command {
+
+    private final Metrics metrics;
+
+    /**
+     * Constructs a {@code StatsCommand} showing the specified metrics.
+     *
+     * @param metrics The metrics to show.
+     */
+    public StatsCommand(Metrics metrics) {
+        assert metrics != null : "Metrics must not be null";
+
+        this.metrics = metrics;
+    }
+
+    /**
+     * Parses the input and returns a new instance of {@code StatsCommand}, showing the metrics of the
+     * application.
+     * <p>
+     * This method does not inspect the input since the command does not require any arguments.
+     *
+     * @param input The user input (ignored).
+     * @return A new instance of {@code StatsCommand}.
+     */
+    public static Command parse(String input) {
+        return new StatsCommand(Metrics.getInstance());
+    }
+
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#STATS}
+     */
+    @Override
+    public Type getType() {
+        return Type.STATS;
+    }
+
+    /**
+     * Executes the stats command by displaying the report of the metrics to the user.
+     *
+     * @param state The current application state containing tasks, storage, and UI.
+     * @return The same {@link State} object, as no modifications are made.
+     */
+    @Override
+    public State execute(State state) {
+        Ui ui = state.getUi();
+        assert ui != null : "Ui must not be null";
+
+        List<String> lines = new ArrayList<>();
+        lines.add("Here's how I've been doing:");
+        lines.addAll(metrics.report());
+        ui.showOutput(lines);
+        return state;
+    }
+}
@@ -0,0 +1,117 @@
+package duke.command;
+
+import duke.exception.ParseCommandException;
+import duke.exception.TaskNotFoundException;
+import duke.task.Task;
+import duke.task.TaskContainer;
+
+/**
+ * Represents a reference to a task given in a command, either by its 1-based position in the task list or by
+ * its ID prefixed with {@code #}.
+ * <p>
+ * A position refers to whichever task is at that position when the command is executed, while an ID always
+ * refers to the same task, even if tasks before it are added or removed in the meantime.
+ */
+public final class TaskReference {
+
+    /** The prefix of a task ID in a command. */
+    public static final String ID_PREFIX = "#";
+
+    private final boolean isId;
+    private final long value;
+
+    private TaskReference(boolean isId, long value) {
+        this.isId = isId;
+        this.value = value;
+    }
+
+    /**
+     * Returns a reference to the task at the specified position.
+     *
+     * @param index The 1-based position of the task.
+     * @return A reference to the task at the position.
+     */
+    public static TaskReference ofIndex(int index) {
+        assert index > 0 : "Index must be positive";
+
+        return new TaskReference(false, index);
+    }
+
+    /**
+     * Returns a reference to the task with the specified ID.
+     *
+     * @param id The ID of the task.
+     * @return A reference to the task with the ID.
+     */
+    public static TaskReference ofId(long id) {
+        assert id != Task.NO_ID : "ID must be a valid task ID";
+
+        return new TaskReference(true, id);
+    }
+
+    /**
+     * Parses a task ID prefixed with {@code #}.
+     *
+     * @param input The task ID, starting with {@value #ID_PREFIX}.
+     * @return A reference to the task with the ID.
+     * @throws ParseCommandException If the input is not a valid task ID.
+     */
+    public static TaskReference parseId(String input) throws ParseCommandException {
+        assert input != null : "input must not be null";
+        assert input.startsWith(ID_PREFIX) : "Input must start with '#'";
+
+        String idString = input.substring(ID_PREFIX.length());
+        try {
+            long id = Long.parseLong(idString);
+            if (id <= Task.NO_ID) {
+                throw new ParseCommandException(String.format(
+                        "Invalid task ID [%s]. Task ID should be a positive integer.", input));
+            }
+            return ofId(id);
+        } catch (NumberFormatException e) {
+            throw new ParseCommandException(String.format("Unable to parse [%s] as a task ID.", input));
+        }
+    }
+
+    /**
+     * Returns whether the task is referred to by its ID.
+     *
+     * @return {@code true} if the reference is an ID, or {@code false} if it is a position.
+     */
+    public boolean isId() {
+        return isId;
+    }
+
+    /**
+     * Returns the position of the referred task.
+     *
+     * @return The 1-based position of the task.
+     */
+    public int getIndex() {
+        assert !isId : "Task must be referred to by its position";
+
+        return (int) value;
+    }
+
+    /**
+     * Returns the index of the referred task in the specified task container.
+     *
+     * @param tasks The task container to find the task in.
+     * @return The 0-based index of the task.
+     * @throws TaskNotFoundException If there is no task with the ID in the container. A position is not
+     *         checked against the container.
+     */
+    public int resolve(TaskContainer tasks) throws TaskNotFoundException {
+        return isId ? tasks.indexOf(value) : (int) value - 1;
+    }
+
+    /**
+     * Returns the reference as it is given in a command.
+     *
+     * @return The position, or the ID prefixed with {@value #ID_PREFIX}.
+     */
+    @Override
+    public String toString() {
+        return isId ? ID_PREFIX + value : String.valueOf(value);
+    }
+}
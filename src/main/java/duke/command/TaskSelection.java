@@ -0,0 +1,256 @@
+package duke.command;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import duke.Utils;
+import duke.exception.ParseCommandException;
+import duke.exception.TaskNotFoundException;
+import duke.index.DateIndex;
+import duke.task.Task;
+import duke.task.TaskContainer;
+
+/**
+ * Represents the tasks selected by a command that modifies tasks, such as {@code mark}, {@code unmark} and
+ * {@code delete}.
+ * <p>
+ * A selection is either a list of task references separated by commas or spaces, where each reference is a
+ * position, a range of positions such as {@code 10-500}, or an ID prefixed with {@code #}, or a single filter:
+ * {@code /done}, {@code /undone} or {@code /before <date>}. A selection is resolved against the task container
+ * at once, so that a command can modify all the selected tasks on a single copy of the container.
+ */
+public final class TaskSelection {
+
+    /**
+     * The regex matching a selection, used by the commands that accept one: a filter, or a list of positions,
+     * ranges {@code XXX-YYY} and IDs {@code #XXX} separated by commas or spaces.
+     */
+    public static final String REGEX = "/\\S.*"
+            + "|(?:#\\d+|\\d+(?:-\\d+)?)(?:(?:\\s*,\\s*|\\s+)(?:#\\d+|\\d+(?:-\\d+)?))*";
+
+    /** The maximum number of tasks listed when a command modifies several tasks. */
+    static final int MAX_TASKS_SHOWN = 20;
+
+    private static final String FILTER_PREFIX = "/";
+    private static final String RANGE_SEPARATOR = "-";
+    private static final String ITEM_SEPARATOR_REGEX = "\\s*,\\s*|\\s+";
+
+    private final List<Selector> selectors;
+    private final String description;
+
+    /** The only task referred to, or {@code null} if the selection may refer to several tasks. */
+    private final TaskReference single;
+
+    private TaskSelection(List<Selector> selectors, String description, TaskReference single) {
+        this.selectors = selectors;
+        this.description = description;
+        this.single = single;
+    }
+
+    /**
+     * Returns a selection of a single task.
+     *
+     * @param task The reference to the task.
+     * @return A selection of the task.
+     */
+    public static TaskSelection of(TaskReference task) {
+        assert task != null : "Task must not be null";
+
+        return new TaskSelection(List.of(single(task)), task.toString(), task);
+    }
+
+    /**
+     * Parses a selection of tasks.
+     *
+     * @param input The selection, matching {@link #REGEX}.
+     * @return The parsed selection.
+     * @throws ParseCommandException If a position, range, ID or filter in the selection is invalid.
+     */
+    public static TaskSelection parse(String input) throws ParseCommandException {
+        assert input != null : "input must not be null";
+
+        String selection = input.trim();
+        if (selection.startsWith(FILTER_PREFIX)) {
+            return new TaskSelection(List.of(parseFilter(selection)), selection, null);
+        }
+
+        String[] items = selection.split(ITEM_SEPARATOR_REGEX);
+        if (items.length == 1 && !items[0].contains(RANGE_SEPARATOR)) {
+            return of(parseReference(items[0]));
+        }
+        List<Selector> selectors = new ArrayList<>(items.length);
+        for (String item : items) {
+            if (item.contains(RANGE_SEPARATOR)) {
+                selectors.add(parseRange(item));
+            } else {
+                selectors.add(single(parseReference(item)));
+            }
+        }
+        return new TaskSelection(selectors, selection, null);
+    }
+
+    /**
+     * Returns whether the selection refers to a single task by its position or ID.
+     * <p>
+     * Commands report their results on a single task the same way as before selections were introduced.
+     *
+     * @return {@code true} if the selection is a single position or ID.
+     */
+    public boolean isSingle() {
+        return single != null;
+    }
+
+    /**
+     * Returns the only task referred to by the selection.
+     *
+     * @return The reference to the task.
+     */
+    public TaskReference getTask() {
+        assert isSingle() : "Selection must refer to a single task";
+
+        return single;
+    }
+
+    /**
+     * Returns the indices of the selected tasks in the specified task container.
+     *
+     * @param tasks The task container to select the tasks from.
+     * @return The distinct 0-based indices of the selected tasks, in increasing order.
+     * @throws TaskNotFoundException If a position is out of range, an ID is not in the container, or no task
+     *         is selected. A single position is not checked here, but when the task at it is accessed.
+     */
+    public int[] resolve(TaskContainer tasks) throws TaskNotFoundException {
+        assert tasks != null : "Tasks must not be null";
+
+        BitSet indices = new BitSet(tasks.size());
+        for (Selector selector : selectors) {
+            selector.select(tasks, indices);
+        }
+        if (indices.isEmpty()) {
+            throw new TaskNotFoundException(String.format("No tasks match [%s]", description));
+        }
+        if (!isSingle()) {
+            // Check every position before any task is modified, so that the tasks are modified all or none
+            checkIndex(indices.length() - 1, tasks);
+        }
+        return indices.stream().toArray();
+    }
+
+    /**
+     * Returns the selection as it is given in a command.
+     *
+     * @return The selection.
+     */
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * Returns the lines listing the specified tasks modified by a command, shortened if there are many.
+     *
+     * @param tasks The modified tasks.
+     * @return One line for each task, up to {@value #MAX_TASKS_SHOWN} tasks.
+     */
+    static List<String> listTasks(List<Task> tasks) {
+        List<String> lines = new ArrayList<>(Math.min(tasks.size(), MAX_TASKS_SHOWN) + 1);
+        for (int i = 0; i < tasks.size() && i < MAX_TASKS_SHOWN; i++) {
+            lines.add(tasks.get(i).toString());
+        }
+        if (tasks.size() > MAX_TASKS_SHOWN) {
+            lines.add(String.format("... and %d more tasks.", tasks.size() - MAX_TASKS_SHOWN));
+        }
+        return lines;
+    }
+
+    private static TaskReference parseReference(String item) throws ParseCommandException {
+        if (item.startsWith(TaskReference.ID_PREFIX)) {
+            return TaskReference.parseId(item);
+        }
+        return TaskReference.ofIndex(parseIndex(item));
+    }
+
+    private static Selector parseRange(String item) throws ParseCommandException {
+        String[] bounds = item.split(RANGE_SEPARATOR, 2);
+        int first = parseIndex(bounds[0]);
+        int last = parseIndex(bounds[1]);
+        if (first > last) {
+            throw new ParseCommandException(String.format(
+                    "Invalid range [%s]. The first index should not be after the last.", item));
+        }
+        return (tasks, indices) -> {
+            checkIndex(last - 1, tasks);
+            indices.set(first - 1, last);
+        };
+    }
+
+    private static Selector parseFilter(String selection) throws ParseCommandException {
+        String[] parts = selection.split("\\s+", 2);
+        String argument = parts.length > 1 ? parts[1] : "";
+        Predicate<Task> predicate = switch (parts[0]) {
+        case "/done" -> Task::isDone;
+        case "/undone" -> task -> !task.isDone();
+        case "/before" -> {
+            LocalDate date = parseDate(argument);
+            yield task -> DateIndex.isDated(task) && DateIndex.getStartDate(task).isBefore(date);
+        }
+        default -> throw new ParseCommandException(String.format(
+                "Unknown filter [%s]. Use /done, /undone or /before <date>.", parts[0]));
+        };
+        if (!parts[0].equals("/before") && !argument.isEmpty()) {
+            throw new ParseCommandException(String.format("Filter [%s] does not take an argument.", parts[0]));
+        }
+        return (tasks, indices) -> tasks.list((index, task) -> {
+            if (predicate.test(task)) {
+                indices.set(index);
+            }
+        });
+    }
+
+    private static int parseIndex(String indexString) throws ParseCommandException {
+        try {
+            int index = Integer.parseInt(indexString);
+            if (index <= 0) {
+                throw new ParseCommandException(String.format(
+                        "Invalid index [%d]. Task index should be a positive integer.", index));
+            }
+            return index;
+        } catch (NumberFormatException e) {
+            throw new ParseCommandException(String.format(
+                    "Unable to parse [%s] as integer. Task index should be a positive integer.", indexString));
+        }
+    }
+
+    private static LocalDate parseDate(String dateString) throws ParseCommandException {
+        if (dateString.isEmpty()) {
+            throw new ParseCommandException("Filter [/before] requires a date.");
+        }
+        try {
+            return Utils.parseDate(dateString);
+        } catch (DateTimeParseException e) {
+            throw new ParseCommandException(String.format("Unable to parse [%s] to date.", dateString));
+        }
+    }
+
+    private static Selector single(TaskReference task) {
+        return (tasks, indices) -> indices.set(task.resolve(tasks));
+    }
+
+    private static void checkIndex(int index, TaskContainer tasks) throws TaskNotFoundException {
+        if (index >= tasks.size()) {
+            throw new TaskNotFoundException(String.format("Index [%d] out of range [%d]", index, tasks.size()));
+        }
+    }
+
+    /**
+     * A part of a selection, which adds the indices of the tasks it selects.
+     */
+    @FunctionalInterface
+    private interface Selector {
+        void select(TaskContainer tasks, BitSet indices) throws TaskNotFoundException;
+    }
+}
@@ -1,11 +1,17 @@
 package duke.command;
 
 import duke.State;
+import duke.exception.TaskNotFoundException;
+import duke.exception.WriteStorageException;
+import duke.history.UndoHistory;
+import duke.storage.Storage;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
 
 /**
  * Represents a command to undo the last executed command in the Duke application.
  * <p>
- * If there is a previous state available, it reverts to that state;
+ * If there is a command in the history, the changes it made are reverted;
  * otherwise, it informs the user that no undo is possible.
  */
 public class UndoCommand implements Command {
@@ -24,23 +30,55 @@ public class UndoCommand implements Command {
     }
 
     /**
-     * Executes the undo command by reverting to the previous state if it exists.
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#UNDO}
+     */
+    @Override
+    public Type getType() {
+        return Type.UNDO;
+    }
+
+    /**
+     * Executes the undo command by reverting the changes made by the most recent command in the history.
      * <p>
-     * Displays an appropriate message to the user based on the success or failure of the operation.
+     * The reverted task list is saved, and an appropriate message is displayed to the user based on the
+     * success or failure of the operation.
      *
      * @param state The current application state containing tasks, storage, and UI.
-     * @return The previous application state if available; otherwise, the current state.
+     * @return A new {@link State} with the most recent command reverted and removed from the history
+     *         if available; otherwise, the current state.
      */
     @Override
     public State execute(State state) {
-        if (state.getPreviousState() == null) {
-            state.getUi().showError("No previous command to undo.");
+        UndoHistory history = state.getHistory();
+        Storage storage = state.getStorage();
+        Ui ui = state.getUi();
+
+        if (history.isEmpty()) {
+            ui.showError("No previous command to undo.");
             return state;
-        } else {
-            assert state.getPreviousCommand() != null : "Previous command should not be null";
-            state.getUi().showOutput(String.format("Rewinding time! Undoing previous command: [%s]",
-                    state.getPreviousCommand()), "You're welcome!");
-            return state.getPreviousState();
         }
+
+        UndoHistory.Entry entry = history.getLatest();
+        TaskContainer tasks;
+        try {
+            tasks = entry.revert(state.getTasks());
+        } catch (TaskNotFoundException e) {
+            ui.showError(String.format("Unable to undo previous command [%s]: %s",
+                    entry.getCommand(), e.getMessage()));
+            return new State(state.getTasks(), storage, ui, history.pop(), state.getIndex());
+        }
+
+        ui.showOutput(String.format("Rewinding time! Undoing previous command: [%s]",
+                entry.getCommand()), "You're welcome!");
+
+        try {
+            storage.save(tasks, ui);
+        } catch (WriteStorageException e) {
+            ui.showError(e.getMessage());
+        }
+
+        return new State(tasks, storage, ui, history.pop(), state.getIndex());
     }
 }
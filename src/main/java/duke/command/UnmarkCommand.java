@@ -1,5 +1,7 @@
 package duke.command;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,76 +15,75 @@ import duke.task.TaskContainer;
 import duke.ui.Ui;
 
 /**
- * Represents a command to mark a task as not done.
+ * Represents a command to mark tasks as not done.
  * <p>
- * The command takes the task index, retrieves the task from the container,
- * and marks it as not done.
+ * The command takes a {@link TaskSelection}, retrieves the selected tasks from the container,
+ * and marks them all as not done on a single copy of the container.
  */
 public class UnmarkCommand implements Command {
 
-    // Captures `unmark XXX` where XXX is a positive integer
-    static final String COMMAND_REGEX = "unmark\\s+(\\d+)";
+    // Captures `unmark XXX` where XXX is a selection of tasks, such as `3`, `1, 4-10, #12` or `/done`
+    static final String COMMAND_REGEX = "unmark\\s+(" + TaskSelection.REGEX + ")";
 
-    private final int taskIndex;
+    private static final Pattern COMMAND_PATTERN = Pattern.compile(COMMAND_REGEX);
+
+    private final TaskSelection selection;
 
     /** The raw input string from the user. */
     private final String rawInput;
 
     /**
-     * Constructs an {@code UnmarkCommand} with the specified task index.
+     * Constructs an {@code UnmarkCommand} for the specified tasks.
      *
-     * @param taskIndex the index of the task to be marked as not done
+     * @param selection the tasks to be marked as not done
      */
-    private UnmarkCommand(int taskIndex, String rawInput) {
-        this.taskIndex = taskIndex;
+    private UnmarkCommand(TaskSelection selection, String rawInput) {
+        this.selection = selection;
         this.rawInput = rawInput;
     }
 
     /**
      * Parses the user input to create a new {@code UnmarkCommand}.
      * <p>
-     * The input should contain the `unmark` keyword followed by a positive integer index,
-     * representing the task to mark as not done.
+     * The input should contain the `unmark` keyword followed by a selection of tasks as described in
+     * {@link TaskSelection}, representing the tasks to mark as not done.
      *
      * @param input the user input string
-     * @return a new instance of {@code UnmarkCommand} with the task index
-     * @throws ParseCommandException if the input is invalid or the task index is not a positive integer
+     * @return a new instance of {@code UnmarkCommand} with the selected tasks
+     * @throws ParseCommandException if the input is invalid or a task index is not a positive integer
      */
     public static Command parse(String input) throws ParseCommandException {
         assert input != null : "input must not be null";
 
-        Pattern pattern = Pattern.compile(COMMAND_REGEX);
-        Matcher matcher = pattern.matcher(input);
+        Matcher matcher = COMMAND_PATTERN.matcher(input);
 
         if (!matcher.matches()) {
             throw new ParseCommandException("Unmark command requires an integer index.");
         }
 
-        String indexString = matcher.group(1);
-        try {
-            int index = Integer.parseInt(indexString);
-            if (index <= 0) {
-                throw new ParseCommandException(String.format(
-                        "Invalid index [%d]. Task index should be a positive integer.", index));
-            }
-            return new UnmarkCommand(index, input);
-        } catch (NumberFormatException e) {
-            throw new ParseCommandException(String.format(
-                    "Unable to parse [%s] as integer. Task index should be a positive integer.",
-                    indexString));
-        }
+        return new UnmarkCommand(TaskSelection.parse(matcher.group(1)), input);
+    }
+
+    /**
+     * Returns the type of the command.
+     *
+     * @return {@link Command.Type#UNMARK}
+     */
+    @Override
+    public Type getType() {
+        return Type.UNMARK;
     }
 
     /**
      * Executes the unmark command.
      * <p>
-     * Retrieving the task from the task container with the specified index and marking it as not done.
-     * The task is then saved, and appropriate messages are shown via the user interface.
+     * Copies each selected task, marks the copy as not done and stores it back in the task container. The
+     * tasks are then saved once, and appropriate messages are shown via the user interface.
      *
      * @param state The current application state containing tasks, storage, and UI.
      *
      * @return A new {@link State} object reflecting the updated task list
-     *         and retaining the previous state information.
+     *         and recording the command in the history.
      */
     @Override
     public State execute(State state) {
@@ -95,10 +96,25 @@ public class UnmarkCommand implements Command {
         assert ui != null : "Ui must not be null";
 
         try {
-            Task task = tasks.get(taskIndex - 1);
-            task.markAsNotDone();
-            ui.showOutput("Awww man! Okay, I've marked this task as not done yet:", task.toString(),
-                    "Better get back to work!\n");
+            int[] indices = selection.resolve(tasks);
+            List<Task> marked = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                Task task = tasks.get(index).copy();
+                task.markAsNotDone();
+                tasks.set(index, task);
+                marked.add(task);
+            }
+            if (selection.isSingle()) {
+                ui.showOutput("Awww man! Okay, I've marked this task as not done yet:", marked.get(0).toString(),
+                        "Better get back to work!\n");
+            } else {
+                List<String> output = new ArrayList<>();
+                output.add(String.format("Awww man! Okay, I've marked these %d tasks as not done yet:",
+                        marked.size()));
+                output.addAll(TaskSelection.listTasks(marked));
+                output.add("Better get back to work!");
+                ui.showOutput(output);
+            }
         } catch (TaskNotFoundException e) {
             ui.showError(e.getMessage());
         }
@@ -109,6 +125,7 @@ public class UnmarkCommand implements Command {
             ui.showError(e.getMessage());
         }
 
-        return new State(tasks, storage, ui, state, this.rawInput);
+        return new State(tasks, storage, ui, state.getHistory().record(this.rawInput, state.getTasks(), tasks),
+                state.getIndex());
     }
 }
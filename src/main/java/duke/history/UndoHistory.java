@@ -0,0 +1,249 @@
+package duke.history;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import duke.exception.TaskNotFoundException;
+import duke.task.TaskChange;
+import duke.task.TaskContainer;
+
+/**
+ * Represents a bounded history of commands that can be undone.
+ * <p>
+ * Instead of a full copy of the task container per command, each entry keeps the {@link TaskChange}s the
+ * command made, which are reverted in reverse order to undo it. Every few entries, and for every entry with
+ * many changes, the container from before the command is also kept as a checkpoint, which is restored
+ * directly instead of replaying a long list of changes.
+ * <p>
+ * The history keeps at most a configurable number of entries and a configurable estimated number of bytes,
+ * dropping the oldest entries when either limit is exceeded. A history is immutable: recording or undoing a
+ * command returns a new history sharing its entries with this one.
+ */
+public class UndoHistory {
+
+    /** Default maximum number of commands that can be undone. */
+    public static final int DEFAULT_MAX_DEPTH = 100;
+
+    /** Default maximum estimated memory retained by the history, in bytes. */
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    /** Default number of entries between two checkpoints. */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 16;
+
+    /** Entries with more changes than this always keep a checkpoint, which is restored instead of replaying. */
+    static final int BULK_CHANGE_THRESHOLD = 64;
+
+    /** Rough number of bytes retained by an entry, excluding its changes. */
+    private static final long ENTRY_BYTES = 64;
+
+    /**
+     * Rough number of bytes retained by a checkpoint. Checkpoints of structurally shared containers only
+     * retain the few nodes that later versions have replaced, which the changes already account for.
+     */
+    private static final long CHECKPOINT_BYTES = 256;
+
+    private final int maxDepth;
+    private final long maxBytes;
+    private final int checkpointInterval;
+
+    /** Entries from the oldest to the most recent. */
+    private final List<Entry> entries;
+    private final long bytes;
+    private final long recordedCount;
+
+    /**
+     * Constructs an empty history with the default limits.
+     */
+    public UndoHistory() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_BYTES, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Constructs an empty history with the given limits.
+     *
+     * @param maxDepth The maximum number of commands that can be undone.
+     * @param maxBytes The maximum estimated memory retained by the history, in bytes.
+     * @param checkpointInterval The number of entries between two checkpoints.
+     */
+    public UndoHistory(int maxDepth, long maxBytes, int checkpointInterval) {
+        this(maxDepth, maxBytes, checkpointInterval, Collections.emptyList(), 0, 0);
+    }
+
+    private UndoHistory(int maxDepth, long maxBytes, int checkpointInterval, List<Entry> entries, long bytes,
+            long recordedCount) {
+        assert maxDepth > 0 : "Max depth must be positive";
+        assert checkpointInterval > 0 : "Checkpoint interval must be positive";
+
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+        this.checkpointInterval = checkpointInterval;
+        this.entries = entries;
+        this.bytes = bytes;
+        this.recordedCount = recordedCount;
+    }
+
+    /**
+     * Records a command that changed the task container from {@code before} to {@code after}.
+     * <p>
+     * The changes recorded by {@code after} since it was copied from {@code before} are kept, so that they can
+     * be reverted later. The oldest entries are dropped if the new history exceeds its limits, but the new
+     * entry is always kept.
+     *
+     * @param command The raw input of the command.
+     * @param before The task container before the command was executed.
+     * @param after The task container after the command was executed, copied from {@code before}.
+     * @return A new history with the command as its most recent entry.
+     */
+    public UndoHistory record(String command, TaskContainer before, TaskContainer after) {
+        assert command != null : "Command must not be null";
+
+        List<TaskChange> changes = List.copyOf(after.getChanges());
+        boolean isCheckpoint = changes.size() > BULK_CHANGE_THRESHOLD || recordedCount % checkpointInterval == 0;
+        // A copy shares the tasks of the checkpoint without the changes it recorded, e.g. one per task loaded
+        Entry entry = new Entry(command, changes, isCheckpoint ? before.copy() : null);
+
+        ArrayList<Entry> newEntries = new ArrayList<>(entries);
+        newEntries.add(entry);
+        long newBytes = bytes + entry.bytes;
+        while (newEntries.size() > 1 && (newEntries.size() > maxDepth || newBytes > maxBytes)) {
+            newBytes -= newEntries.remove(0).bytes;
+        }
+
+        return new UndoHistory(maxDepth, maxBytes, checkpointInterval, Collections.unmodifiableList(newEntries),
+                newBytes, recordedCount + 1);
+    }
+
+    /**
+     * Returns an empty history with the same limits as this one.
+     * <p>
+     * This is used by commands whose effects cannot be reverted, after which the commands before them can no
+     * longer be reverted either.
+     *
+     * @return A new history without any entries.
+     */
+    public UndoHistory clear() {
+        return new UndoHistory(maxDepth, maxBytes, checkpointInterval);
+    }
+
+    /**
+     * Returns whether there is no command to undo.
+     *
+     * @return {@code true} if the history is empty.
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the number of commands that can be undone.
+     *
+     * @return The number of entries in the history.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the estimated memory retained by the history, in bytes.
+     *
+     * @return The estimated size of the history in bytes.
+     */
+    public long estimateBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the most recent entry of the history.
+     *
+     * @return The most recent entry.
+     */
+    public Entry getLatest() {
+        assert !isEmpty() : "History must not be empty";
+
+        return entries.get(entries.size() - 1);
+    }
+
+    /**
+     * Returns the history without its most recent entry.
+     *
+     * @return A new history without the most recent entry.
+     */
+    public UndoHistory pop() {
+        assert !isEmpty() : "History must not be empty";
+
+        return new UndoHistory(maxDepth, maxBytes, checkpointInterval,
+                List.copyOf(entries.subList(0, entries.size() - 1)), bytes - getLatest().bytes, recordedCount);
+    }
+
+    /**
+     * Represents a command recorded in the history.
+     */
+    public static final class Entry {
+        private final String command;
+        private final List<TaskChange> changes;
+        private final TaskContainer checkpoint;
+        private final long bytes;
+
+        private Entry(String command, List<TaskChange> changes, TaskContainer checkpoint) {
+            this.command = command;
+            this.changes = changes;
+            this.checkpoint = checkpoint;
+
+            long total = ENTRY_BYTES + 2L * command.length() + (checkpoint == null ? 0 : CHECKPOINT_BYTES);
+            for (TaskChange change : changes) {
+                total += change.estimateBytes();
+            }
+            this.bytes = total;
+        }
+
+        /**
+         * Returns the raw input of the recorded command.
+         *
+         * @return The raw input of the command.
+         */
+        public String getCommand() {
+            return command;
+        }
+
+        /**
+         * Returns whether the task container from before the command is kept.
+         *
+         * @return {@code true} if the entry has a checkpoint.
+         */
+        public boolean hasCheckpoint() {
+            return checkpoint != null;
+        }
+
+        /**
+         * Returns the task container as it was before the recorded command, starting from the container
+         * right after it.
+         * <p>
+         * The changes made by the command are reverted on a copy of {@code current}, so that the returned
+         * container records their inverses. Entries with many changes restore their checkpoint instead, as does
+         * an entry whose changes can no longer be reverted on {@code current}.
+         *
+         * @param current The task container right after the recorded command.
+         * @return A task container as it was before the recorded command.
+         * @throws TaskNotFoundException If the changes cannot be reverted and there is no checkpoint.
+         */
+        public TaskContainer revert(TaskContainer current) throws TaskNotFoundException {
+            if (checkpoint != null && changes.size() > BULK_CHANGE_THRESHOLD) {
+                return checkpoint.copy();
+            }
+
+            TaskContainer tasks = current.copy();
+            try {
+                for (int i = changes.size() - 1; i >= 0; i--) {
+                    changes.get(i).revert(tasks);
+                }
+            } catch (TaskNotFoundException e) {
+                if (checkpoint == null) {
+                    throw e;
+                }
+                return checkpoint.copy();
+            }
+            return tasks;
+        }
+    }
+}
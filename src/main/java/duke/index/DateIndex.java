@@ -0,0 +1,140 @@
+package duke.index;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+
+/**
+ * Represents an index of deadlines and events by the range of dates they take up.
+ * <p>
+ * A deadline takes up the single day it is due on, and an event takes up every day from its start to its end.
+ * Tasks are grouped into levels by the length of their range, level {@code k} holding the ranges spanning fewer
+ * than 2<sup>k</sup> days after their first day, and each level keeps its tasks in a sorted map by the epoch day
+ * their range starts on. A query for tasks overlapping some dates only needs to look, in each level, at the
+ * tasks starting between the longest span of the level before the first date and the last date. Looking up the
+ * first such task is logarithmic in the number of dates, and a few long events only widen the search within
+ * their own level, rather than for every task.
+ */
+public class DateIndex extends IncrementalIndex {
+
+    /** The tasks of each non-empty level by the epoch day their range starts on, keyed by level. */
+    private final NavigableMap<Integer, NavigableMap<Long, Set<Task>>> levels = new TreeMap<>();
+
+    /**
+     * Returns whether the given task is a deadline or an event, which take up dates.
+     *
+     * @param task The task to check.
+     * @return {@code true} if the task has a start date.
+     */
+    public static boolean isDated(Task task) {
+        return task instanceof Deadline || task instanceof Event;
+    }
+
+    /**
+     * Returns the first date taken up by the given deadline or event.
+     *
+     * @param task The deadline or event.
+     * @return The date the deadline is due on, or the date the event starts on.
+     */
+    public static LocalDate getStartDate(Task task) {
+        assert isDated(task) : "Task must be a deadline or an event";
+
+        return LocalDate.ofEpochDay(startOf(task));
+    }
+
+    /**
+     * Returns the indexed deadlines due and events taking place on any date between the given dates.
+     *
+     * @param from The first date of the range, inclusive.
+     * @param to The last date of the range, inclusive.
+     * @return An identity set of the tasks taking up any date in the range.
+     */
+    public Set<Task> findOverlapping(LocalDate from, LocalDate to) {
+        assert from != null && to != null : "Dates must not be null";
+
+        long first = from.toEpochDay();
+        long last = to.toEpochDay();
+        Set<Task> matches = newIdentitySet();
+        if (first > last) {
+            return matches;
+        }
+
+        for (Map.Entry<Integer, NavigableMap<Long, Set<Task>>> level : levels.entrySet()) {
+            long maxSpan = (1L << level.getKey()) - 1;
+            for (Set<Task> tasks : level.getValue().subMap(first - maxSpan, true, last, true).values()) {
+                for (Task task : tasks) {
+                    if (endOf(task) >= first) {
+                        matches.add(task);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    protected void clear() {
+        levels.clear();
+    }
+
+    @Override
+    protected void add(Task task) {
+        if (!isDated(task)) {
+            return;
+        }
+        long start = startOf(task);
+        levels.computeIfAbsent(levelOf(task), key -> new TreeMap<>())
+                .computeIfAbsent(start, key -> newIdentitySet()).add(task);
+    }
+
+    @Override
+    protected void remove(Task task) {
+        if (!isDated(task)) {
+            return;
+        }
+        int level = levelOf(task);
+        NavigableMap<Long, Set<Task>> tasksByStart = levels.get(level);
+        if (tasksByStart == null) {
+            return;
+        }
+        long start = startOf(task);
+        Set<Task> tasks = tasksByStart.get(start);
+        if (tasks != null) {
+            tasks.remove(task);
+            if (tasks.isEmpty()) {
+                tasksByStart.remove(start);
+            }
+        }
+        if (tasksByStart.isEmpty()) {
+            levels.remove(level);
+        }
+    }
+
+    /**
+     * Returns the level of the given deadline or event, the number of bits in the number of days its range
+     * spans after its first day, so that deadlines and single day events are in level 0.
+     */
+    private static int levelOf(Task task) {
+        return Long.SIZE - Long.numberOfLeadingZeros(endOf(task) - startOf(task));
+    }
+
+    private static long startOf(Task task) {
+        if (task instanceof Event event) {
+            return Math.min(event.getFrom().toEpochDay(), event.getTo().toEpochDay());
+        }
+        return ((Deadline) task).getTime().toEpochDay();
+    }
+
+    private static long endOf(Task task) {
+        if (task instanceof Event event) {
+            return Math.max(event.getFrom().toEpochDay(), event.getTo().toEpochDay());
+        }
+        return ((Deadline) task).getTime().toEpochDay();
+    }
+}
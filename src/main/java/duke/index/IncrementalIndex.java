@@ -0,0 +1,101 @@
+package duke.index;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import duke.task.Task;
+import duke.task.TaskChange;
+import duke.task.TaskContainer;
+
+/**
+ * Represents an index over the tasks of a task container that is kept up to date incrementally.
+ * <p>
+ * The index remembers the version of the container it was last synchronized with, and how many of the
+ * changes recorded by that container it has seen. When it is synchronized with the same container again, or
+ * with a container copied from it, only the changes it has not seen are applied. Any other container is
+ * indexed from scratch.
+ * <p>
+ * An index is built the first time it is synchronized, so indexes that are never queried cost nothing.
+ */
+public abstract class IncrementalIndex {
+
+    private long syncedVersion;
+    private int syncedChangeCount;
+    private boolean isBuilt;
+
+    /**
+     * Brings the index up to date with the given task container.
+     *
+     * @param tasks The task container to be indexed.
+     */
+    public void sync(TaskContainer tasks) {
+        assert tasks != null : "Tasks must not be null";
+
+        List<TaskChange> changes = tasks.getChanges();
+        if (isBuilt && tasks.getVersion() == syncedVersion) {
+            apply(changes.subList(syncedChangeCount, changes.size()));
+        } else if (isBuilt && tasks.getBaseVersion() == syncedVersion) {
+            apply(changes);
+        } else {
+            clear();
+            for (Task task : tasks) {
+                add(task);
+            }
+            isBuilt = true;
+        }
+        syncedVersion = tasks.getVersion();
+        syncedChangeCount = changes.size();
+    }
+
+    /**
+     * Returns whether the index has been built, i.e. synchronized at least once.
+     *
+     * @return {@code true} if the index has been built.
+     */
+    public boolean isBuilt() {
+        return isBuilt;
+    }
+
+    /**
+     * Removes all tasks from the index.
+     */
+    protected abstract void clear();
+
+    /**
+     * Adds a task to the index.
+     *
+     * @param task The task that was added to the container.
+     */
+    protected abstract void add(Task task);
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task The task that was removed from the container.
+     */
+    protected abstract void remove(Task task);
+
+    /**
+     * Returns a new set that compares tasks by identity, as tasks are shared between containers and indexes.
+     *
+     * @return An empty identity set of tasks.
+     */
+    protected static Set<Task> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private void apply(List<TaskChange> changes) {
+        for (TaskChange change : changes) {
+            if (change instanceof TaskChange.Insert insert) {
+                add(insert.getTask());
+            } else if (change instanceof TaskChange.Remove remove) {
+                remove(remove.getTask());
+            } else if (change instanceof TaskChange.Replace replace) {
+                remove(replace.getPrevious());
+                add(replace.getTask());
+            }
+        }
+    }
+}
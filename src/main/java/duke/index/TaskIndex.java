@@ -0,0 +1,96 @@
+package duke.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import duke.exception.TaskNotFoundException;
+import duke.task.Task;
+import duke.task.TaskContainer;
+
+/**
+ * Represents the indexes kept over the tasks of the application, used to answer queries without scanning
+ * every task.
+ * <p>
+ * Each index is built the first time it is queried, and is then kept up to date with the changes recorded
+ * by the task containers passed to {@link #sync(TaskContainer)} or to a query.
+ */
+public class TaskIndex {
+
+    private final TextIndex textIndex = new TextIndex();
+    private final DateIndex dateIndex = new DateIndex();
+
+    /**
+     * Applies the changes made to the given task container to all the indexes that have been built.
+     * <p>
+     * Calling this after every command keeps the indexes incremental, since each container is then copied
+     * from the container the indexes were last synchronized with.
+     *
+     * @param tasks The current task container.
+     */
+    public synchronized void sync(TaskContainer tasks) {
+        if (textIndex.isBuilt()) {
+            textIndex.sync(tasks);
+        }
+        if (dateIndex.isBuilt()) {
+            dateIndex.sync(tasks);
+        }
+    }
+
+    /**
+     * Returns the tasks in the given container whose description contains all the given keywords.
+     *
+     * @param tasks The current task container.
+     * @param keywords The keywords that must all appear in the description of a task.
+     * @return An identity set of the tasks matching all the keywords.
+     * @see TextIndex#search(List)
+     */
+    public synchronized Set<Task> findText(TaskContainer tasks, List<String> keywords) {
+        textIndex.sync(tasks);
+        return textIndex.search(keywords);
+    }
+
+    /**
+     * Returns the deadlines due and events taking place on any date between the given dates.
+     *
+     * @param tasks The current task container.
+     * @param from The first date of the range, inclusive.
+     * @param to The last date of the range, inclusive.
+     * @return An identity set of the tasks taking up any date in the range.
+     * @see DateIndex#findOverlapping(LocalDate, LocalDate)
+     */
+    public synchronized Set<Task> findOverlapping(TaskContainer tasks, LocalDate from, LocalDate to) {
+        dateIndex.sync(tasks);
+        return dateIndex.findOverlapping(from, to);
+    }
+
+    /**
+     * Returns the given tasks found in the container, in the order they appear in it.
+     * <p>
+     * The position of each task is looked up by its ID, which takes logarithmic time while the tasks are in
+     * order of ID, so only the given tasks are visited and decoded, rather than every task in the container.
+     *
+     * @param tasks The task container the tasks were found in.
+     * @param found The tasks found in the container, such as the results of a query on an index over it.
+     * @return The found tasks, in the order of the container.
+     */
+    public static List<Task> inContainerOrder(TaskContainer tasks, Set<Task> found) {
+        int[] indices = new int[found.size()];
+        int count = 0;
+        try {
+            for (Task task : found) {
+                indices[count++] = tasks.indexOf(task.getId());
+            }
+            Arrays.sort(indices);
+            List<Task> ordered = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                ordered.add(tasks.get(index));
+            }
+            return ordered;
+        } catch (TaskNotFoundException e) {
+            throw new IllegalStateException("Indexed tasks must be in the task container", e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package duke.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import duke.task.Task;
+
+/**
+ * Represents an inverted index from the trigrams of task descriptions to the tasks containing them.
+ * <p>
+ * A description contains a keyword only if it contains every trigram (substring of three characters) of
+ * the keyword. A search therefore intersects the posting sets of all trigrams of its keywords, starting from
+ * the smallest, and only checks the few remaining candidates with {@link String#contains(CharSequence)}.
+ * Keywords shorter than three characters have no trigrams, so they are checked against every candidate.
+ * <p>
+ * Tasks are compared by identity, since the container shares task objects with the index.
+ */
+public class TextIndex extends IncrementalIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Task>> postings = new HashMap<>();
+    private final Set<Task> tasks = newIdentitySet();
+
+    /**
+     * Returns the indexed tasks whose description contains all the given keywords.
+     * <p>
+     * Keywords are matched case-sensitively, anywhere in the description.
+     *
+     * @param keywords The keywords that must all appear in the description of a task.
+     * @return An identity set of the tasks matching all the keywords.
+     */
+    public Set<Task> search(List<String> keywords) {
+        assert keywords != null && !keywords.isEmpty() : "Keywords must not be empty";
+
+        List<Set<Task>> postingSets = new ArrayList<>();
+        for (String gram : gramsOf(keywords)) {
+            Set<Task> posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            postingSets.add(posting);
+        }
+        postingSets.sort(Comparator.comparingInt(Set::size));
+
+        Set<Task> candidates = postingSets.isEmpty() ? tasks : postingSets.get(0);
+        Set<Task> matches = newIdentitySet();
+        for (Task task : candidates) {
+            if (isInAll(task, postingSets) && containsAll(task.getDescription(), keywords)) {
+                matches.add(task);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    protected void clear() {
+        postings.clear();
+        tasks.clear();
+    }
+
+    @Override
+    protected void add(Task task) {
+        tasks.add(task);
+        for (String gram : gramsOf(List.of(task.getDescription()))) {
+            postings.computeIfAbsent(gram, key -> newIdentitySet()).add(task);
+        }
+    }
+
+    @Override
+    protected void remove(Task task) {
+        tasks.remove(task);
+        for (String gram : gramsOf(List.of(task.getDescription()))) {
+            Set<Task> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(task);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(List<String> strings) {
+        Set<String> grams = new HashSet<>();
+        for (String string : strings) {
+            for (int i = 0; i + GRAM_LENGTH <= string.length(); i++) {
+                grams.add(string.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    private static boolean isInAll(Task task, List<Set<Task>> postingSets) {
+        for (int i = 1; i < postingSets.size(); i++) {
+            if (!postingSets.get(i).contains(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsAll(String description, List<String> keywords) {
+        for (String keyword : keywords) {
+            if (!description.contains(keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
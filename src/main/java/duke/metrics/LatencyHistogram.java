@@ -0,0 +1,114 @@
+package duke.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in nanoseconds, with a fixed number of buckets covering every latency.
+ * <p>
+ * Like an HDR histogram, the buckets are log-linear: every power of two is split into
+ * {@value #SUB_BUCKET_COUNT} buckets of equal width, so that a latency is known to within about 6% of its
+ * value, whether it is a microsecond or a minute. Recording a latency only increments a counter, and may be
+ * done from any thread.
+ */
+public class LatencyHistogram {
+
+    /** The number of buckets each power of two is split into. */
+    static final int SUB_BUCKET_COUNT = 16;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds, where negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        total.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return The number of latencies recorded.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the latencies recorded.
+     *
+     * @return The mean latency in nanoseconds, or 0 if none were recorded.
+     */
+    public long getMean() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : total.sum() / recorded;
+    }
+
+    /**
+     * Returns the highest latency recorded.
+     *
+     * @return The highest latency in nanoseconds, or 0 if none were recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the latency below which the given percentage of the recorded latencies lie.
+     * <p>
+     * The latency returned is the highest latency in the bucket of the percentile, so it is at most about 6%
+     * higher than the exact percentile, and never higher than the highest latency recorded.
+     *
+     * @param percentile The percentage of latencies, between 0 and 100.
+     * @return The latency at the percentile in nanoseconds, or 0 if none were recorded.
+     */
+    public long getPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentile must be between 0 and 100";
+
+        long recorded = count.sum();
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        // Latencies recorded while counting may be counted in the total but not in the buckets yet
+        return getMax();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,196 @@
+package duke.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.management.ThreadMXBean;
+
+import duke.command.Command;
+
+/**
+ * Collects the latencies and costs of the commands executed and of the storage, for the {@code stats} command.
+ * <p>
+ * For every {@link Command.Type}, the number of commands executed, their latencies, the number of tasks they
+ * changed and an estimate of the memory they allocated are counted. For the storage, the latencies of saving
+ * and loading tasks and the number of bytes written are counted. Everything is counted with adders, so
+ * recording is cheap and may be done from any thread.
+ * <p>
+ * The metrics of the application are collected in the instance returned by {@link #getInstance()}, and may be
+ * dumped to a file periodically with {@link #dumpPeriodically(Path, long)}.
+ */
+public class Metrics {
+
+    private static final Metrics INSTANCE = new Metrics();
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final Map<Command.Type, CommandMetrics> commands = new EnumMap<>(Command.Type.class);
+    private final LatencyHistogram saveLatency = new LatencyHistogram();
+    private final LatencyHistogram loadLatency = new LatencyHistogram();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final ThreadMXBean threads = getThreadBean();
+
+    /**
+     * Constructs an empty {@code Metrics}.
+     */
+    public Metrics() {
+        // Every type is added up front, so the map is never modified while it is read by other threads
+        for (Command.Type type : Command.Type.values()) {
+            commands.put(type, new CommandMetrics());
+        }
+    }
+
+    /**
+     * Returns the metrics of the application.
+     *
+     * @return The metrics shared by every part of the application.
+     */
+    public static Metrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, to estimate the memory allocated by
+     * a command by the difference before and after it is executed.
+     *
+     * @return The number of bytes allocated by the current thread, or -1 if the JVM does not track it.
+     */
+    public long getAllocatedBytes() {
+        if (threads == null) {
+            return -1;
+        }
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Records the execution of a command.
+     *
+     * @param type The type of the command.
+     * @param nanos The time taken to execute the command and display its results, in nanoseconds.
+     * @param allocatedBytes The number of bytes allocated by the command, or a negative number if unknown.
+     * @param changedTasks The number of tasks added, removed or replaced by the command.
+     */
+    public void recordCommand(Command.Type type, long nanos, long allocatedBytes, int changedTasks) {
+        assert type != null : "Type must not be null";
+
+        CommandMetrics metrics = commands.get(type);
+        metrics.latency.record(nanos);
+        metrics.changedTasks.add(changedTasks);
+        if (allocatedBytes >= 0) {
+            metrics.allocatedBytes.add(allocatedBytes);
+        }
+    }
+
+    /**
+     * Records tasks saved to storage.
+     *
+     * @param nanos The time taken to save the tasks, in nanoseconds.
+     * @param bytes The number of bytes written to the storage medium.
+     */
+    public void recordSave(long nanos, long bytes) {
+        saveLatency.record(nanos);
+        bytesWritten.add(bytes);
+    }
+
+    /**
+     * Records tasks loaded from storage.
+     *
+     * @param nanos The time taken to load the tasks, in nanoseconds.
+     */
+    public void recordLoad(long nanos) {
+        loadLatency.record(nanos);
+    }
+
+    /**
+     * Returns a report of the metrics, one line per command type executed so far, followed by the storage.
+     * <p>
+     * Latencies are reported in microseconds, as the mean, the 50th, 99th percentile and the maximum.
+     *
+     * @return The lines of the report.
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        lines.add("command: count, latency in us (mean p50 p99 max), tasks changed, bytes allocated");
+        for (Map.Entry<Command.Type, CommandMetrics> entry : commands.entrySet()) {
+            CommandMetrics metrics = entry.getValue();
+            if (metrics.latency.getCount() == 0) {
+                continue;
+            }
+            lines.add(String.format("%s: %d, %s, %d, %s", entry.getKey().name().toLowerCase(),
+                    metrics.latency.getCount(), formatLatency(metrics.latency), metrics.changedTasks.sum(),
+                    threads == null ? "unknown" : String.valueOf(metrics.allocatedBytes.sum())));
+        }
+        lines.add(String.format("save: %d, %s, %d bytes written",
+                saveLatency.getCount(), formatLatency(saveLatency), bytesWritten.sum()));
+        lines.add(String.format("load: %d, %s", loadLatency.getCount(), formatLatency(loadLatency)));
+        return lines;
+    }
+
+    /**
+     * Writes the report of the metrics to the file every given interval, on a background thread.
+     * <p>
+     * The file is replaced with the latest report every time, so that it is never read half-written.
+     *
+     * @param path The file to write the report to.
+     * @param intervalMillis The interval between reports, in milliseconds.
+     */
+    public void dumpPeriodically(Path path, long intervalMillis) {
+        assert path != null : "Path must not be null";
+        assert intervalMillis > 0 : "Interval must be positive";
+
+        ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dumper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> dump(path), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void dump(Path path) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("# %s", LocalDateTime.now()));
+        lines.addAll(report());
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.write(temporaryPath, lines, StandardCharsets.UTF_8);
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // Metrics are best effort, so a failed dump is left for the next one to retry
+        }
+    }
+
+    private static String formatLatency(LatencyHistogram latency) {
+        return String.format("%d %d %d %d", latency.getMean() / NANOS_PER_MICRO,
+                latency.getPercentile(50) / NANOS_PER_MICRO, latency.getPercentile(99) / NANOS_PER_MICRO,
+                latency.getMax() / NANOS_PER_MICRO);
+    }
+
+    private static ThreadMXBean getThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * The metrics of the commands of one type.
+     */
+    private static final class CommandMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder changedTasks = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+    }
+}
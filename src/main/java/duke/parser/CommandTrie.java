@@ -0,0 +1,55 @@
+package duke.parser;
+
+import duke.command.Command;
+
+/**
+ * A trie over the names of the {@link Command.Type} values, used to identify the command type of an input.
+ * <p>
+ * The command word is matched case-insensitively in place, one character at a time, so identifying the type
+ * of an input does not allocate.
+ */
+final class CommandTrie {
+
+    private static final int ALPHABET_SIZE = 26;
+
+    private final Node root = new Node();
+
+    /**
+     * Constructs a {@code CommandTrie} containing every {@link Command.Type}.
+     */
+    CommandTrie() {
+        for (Command.Type type : Command.Type.values()) {
+            Node node = root;
+            for (char c : type.name().toCharArray()) {
+                assert c >= 'A' && c <= 'Z' : "Command type names must only contain letters";
+                if (node.children[c - 'A'] == null) {
+                    node.children[c - 'A'] = new Node();
+                }
+                node = node.children[c - 'A'];
+            }
+            node.type = type;
+        }
+    }
+
+    /**
+     * Returns the command type named by the characters of the input in the specified range.
+     *
+     * @param input The input containing the command word.
+     * @param start The index of the first character of the command word.
+     * @param end The index after the last character of the command word.
+     * @return The command type, or {@code null} if the characters do not name a command type.
+     */
+    Command.Type find(CharSequence input, int start, int end) {
+        Node node = root;
+        for (int i = start; i < end && node != null; i++) {
+            char c = Character.toUpperCase(input.charAt(i));
+            node = c >= 'A' && c <= 'Z' ? node.children[c - 'A'] : null;
+        }
+        return node == null ? null : node.type;
+    }
+
+    private static class Node {
+        private final Node[] children = new Node[ALPHABET_SIZE];
+        private Command.Type type;
+    }
+}
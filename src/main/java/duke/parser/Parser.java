@@ -3,12 +3,16 @@ package duke.parser;
 import duke.command.AddDeadlineCommand;
 import duke.command.AddEventCommand;
 import duke.command.AddTodoCommand;
+import duke.command.ArchiveCommand;
+import duke.command.BatchCommand;
 import duke.command.ByeCommand;
 import duke.command.Command;
 import duke.command.DeleteCommand;
+import duke.command.DueCommand;
 import duke.command.FindCommand;
 import duke.command.ListCommand;
 import duke.command.MarkCommand;
+import duke.command.StatsCommand;
 import duke.command.UndoCommand;
 import duke.command.UnmarkCommand;
 import duke.exception.ParseCommandException;
@@ -21,11 +25,14 @@ import duke.exception.ParseCommandException;
  */
 public class Parser {
 
+    private static final CommandTrie COMMANDS = new CommandTrie();
+
     /**
      * Parses the given input string into a corresponding {@link Command} object.
      * <p>
-     * The method splits the input string to identify the command type, and based on that, delegates the parsing to
-     * the appropriate command class. If the command is unknown or invalid, a {@link ParseCommandException} is thrown.
+     * The method looks up the first word of the input in a trie of the command types, ignoring case, and based on
+     * that, delegates the parsing to the appropriate command class. If the command is unknown or invalid, a
+     * {@link ParseCommandException} is thrown.
      *
      * @param input The input string from the user.
      * @return A {@link Command} object corresponding to the parsed command.
@@ -35,28 +42,37 @@ public class Parser {
         assert input != null : "Input must not be null";
         assert input.length() > 0 : "Input string should not be empty";
 
-        String[] parts = input.split("\\s+");
-        String command = parts[0].toUpperCase();
-
-        Command.Type commandType;
+        int end = 0;
+        while (end < input.length() && !isWhitespace(input.charAt(end))) {
+            end++;
+        }
 
-        try {
-            commandType = Command.Type.valueOf(command);
-        } catch (IllegalArgumentException e) {
-            throw new ParseCommandException(String.format("Unknown command [%s]", parts[0]));
+        Command.Type commandType = COMMANDS.find(input, 0, end);
+        if (commandType == null) {
+            throw new ParseCommandException(String.format("Unknown command [%s]", input.substring(0, end)));
         }
 
         return switch (commandType) {
+        case ARCHIVE -> ArchiveCommand.parse(input);
+        case BATCH -> BatchCommand.parse(input);
         case DEADLINE -> AddDeadlineCommand.parse(input);
         case DELETE -> DeleteCommand.parse(input);
+        case DUE -> DueCommand.parse(input);
         case EVENT -> AddEventCommand.parse(input);
         case FIND -> FindCommand.parse(input);
         case LIST -> ListCommand.parse(input);
         case MARK -> MarkCommand.parse(input);
+        case ON -> DueCommand.parseOn(input);
+        case STATS -> StatsCommand.parse(input);
         case TODO -> AddTodoCommand.parse(input);
         case UNDO -> UndoCommand.parse(input);
         case UNMARK -> UnmarkCommand.parse(input);
         case BYE -> ByeCommand.parse(input);
         };
     }
+
+    // Matches the characters of the `\s` regex character class
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 }
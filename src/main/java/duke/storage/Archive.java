@@ -0,0 +1,139 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import duke.exception.ReadStorageException;
+import duke.exception.TaskNotFoundException;
+import duke.exception.WriteStorageException;
+import duke.index.TextIndex;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+/**
+ * Represents the archive of tasks moved out of the task list, kept in an append-only file.
+ * <p>
+ * Archived tasks are appended to the file in the format of {@link BinaryTaskFormat#append(Path, List)}, so
+ * archiving never rewrites the tasks archived before, and the archived tasks are never loaded with the task list.
+ * The file is only read the first time the archive is searched, into a text index of its own, which is then kept
+ * up to date with the tasks archived later.
+ * <p>
+ * Tasks that could not be appended are not archived at all, so that the caller can keep them in the task list
+ * instead of losing them.
+ */
+public class Archive {
+
+    private final Path path;
+    private final TextIndex index = new TextIndex();
+
+    /** The archived tasks, or {@code null} if the file has not been read yet. */
+    private TaskContainer tasks;
+
+    /**
+     * Constructs an {@code Archive} kept in the specified file, which is created once tasks are archived.
+     *
+     * @param path the file where archived tasks are appended
+     */
+    public Archive(Path path) {
+        assert path != null : "Path must not be null";
+
+        this.path = path;
+    }
+
+    /**
+     * Appends the given tasks to the archive file.
+     *
+     * @param archived the tasks to be archived, which keep their IDs
+     * @return the number of bytes written to the archive file
+     * @throws WriteStorageException if the tasks could not be appended, in which case none of them are archived
+     */
+    public synchronized long append(List<Task> archived) throws WriteStorageException {
+        assert archived != null : "Archived tasks must not be null";
+
+        long bytesWritten;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            bytesWritten = BinaryTaskFormat.append(path, archived);
+        } catch (IOException e) {
+            throw new WriteStorageException(String.format(
+                    "Error appending %d tasks to archive file [%s] %s", archived.size(), path, e.getMessage()));
+        }
+        if (tasks != null) {
+            tasks = tasks.copy();
+            addAll(tasks, archived);
+        }
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the archived tasks whose description contains all the given keywords.
+     * <p>
+     * The archive file is read and indexed the first time this is called. If any tasks in it cannot be read,
+     * the errors are displayed to the user, and the tasks before them are still searched.
+     *
+     * @param keywords the keywords that must all appear in the description of a task
+     * @param ui the user interface to display any errors encountered while reading the archive file
+     * @return the matching tasks, in the order they were archived
+     * @throws ReadStorageException if the archive file exists but cannot be read
+     */
+    public synchronized List<Task> find(List<String> keywords, Ui ui) throws ReadStorageException {
+        assert keywords != null && !keywords.isEmpty() : "Keywords must not be empty";
+        assert ui != null : "Ui must not be null";
+
+        if (tasks == null) {
+            tasks = read(ui);
+        }
+        index.sync(tasks);
+        Set<Task> matches = index.search(keywords);
+
+        List<Task> found = new ArrayList<>(matches.size());
+        if (!matches.isEmpty()) {
+            for (Task task : tasks) {
+                if (matches.contains(task)) {
+                    found.add(task);
+                }
+                if (found.size() == matches.size()) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private TaskContainer read(Ui ui) throws ReadStorageException {
+        TaskContainer archived = new PersistentTaskList();
+        if (Files.exists(path)) {
+            List<String> errors = new ArrayList<>();
+            try {
+                addAll(archived, BinaryTaskFormat.readAppended(path, errors));
+            } catch (IOException e) {
+                throw new ReadStorageException(String.format(
+                        "Error reading archive file [%s] %s", path, e.getMessage()));
+            }
+            if (!errors.isEmpty()) {
+                ui.showError(errors);
+            }
+        }
+        return archived;
+    }
+
+    private static void addAll(TaskContainer archived, List<Task> added) {
+        try {
+            for (Task task : added) {
+                // Inserting rather than adding keeps the IDs of tasks archived after tasks with greater IDs
+                archived.insert(archived.size(), task);
+            }
+        } catch (TaskNotFoundException e) {
+            throw new IllegalStateException("Tasks must be insertable at the end of the archive", e);
+        }
+    }
+}
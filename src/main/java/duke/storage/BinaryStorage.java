@@ -0,0 +1,116 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+
+import duke.exception.ReadStorageException;
+import duke.exception.WriteStorageException;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+/**
+ * A storage implementation that saves and loads tasks to/from a file in a compact binary format.
+ * <p>
+ * Tasks are stored with their dates as epoch days, so loading them does not need to parse any dates.
+ * If the file is found to be in the PSV (Pipe-Separated Values) format written by {@link FileStorage}
+ * when it is loaded, the tasks are read from it and the file is rewritten in the binary format. The original
+ * file is kept with a {@code .psv.bak} extension appended, in case any of its lines could not be parsed.
+ */
+public class BinaryStorage implements Storage {
+
+    private final Path path;
+    private final Path temporaryPath;
+    private final Path backupPath;
+
+    /**
+     * Constructs a {@code BinaryStorage} object with the specified file name.
+     *
+     * @param filename the name of the file where tasks will be stored
+     */
+    public BinaryStorage(String filename) {
+        this.path = Paths.get(filename);
+        this.temporaryPath = Paths.get(filename + ".tmp");
+        this.backupPath = Paths.get(filename + ".psv.bak");
+    }
+
+    /**
+     * Saves the tasks in the given task container to the storage file.
+     * <p>
+     * The tasks are written to a temporary file first, which then replaces the storage file, so the storage
+     * file is never left partially written.
+     *
+     * @param tasks the task container containing the tasks to be saved
+     * @param ui the user interface to display any error messages
+     * @throws WriteStorageException if there is an error writing to the storage file
+     */
+    @Override
+    public void save(TaskContainer tasks, Ui ui) throws WriteStorageException {
+        assert ui != null : "Ui must not be null";
+        assert tasks != null : "Tasks must not be null";
+
+        try {
+            write(tasks);
+        } catch (IOException e) {
+            throw new WriteStorageException(String.format(
+                    "Error writing tasklist to file [%s] %s", path, e.getMessage()));
+        }
+    }
+
+    /**
+     * Loads the tasks from the storage file into the given task container.
+     * <p>
+     * A file in the PSV format is migrated to the binary format after its tasks are loaded. If any errors are
+     * encountered while reading the tasks, they are displayed to the user.
+     *
+     * @param taskContainer the container where tasks will be added
+     * @param ui the user interface to display any error messages
+     * @throws ReadStorageException if there is an error reading from the storage file
+     */
+    @Override
+    public void load(TaskContainer taskContainer, Ui ui) throws ReadStorageException {
+        assert ui != null : "Ui must not be null";
+        assert taskContainer != null : "TaskContainer must not be null";
+
+        ArrayList<String> errors = new ArrayList<>();
+        try {
+            if (BinaryTaskFormat.isBinary(path)) {
+                BinaryTaskFormat.read(path, taskContainer, errors);
+            } else {
+                for (Task task : MappedPsvReader.read(path, errors)) {
+                    taskContainer.add(task);
+                }
+                migrate(taskContainer, errors);
+            }
+        } catch (IOException e) {
+            throw new ReadStorageException(String.format(
+                    "Error reading tasklist from file [%s] ", e.getMessage()));
+        }
+
+        if (!errors.isEmpty()) {
+            ui.showError(errors);
+        }
+    }
+
+    private void migrate(TaskContainer tasks, ArrayList<String> errors) {
+        try {
+            Files.copy(path, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            write(tasks);
+        } catch (IOException e) {
+            errors.add(String.format("Error migrating file [%s] to binary format %s", path, e.getMessage()));
+        }
+    }
+
+    private void write(TaskContainer tasks) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        BinaryTaskFormat.write(temporaryPath, tasks, 0);
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
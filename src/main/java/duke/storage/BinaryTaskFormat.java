@@ -0,0 +1,237 @@
+package duke.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.exception.ParseTaskException;
+import duke.task.EncodedTask;
+import duke.task.Task;
+import duke.task.TaskContainer;
+
+/**
+ * Reads and writes files of tasks in a compact binary format.
+ * <p>
+ * A file starts with a header consisting of the magic number {@code DUKE}, a format version, the sequence
+ * number of the last change included in the file and the number of tasks. It is followed by the tasks in
+ * order, each as its ID followed by the binary representation written by {@link Task#writeTo(java.io.DataOutput)}.
+ * <p>
+ * Files of version 1 do not have the IDs of the tasks, which are given new IDs when they are read.
+ * <p>
+ * Tasks can also be kept in an append-only file, whose header only has the magic number and format version, so
+ * that more tasks can be appended without rewriting the tasks before them.
+ */
+final class BinaryTaskFormat {
+
+    /** The first four bytes of every binary task file, "DUKE" in ASCII. */
+    static final int MAGIC = 0x44554B45;
+
+    /** The version of the format written by this class. */
+    static final short VERSION = 2;
+
+    /** The first version of the format, without the IDs of the tasks. */
+    static final short VERSION_WITHOUT_IDS = 1;
+
+    /** The length of the header: the magic number, version, sequence number and number of tasks. */
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+
+    /** The length of the header of an append-only file: the magic number and version. */
+    private static final int APPENDED_HEADER_BYTES = Integer.BYTES + Short.BYTES;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private BinaryTaskFormat() {
+    }
+
+    /**
+     * Returns whether the given file starts with the magic number of the binary format.
+     *
+     * @param path The file to check.
+     * @return {@code true} if the file exists and is a binary task file.
+     * @throws IOException If the file exists but cannot be read.
+     */
+    static boolean isBinary(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) > 0) {
+                // Keep reading until the magic number is complete or the file ends.
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Writes all the given tasks to a file, replacing its contents, and flushes it to the disk.
+     *
+     * @param path The file to write.
+     * @param tasks The tasks to be written.
+     * @param sequence The sequence number of the last change included in the tasks.
+     * @throws IOException If the file cannot be written.
+     */
+    static void write(Path path, TaskContainer tasks, long sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(sequence);
+            out.writeInt(tasks.size());
+            for (Task task : tasks) {
+                out.writeLong(task.getId());
+                task.writeTo(out);
+            }
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Reads the tasks in a file into the given container, and returns the sequence number in its header.
+     * <p>
+     * Tasks can only be read in order, so reading stops at the first task that cannot be read. The tasks
+     * before it are kept, and the error is added to {@code errors}.
+     * <p>
+     * The tasks are only measured and checked, and added to the container with
+     * {@link TaskContainer#addEncoded(EncodedTask)}, so that a container that supports it decodes each task
+     * only when it is needed.
+     *
+     * @param path The file to read.
+     * @param taskContainer The container where tasks will be added.
+     * @param errors The list that errors encountered while reading tasks are added to.
+     * @return The sequence number of the last change included in the file.
+     * @throws IOException If the file cannot be read, or does not have a valid header.
+     */
+    static long read(Path path, TaskContainer taskContainer, List<String> errors) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.remaining() < HEADER_BYTES) {
+            throw new EOFException(String.format("Binary task file [%s] ended in its header", path));
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException(String.format("File [%s] is not a binary task file", path));
+        }
+        short version = buffer.getShort();
+        if (version != VERSION && version != VERSION_WITHOUT_IDS) {
+            throw new IOException(String.format("Unsupported binary task file version [%d]", version));
+        }
+        long sequence = buffer.getLong();
+        int count = buffer.getInt();
+
+        int offset = buffer.position();
+        for (int i = 0; i < count; i++) {
+            try {
+                long id = Task.NO_ID;
+                if (version != VERSION_WITHOUT_IDS) {
+                    if (bytes.length - offset < Long.BYTES) {
+                        throw new EOFException();
+                    }
+                    id = buffer.getLong(offset);
+                    offset += Long.BYTES;
+                }
+                EncodedTask task = EncodedTask.of(id, bytes, offset);
+                taskContainer.addEncoded(task);
+                offset += task.getLength();
+            } catch (EOFException e) {
+                errors.add(String.format("Binary task file ended after task [%d] of [%d]", i, count));
+                break;
+            } catch (ParseTaskException e) {
+                errors.add(String.format("Unable to read task [%d] of [%d]: %s", i + 1, count,
+                        e.getMessage()));
+                break;
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Appends the given tasks to an append-only file, creating it if it does not exist, and flushes it to the
+     * disk. If the tasks cannot be appended, the file is truncated back to its size before, where possible.
+     *
+     * @param path The file to append to.
+     * @param tasks The tasks to be appended.
+     * @return The number of bytes written.
+     * @throws IOException If the file cannot be written.
+     */
+    static long append(Path path, List<Task> tasks) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            long sizeBefore = channel.size();
+            try {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                        Channels.newOutputStream(channel), BUFFER_SIZE));
+                if (sizeBefore == 0) {
+                    out.writeInt(MAGIC);
+                    out.writeShort(VERSION);
+                }
+                for (Task task : tasks) {
+                    out.writeLong(task.getId());
+                    task.writeTo(out);
+                }
+                out.flush();
+                channel.force(true);
+                return channel.size() - sizeBefore;
+            } catch (IOException e) {
+                // Drop whatever was written, so that the tasks appended next do not follow a partial task
+                channel.truncate(sizeBefore);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Reads all the tasks in an append-only file, keeping their IDs.
+     * <p>
+     * Reading stops at the first task that cannot be read, such as one that was only partly appended. The tasks
+     * before it are returned, and the error is added to {@code errors}.
+     *
+     * @param path The file to read.
+     * @param errors The list that errors encountered while reading tasks are added to.
+     * @return The tasks in the file, in the order they were appended.
+     * @throws IOException If the file cannot be read, or does not have a valid header.
+     */
+    static List<Task> readAppended(Path path, List<String> errors) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.remaining() < APPENDED_HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException(String.format("File [%s] is not an append-only task file", path));
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException(String.format("Unsupported append-only task file version [%d]", version));
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        int offset = buffer.position();
+        while (offset < bytes.length) {
+            try {
+                if (bytes.length - offset < Long.BYTES) {
+                    throw new EOFException();
+                }
+                EncodedTask task = EncodedTask.of(buffer.getLong(offset), bytes, offset + Long.BYTES);
+                tasks.add(task.decode());
+                offset += Long.BYTES + task.getLength();
+            } catch (EOFException e) {
+                errors.add(String.format("File [%s] ended in the middle of task [%d]", path, tasks.size() + 1));
+                break;
+            } catch (ParseTaskException e) {
+                errors.add(String.format("Unable to read task [%d] of file [%s]: %s", tasks.size() + 1, path,
+                        e.getMessage()));
+                break;
+            }
+        }
+        return tasks;
+    }
+}
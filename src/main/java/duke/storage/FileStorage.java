@@ -1,14 +1,11 @@
 package duke.storage;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 
-import duke.exception.ParseTaskException;
 import duke.exception.ReadStorageException;
 import duke.exception.WriteStorageException;
 import duke.task.Task;
@@ -19,6 +16,7 @@ import duke.ui.Ui;
  * A storage implementation that handles saving and loading tasks to/from a file.
  * <p>
  * The tasks are stored in a file in the PSV (Pipe-Separated Values) format.
+ * Lines starting with {@code #} are ignored when loading.
  * This class is responsible for reading from and writing to the storage file.
  */
 public class FileStorage implements Storage {
@@ -83,7 +81,9 @@ public class FileStorage implements Storage {
     /**
      * Loads the tasks from the storage file into the given task container.
      * <p>
-     * If any errors are encountered while parsing the tasks, they are displayed to the user.
+     * Large files are memory-mapped and parsed in parallel chunks, but the tasks are still added in the order
+     * they appear in the file. If any errors are encountered while parsing the tasks, they are displayed to
+     * the user.
      *
      * @param taskContainer the container where tasks will be added
      * @param ui the user interface to display any error messages
@@ -94,16 +94,10 @@ public class FileStorage implements Storage {
         assert ui != null : "Ui must not be null";
         assert taskContainer != null : "TaskContainer must not be null";
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
+        try {
             ArrayList<String> errors = new ArrayList<>();
-            while ((line = reader.readLine()) != null) {
-                try {
-                    Task task = Task.fromPsvString(line);
-                    taskContainer.add(task);
-                } catch (ParseTaskException e) {
-                    errors.add(e.getMessage());
-                }
+            for (Task task : MappedPsvReader.read(file.toPath(), errors)) {
+                taskContainer.add(task);
             }
             if (!errors.isEmpty()) {
                 ui.showError(errors);
@@ -0,0 +1,577 @@
+package duke.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import duke.exception.ParseTaskException;
+import duke.exception.ReadStorageException;
+import duke.exception.TaskNotFoundException;
+import duke.exception.WriteStorageException;
+import duke.task.Task;
+import duke.task.TaskChange;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+/**
+ * A storage implementation that appends every change to a write-ahead log instead of rewriting all tasks.
+ * <p>
+ * The tasks are kept in a snapshot file in the binary format of {@link BinaryStorage}, whose header holds the
+ * sequence number of the last change the snapshot contains. Each change made to the task container is appended
+ * as one record to a log file next to the snapshot:
+ * <ul>
+ * <li>{@code seq | I | index | task} for a task inserted at an index</li>
+ * <li>{@code seq | S | index | task} for a task replaced at an index, such as when it is marked</li>
+ * <li>{@code seq | D | index} for a task deleted at an index</li>
+ * </ul>
+ * Loading reads the snapshot and replays the records that are newer than it. Since records refer to tasks
+ * by their position, replaying stops at the first record that is corrupt or was only partly written, which
+ * is reported to the user, and the tasks as of the record before it are compacted into a new snapshot.
+ * <p>
+ * The log is flushed to the disk in batches, and once it grows beyond a threshold it is moved aside and folded
+ * into a new snapshot on a background thread, while new records go to a fresh log.
+ * <p>
+ * Only the changes recorded by containers copied from the last loaded or saved container can be appended.
+ * Saving any other container writes a full snapshot instead.
+ * <p>
+ * Archived tasks are kept in an {@link Archive} next to the snapshot, with an {@code .archive} extension
+ * appended, which is neither loaded nor compacted with the tasks.
+ */
+public class LogStorage implements Storage {
+
+    /** Default size of the log, in bytes, beyond which it is folded into the snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    /** Default number of records that may be written before the log is flushed to the disk. */
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 64;
+
+    /** Default time, in milliseconds, that records may be written before the log is flushed to the disk. */
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+
+    private static final String HEADER_PREFIX = "#";
+    private static final String INSERT = "I";
+    private static final String REPLACE = "S";
+    private static final String DELETE = "D";
+
+    private final Path snapshotPath;
+    private final Path logPath;
+    private final Path compactingPath;
+    private final Path temporaryPath;
+    private final Path backupPath;
+    private final long compactionThreshold;
+    private final int syncBatchSize;
+    private final long syncIntervalMillis;
+    private final ExecutorService compactor;
+    private final Archive archive;
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    private FileChannel log;
+    private long sequence;
+    private long savedVersion = -1;
+    private int savedChangeCount;
+    private int unsyncedRecords;
+    private long lastSyncMillis;
+    private Future<?> compaction;
+
+    /**
+     * Constructs a {@code LogStorage} with the specified snapshot file name and the default thresholds.
+     * <p>
+     * The log is kept in a file with the same name and a {@code .log} extension appended.
+     *
+     * @param filename the name of the snapshot file where tasks will be stored
+     */
+    public LogStorage(String filename) {
+        this(filename, DEFAULT_COMPACTION_THRESHOLD, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogStorage} with the specified snapshot file name and thresholds.
+     *
+     * @param filename the name of the snapshot file where tasks will be stored
+     * @param compactionThreshold the size of the log, in bytes, beyond which it is folded into the snapshot
+     * @param syncBatchSize the number of records that may be written before the log is flushed to the disk
+     * @param syncIntervalMillis the time, in milliseconds, that records may be written before the log is
+     *     flushed to the disk
+     */
+    public LogStorage(String filename, long compactionThreshold, int syncBatchSize, long syncIntervalMillis) {
+        this.snapshotPath = Paths.get(filename);
+        this.logPath = Paths.get(filename + ".log");
+        this.compactingPath = Paths.get(filename + ".log.compacting");
+        this.temporaryPath = Paths.get(filename + ".tmp");
+        this.backupPath = Paths.get(filename + ".psv.bak");
+        this.compactionThreshold = compactionThreshold;
+        this.syncBatchSize = syncBatchSize;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.archive = new Archive(Paths.get(filename + ".archive"));
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-storage-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Appends the changes made to the given task container since it was last saved to the log.
+     * <p>
+     * If the container was not copied from the last loaded or saved container, all of its tasks are written
+     * to a new snapshot instead. Errors from a previous background compaction are reported to the user.
+     *
+     * @param tasks the task container containing the tasks to be saved
+     * @param ui the user interface to display any error messages
+     * @throws WriteStorageException if there is an error writing to the log or snapshot file
+     */
+    @Override
+    public synchronized void save(TaskContainer tasks, Ui ui) throws WriteStorageException {
+        assert ui != null : "Ui must not be null";
+        assert tasks != null : "Tasks must not be null";
+
+        reportCompactionErrors(ui);
+
+        List<TaskChange> changes = tasks.getChanges();
+        List<TaskChange> unsaved;
+        if (tasks.getBaseVersion() == savedVersion) {
+            unsaved = changes;
+        } else if (tasks.getVersion() == savedVersion) {
+            unsaved = changes.subList(savedChangeCount, changes.size());
+        } else {
+            compactNow(tasks);
+            return;
+        }
+
+        try {
+            append(unsaved);
+        } catch (IOException e) {
+            throw new WriteStorageException(String.format(
+                    "Error appending changes to log file [%s] %s", logPath, e.getMessage()));
+        }
+        markSaved(tasks);
+
+        if (isLogOversized() && compaction == null && !Files.exists(compactingPath)) {
+            startCompaction(tasks);
+        }
+    }
+
+    /**
+     * Loads the tasks from the snapshot file and replays the changes from the log into the given task container.
+     * <p>
+     * A snapshot in the PSV format is rewritten in the binary format once loaded, keeping the original with a
+     * {@code .psv.bak} extension appended. If any errors are encountered while parsing the tasks or records,
+     * they are displayed to the user.
+     *
+     * @param taskContainer the container where tasks will be added
+     * @param ui the user interface to display any error messages
+     * @throws ReadStorageException if there is an error reading from the storage files, or if there are none
+     */
+    @Override
+    public synchronized void load(TaskContainer taskContainer, Ui ui) throws ReadStorageException {
+        assert ui != null : "Ui must not be null";
+        assert taskContainer != null : "TaskContainer must not be null";
+
+        if (!Files.exists(snapshotPath) && !Files.exists(logPath) && !Files.exists(compactingPath)) {
+            throw new ReadStorageException(String.format("No storage file found at [%s]", snapshotPath));
+        }
+
+        ArrayList<String> errors = new ArrayList<>();
+        try {
+            boolean isLegacySnapshot = Files.exists(snapshotPath) && !BinaryTaskFormat.isBinary(snapshotPath);
+            if (isLegacySnapshot) {
+                Files.copy(snapshotPath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            long snapshotSequence = readSnapshot(taskContainer, errors);
+            sequence = snapshotSequence;
+            boolean hasLeftoverCompaction = Files.exists(compactingPath);
+            boolean isComplete = true;
+            if (hasLeftoverCompaction) {
+                isComplete = replay(compactingPath, snapshotSequence, taskContainer, errors);
+            }
+            if (isComplete) {
+                isComplete = replay(logPath, snapshotSequence, taskContainer, errors);
+            } else if (Files.exists(logPath)) {
+                errors.add(String.format("Skipped every log record in [%s]", logPath));
+            }
+
+            markSaved(taskContainer);
+            // The records after a bad one must not be replayed by the next load either, so the log is replaced
+            if (hasLeftoverCompaction || isLegacySnapshot || !isComplete) {
+                compactNow(taskContainer);
+            }
+        } catch (IOException e) {
+            throw new ReadStorageException(String.format(
+                    "Error reading tasklist from file [%s] ", e.getMessage()));
+        } catch (WriteStorageException e) {
+            errors.add(e.getMessage());
+        }
+
+        if (!errors.isEmpty()) {
+            ui.showError(errors);
+        }
+    }
+
+    /**
+     * Flushes all records written so far to the disk, waiting for a running compaction to finish first.
+     *
+     * @throws WriteStorageException if there is an error flushing the log or compacting it
+     */
+    @Override
+    public synchronized void flush() throws WriteStorageException {
+        try {
+            awaitCompaction();
+            if (log != null) {
+                log.force(false);
+            }
+            unsyncedRecords = 0;
+            lastSyncMillis = System.currentTimeMillis();
+        } catch (IOException e) {
+            throw new WriteStorageException(String.format(
+                    "Error flushing log file [%s] %s", logPath, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns whether the storage has an archive, which it always does.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean hasArchive() {
+        return true;
+    }
+
+    /**
+     * Appends the given tasks to the archive file.
+     * <p>
+     * The archive is written before this returns, so tasks are archived before the task list they were removed
+     * from is saved.
+     *
+     * @param tasks the tasks to be archived
+     * @param ui the user interface to display any error messages
+     * @throws WriteStorageException if the tasks could not be appended to the archive file
+     */
+    @Override
+    public void archive(List<Task> tasks, Ui ui) throws WriteStorageException {
+        bytesWritten.addAndGet(archive.append(tasks));
+    }
+
+    /**
+     * Returns the archived tasks whose description contains all the given keywords, reading the archive file
+     * the first time it is searched.
+     *
+     * @param keywords the keywords that must all appear in the description of a task
+     * @param ui the user interface to display any errors encountered while reading the archive file
+     * @return the matching tasks, in the order they were archived
+     * @throws ReadStorageException if the archive file could not be read
+     */
+    @Override
+    public List<Task> findArchived(List<String> keywords, Ui ui) throws ReadStorageException {
+        return archive.find(keywords, ui);
+    }
+
+    /**
+     * Returns the number of bytes written to the log, to snapshots and to the archive so far, including by
+     * compactions.
+     *
+     * @return the number of bytes written
+     */
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    private void markSaved(TaskContainer tasks) {
+        savedVersion = tasks.getVersion();
+        savedChangeCount = tasks.getChanges().size();
+    }
+
+    private boolean isLogOversized() {
+        try {
+            return log != null && log.size() > compactionThreshold;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void append(List<TaskChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (TaskChange change : changes) {
+            sequence++;
+            records.append(sequence).append(" | ");
+            if (change instanceof TaskChange.Insert insert) {
+                records.append(INSERT).append(" | ").append(change.getIndex()).append(" | ")
+                        .append(insert.getTask().toPsvString());
+            } else if (change instanceof TaskChange.Replace replace) {
+                records.append(REPLACE).append(" | ").append(change.getIndex()).append(" | ")
+                        .append(replace.getTask().toPsvString());
+            } else {
+                records.append(DELETE).append(" | ").append(change.getIndex());
+            }
+            records.append('\n');
+        }
+
+        if (log == null) {
+            openLog();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            log.write(buffer);
+        }
+        bytesWritten.addAndGet(buffer.limit());
+
+        unsyncedRecords += changes.size();
+        long now = System.currentTimeMillis();
+        if (unsyncedRecords >= syncBatchSize || now - lastSyncMillis >= syncIntervalMillis) {
+            log.force(false);
+            unsyncedRecords = 0;
+            lastSyncMillis = now;
+        }
+    }
+
+    private void openLog() throws IOException {
+        Path parent = logPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private void closeLog() throws IOException {
+        if (log != null) {
+            log.force(false);
+            log.close();
+            log = null;
+        }
+    }
+
+    /**
+     * Moves the current log aside and folds it into a new snapshot of the given tasks on a background thread.
+     */
+    private void startCompaction(TaskContainer tasks) throws WriteStorageException {
+        TaskContainer snapshot = tasks.copy();
+        long snapshotSequence = sequence;
+        try {
+            closeLog();
+            Files.move(logPath, compactingPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new WriteStorageException(String.format(
+                    "Error rotating log file [%s] %s", logPath, e.getMessage()));
+        }
+
+        compaction = compactor.submit(() -> {
+            writeSnapshot(snapshot, snapshotSequence);
+            Files.deleteIfExists(compactingPath);
+            return null;
+        });
+    }
+
+    /**
+     * Writes all the given tasks to a new snapshot and discards the log.
+     */
+    private void compactNow(TaskContainer tasks) throws WriteStorageException {
+        try {
+            awaitCompaction();
+        } catch (IOException e) {
+            // The snapshot written below supersedes the one the background compaction failed to write.
+        }
+        try {
+            writeSnapshot(tasks, sequence);
+            closeLog();
+            Files.deleteIfExists(compactingPath);
+            Files.deleteIfExists(logPath);
+        } catch (IOException e) {
+            throw new WriteStorageException(String.format(
+                    "Error writing tasklist to file [%s] %s", snapshotPath, e.getMessage()));
+        }
+        markSaved(tasks);
+    }
+
+    private void awaitCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compacting log", e);
+        } finally {
+            compaction = null;
+        }
+    }
+
+    private void reportCompactionErrors(Ui ui) {
+        if (compaction == null || !compaction.isDone()) {
+            return;
+        }
+        try {
+            awaitCompaction();
+        } catch (IOException e) {
+            ui.showError(String.format("Error compacting log file [%s] %s", compactingPath, e.getMessage()));
+        }
+    }
+
+    private void writeSnapshot(TaskContainer tasks, long snapshotSequence) throws IOException {
+        Path parent = snapshotPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        BinaryTaskFormat.write(temporaryPath, tasks, snapshotSequence);
+        bytesWritten.addAndGet(Files.size(temporaryPath));
+        Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the tasks in the snapshot into the container and returns the sequence number in its header.
+     * Snapshots in the PSV format have their sequence number in a header line starting with {@code #}.
+     */
+    private long readSnapshot(TaskContainer taskContainer, List<String> errors) throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return 0;
+        }
+        if (BinaryTaskFormat.isBinary(snapshotPath)) {
+            return BinaryTaskFormat.read(snapshotPath, taskContainer, errors);
+        }
+
+        long snapshotSequence = 0;
+        try (BufferedReader reader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header != null && header.startsWith(HEADER_PREFIX)) {
+                // Without a valid sequence number, every record in the log is replayed rather than none
+                snapshotSequence = parseSequence(header.substring(HEADER_PREFIX.length()), errors).orElse(0);
+            }
+        }
+        for (Task task : MappedPsvReader.read(snapshotPath, errors)) {
+            taskContainer.add(task);
+        }
+        return snapshotSequence;
+    }
+
+    /**
+     * Applies the records in the given log file that are newer than the snapshot to the container.
+     * <p>
+     * Every record ends with a line break, so a last line without one is a record that was only partly written,
+     * such as when the application was stopped while appending it, and is not applied. Replaying stops at the
+     * first record that cannot be parsed or applied, as the positions in the records after it no longer refer
+     * to the same tasks.
+     *
+     * @return {@code true} if every record in the log was replayed.
+     */
+    private boolean replay(Path path, long snapshotSequence, TaskContainer taskContainer, List<String> errors)
+            throws IOException {
+        if (!Files.exists(path)) {
+            return true;
+        }
+
+        boolean isComplete = endsWithLineBreak(path);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String next = reader.readLine();
+                if (next == null && !isComplete) {
+                    errors.add(String.format("Skipped incomplete log record [%s] at the end of [%s]", line, path));
+                    return false;
+                }
+                if (!replayRecord(line, snapshotSequence, taskContainer, errors)) {
+                    errors.add(String.format("Skipped the log records after [%s] in [%s]", line, path));
+                    return false;
+                }
+                line = next;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies the record to the container if it is newer than the snapshot.
+     *
+     * @return {@code false} if the record could not be parsed or applied.
+     */
+    private boolean replayRecord(String line, long snapshotSequence, TaskContainer taskContainer,
+            List<String> errors) {
+        if (line.isBlank()) {
+            return true;
+        }
+        String[] parts = line.split("\\|", 4);
+        OptionalLong recordSequence = parseSequence(parts[0], errors);
+        if (recordSequence.isEmpty()) {
+            return false;
+        }
+        if (recordSequence.getAsLong() <= snapshotSequence) {
+            return true;
+        }
+        try {
+            applyRecord(parts, taskContainer);
+            sequence = Math.max(sequence, recordSequence.getAsLong());
+            return true;
+        } catch (ParseTaskException | TaskNotFoundException | NumberFormatException e) {
+            errors.add(String.format("Unable to replay log record [%s]: %s", line, e.getMessage()));
+            return false;
+        }
+    }
+
+    private static boolean endsWithLineBreak(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, channel.size() - 1);
+            return last.get(0) == '\n';
+        }
+    }
+
+    private void applyRecord(String[] parts, TaskContainer taskContainer)
+            throws ParseTaskException, TaskNotFoundException {
+        if (parts.length < 3) {
+            throw new ParseTaskException("Log record has invalid number of columns");
+        }
+
+        String operation = parts[1].trim();
+        int index = Integer.parseInt(parts[2].trim());
+        if (operation.equals(DELETE)) {
+            taskContainer.remove(index);
+            return;
+        }
+
+        if (parts.length != 4) {
+            throw new ParseTaskException("Log record has invalid number of columns");
+        }
+        Task task = Task.fromPsvString(parts[3].trim());
+        switch (operation) {
+        case INSERT -> taskContainer.insert(index, task);
+        case REPLACE -> taskContainer.set(index, task);
+        default -> throw new ParseTaskException(String.format("Unknown log operation [%s]", operation));
+        }
+    }
+
+    private static OptionalLong parseSequence(String sequenceString, List<String> errors) {
+        try {
+            return OptionalLong.of(Long.parseLong(sequenceString.trim()));
+        } catch (NumberFormatException e) {
+            errors.add(String.format("Unable to parse sequence number [%s]", sequenceString.trim()));
+            return OptionalLong.empty();
+        }
+    }
+}
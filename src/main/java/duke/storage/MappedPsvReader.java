@@ -0,0 +1,204 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import duke.exception.ParseTaskException;
+import duke.task.Task;
+
+/**
+ * Reads tasks from a PSV (Pipe-Separated Values) file by parsing parts of the file in parallel.
+ * <p>
+ * The file is split into chunks that end at a line break, and each chunk is memory-mapped, decoded and parsed
+ * on the common fork-join pool. The tasks and parse errors of all chunks are then joined in the order they
+ * appear in the file. Lines starting with {@code #} are ignored.
+ */
+final class MappedPsvReader {
+
+    /** Default size of a chunk, in bytes. Files smaller than this are parsed on the calling thread. */
+    static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private MappedPsvReader() {
+    }
+
+    /**
+     * Reads all tasks from the given file, in the order they appear in the file.
+     *
+     * @param path The file to read.
+     * @param errors The list that errors encountered while parsing tasks are added to.
+     * @return The tasks read from the file.
+     * @throws IOException If the file cannot be read.
+     */
+    static List<Task> read(Path path, List<String> errors) throws IOException {
+        return read(path, errors, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Reads all tasks from the given file, splitting it into chunks of about the given size.
+     *
+     * @param path The file to read.
+     * @param errors The list that errors encountered while parsing tasks are added to.
+     * @param chunkSize The size of a chunk, in bytes.
+     * @return The tasks read from the file.
+     * @throws IOException If the file cannot be read.
+     */
+    static List<Task> read(Path path, List<String> errors, int chunkSize) throws IOException {
+        assert chunkSize > 0 : "Chunk size must be positive";
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            List<Long> boundaries = split(channel, chunkSize);
+            ChunkResult result;
+            if (boundaries.size() <= 2) {
+                result = new ParseTask(channel, boundaries, 0, boundaries.size() - 1).compute();
+            } else {
+                result = ForkJoinPool.commonPool().invoke(
+                        new ParseTask(channel, boundaries, 0, boundaries.size() - 1));
+            }
+            errors.addAll(result.errors);
+            return result.tasks;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the offsets where chunks start, followed by the size of the file.
+     * Every chunk except the last one ends right after a line break.
+     */
+    private static List<Long> split(FileChannel channel, int chunkSize) throws IOException {
+        long size = channel.size();
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long start = 0;
+        while (size - start > chunkSize) {
+            long position = start + chunkSize;
+            long lineEnd = -1;
+            while (lineEnd < 0 && position < size) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == '\n') {
+                        lineEnd = position + i + 1;
+                        break;
+                    }
+                }
+                position += read;
+            }
+            if (lineEnd < 0 || lineEnd >= size) {
+                break;
+            }
+            boundaries.add(lineEnd);
+            start = lineEnd;
+        }
+
+        boundaries.add(size);
+        return boundaries;
+    }
+
+    /**
+     * Parses the lines of a chunk, which starts at a line and ends after a line break or at the end of the file.
+     */
+    private static ChunkResult parseChunk(FileChannel channel, long start, long end) {
+        ChunkResult result = new ChunkResult();
+        if (start == end) {
+            return result;
+        }
+
+        String text;
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            text = StandardCharsets.UTF_8.decode(buffer).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int lineStart = 0;
+        while (lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = text.length();
+            }
+            String line = text.substring(lineStart, lineEnd);
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+            lineStart = lineEnd + 1;
+
+            if (line.startsWith("#")) {
+                continue;
+            }
+            try {
+                result.tasks.add(Task.fromPsvString(line));
+            } catch (ParseTaskException e) {
+                result.errors.add(e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The tasks and parse errors of a range of chunks, in file order.
+     */
+    private static final class ChunkResult {
+        private final List<Task> tasks = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        private ChunkResult append(ChunkResult other) {
+            tasks.addAll(other.tasks);
+            errors.addAll(other.errors);
+            return this;
+        }
+    }
+
+    /**
+     * Parses the chunks from {@code first} to {@code last}, exclusive, forking halves until one chunk is left.
+     * <p>
+     * Like every {@link java.util.concurrent.ForkJoinTask}, this is serializable, but it is never serialized, so
+     * the file it reads is not part of its serialized form.
+     */
+    private static final class ParseTask extends RecursiveTask<ChunkResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final transient List<Long> boundaries;
+        private final int first;
+        private final int last;
+
+        private ParseTask(FileChannel channel, List<Long> boundaries, int first, int last) {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            if (last - first <= 1) {
+                return parseChunk(channel, boundaries.get(first), boundaries.get(last));
+            }
+
+            int middle = (first + last) >>> 1;
+            ParseTask left = new ParseTask(channel, boundaries, first, middle);
+            left.fork();
+            ChunkResult right = new ParseTask(channel, boundaries, middle, last).compute();
+            return left.join().append(right);
+        }
+    }
+}
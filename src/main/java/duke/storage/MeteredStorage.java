@@ -0,0 +1,129 @@
+package duke.storage;
+
+import java.util.List;
+
+import duke.exception.ReadStorageException;
+import duke.exception.WriteStorageException;
+import duke.metrics.Metrics;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.trace.Span;
+import duke.ui.Ui;
+
+/**
+ * A storage decorator that records the time taken to save and load tasks, and the bytes written, in
+ * {@link Metrics}, and traces every save and load as a {@link Span}.
+ * <p>
+ * To measure the writes themselves rather than the hand-over to a background thread, this storage should be
+ * decorated by a {@link WriteBehindStorage}, rather than decorate one.
+ */
+public class MeteredStorage implements Storage {
+
+    private final Storage storage;
+    private final Metrics metrics;
+
+    /**
+     * Constructs a {@code MeteredStorage} recording the saves and loads of the given storage.
+     *
+     * @param storage the storage that tasks are saved to and loaded from
+     * @param metrics the metrics to record the saves and loads in
+     */
+    public MeteredStorage(Storage storage, Metrics metrics) {
+        assert storage != null : "Storage must not be null";
+        assert metrics != null : "Metrics must not be null";
+
+        this.storage = storage;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Saves the tasks to the underlying storage, recording the time taken and the bytes written.
+     *
+     * @param tasks the task container containing the tasks to be saved
+     * @param ui the user interface to display any error messages
+     * @throws WriteStorageException if there is an error writing to the underlying storage
+     */
+    @Override
+    public void save(TaskContainer tasks, Ui ui) throws WriteStorageException {
+        long bytesBefore = storage.getBytesWritten();
+        long start = System.nanoTime();
+        try {
+            Span.run(Span.Stage.PERSIST, "save", () -> storage.save(tasks, ui));
+        } finally {
+            metrics.recordSave(System.nanoTime() - start, storage.getBytesWritten() - bytesBefore);
+        }
+    }
+
+    /**
+     * Loads the tasks from the underlying storage, recording the time taken.
+     *
+     * @param taskContainer the container where tasks will be added
+     * @param ui the user interface to display any error messages
+     * @throws ReadStorageException if there is an error reading from the underlying storage
+     */
+    @Override
+    public void load(TaskContainer taskContainer, Ui ui) throws ReadStorageException {
+        long start = System.nanoTime();
+        try {
+            Span.run(Span.Stage.PERSIST, "load", () -> storage.load(taskContainer, ui));
+        } finally {
+            metrics.recordLoad(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Blocks until the saved tasks are written by the underlying storage.
+     *
+     * @throws WriteStorageException if the saved tasks could not be written
+     */
+    @Override
+    public void flush() throws WriteStorageException {
+        storage.flush();
+    }
+
+    /**
+     * Returns whether the underlying storage has an archive.
+     *
+     * @return {@code true} if tasks can be archived in the underlying storage
+     */
+    @Override
+    public boolean hasArchive() {
+        return storage.hasArchive();
+    }
+
+    /**
+     * Archives the given tasks in the underlying storage, tracing the write as a {@link Span}.
+     *
+     * @param tasks the tasks to be archived
+     * @param ui the user interface to display any error messages
+     * @throws WriteStorageException if the tasks could not be archived by the underlying storage
+     */
+    @Override
+    public void archive(List<Task> tasks, Ui ui) throws WriteStorageException {
+        Span.run(Span.Stage.PERSIST, "archive", () -> storage.archive(tasks, ui));
+    }
+
+    /**
+     * Returns the archived tasks in the underlying storage whose description contains all the given keywords,
+     * tracing the search as a {@link Span}.
+     *
+     * @param keywords the keywords that must all appear in the description of a task
+     * @param ui the user interface to display any error messages
+     * @return the matching tasks, in the order they were archived
+     * @throws ReadStorageException if the archive of the underlying storage could not be read
+     */
+    @Override
+    public List<Task> findArchived(List<String> keywords, Ui ui) throws ReadStorageException {
+        return Span.call(Span.Stage.PERSIST, "find archived", () -> storage.findArchived(keywords, ui));
+    }
+
+    /**
+     * Returns the number of bytes written by the underlying storage so far.
+     *
+     * @return the number of bytes written
+     */
+    @Override
+    public long getBytesWritten() {
+        return storage.getBytesWritten();
+    }
+}
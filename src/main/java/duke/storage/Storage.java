@@ -1,7 +1,10 @@
 package duke.storage;
 
+import java.util.List;
+
 import duke.exception.ReadStorageException;
 import duke.exception.WriteStorageException;
+import duke.task.Task;
 import duke.task.TaskContainer;
 import duke.ui.Ui;
 
@@ -31,4 +34,63 @@ public interface Storage {
      * @throws ReadStorageException if there is an error during the reading process from the storage medium
      */
     public void load(TaskContainer taskContainer, Ui ui) throws ReadStorageException;
+
+    /**
+     * Blocks until all the tasks saved so far are durably written to the storage medium.
+     * <p>
+     * By default, tasks are written before {@link #save(TaskContainer, Ui)} returns, so there is nothing to wait for.
+     *
+     * @throws WriteStorageException if the saved tasks could not be written to the storage medium
+     */
+    public default void flush() throws WriteStorageException {
+    }
+
+    /**
+     * Returns the number of bytes written to the storage medium so far.
+     * <p>
+     * By default, the bytes written are not counted, so 0 is returned.
+     *
+     * @return the number of bytes written
+     */
+    public default long getBytesWritten() {
+        return 0;
+    }
+
+    /**
+     * Returns whether the storage medium has an archive that tasks can be moved into.
+     * <p>
+     * By default, the storage medium has no archive.
+     *
+     * @return {@code true} if tasks can be archived and searched in the archive
+     */
+    public default boolean hasArchive() {
+        return false;
+    }
+
+    /**
+     * Moves the given tasks, which were removed from the task list, into the archive of the storage medium.
+     * <p>
+     * By default, the storage medium has no archive, so the tasks cannot be archived.
+     *
+     * @param tasks the tasks to be archived
+     * @param ui the user interface to display any errors encountered during the archiving process
+     * @throws WriteStorageException if the tasks could not be archived, in which case none of them are
+     */
+    public default void archive(List<Task> tasks, Ui ui) throws WriteStorageException {
+        throw new WriteStorageException("Tasks cannot be archived in this storage.");
+    }
+
+    /**
+     * Returns the archived tasks whose description contains all the given keywords.
+     * <p>
+     * By default, the storage medium has no archive, so it cannot be searched.
+     *
+     * @param keywords the keywords that must all appear in the description of a task
+     * @param ui the user interface to display any errors encountered while reading the archive
+     * @return the matching tasks, in the order they were archived
+     * @throws ReadStorageException if the archive could not be read
+     */
+    public default List<Task> findArchived(List<String> keywords, Ui ui) throws ReadStorageException {
+        throw new ReadStorageException("This storage does not have an archive.");
+    }
 }
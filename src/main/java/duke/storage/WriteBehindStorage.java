@@ -0,0 +1,342 @@
+package duke.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import duke.exception.ReadStorageException;
+import duke.exception.TaskNotFoundException;
+import duke.exception.WriteStorageException;
+import duke.task.Task;
+import duke.task.TaskChange;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+/**
+ * A storage decorator that writes tasks on a background thread instead of the thread that saves them.
+ * <p>
+ * {@link #save(TaskContainer, Ui)} only hands the task container over to the writer thread and returns
+ * immediately. If more containers are saved while the writer is busy, only the latest one is written once it
+ * is free, so a burst of saves results in a single write. When each of these containers was copied from the one
+ * saved before it, the latest is written together with the changes recorded by all of them, so that a storage
+ * that appends the changes since the container it saved last, such as {@link LogStorage}, can still append
+ * them instead of rewriting all the tasks. Errors encountered by the writer are displayed through the
+ * {@link Ui} given with the save, and the container is written again on the next {@link #flush()}.
+ * <p>
+ * Saved containers are written later, so they must not be modified after they are saved. This holds for the
+ * containers of a {@link duke.State}, since commands modify a copy of the current container.
+ * <p>
+ * Archived tasks are written on the thread that archives them, so they are archived before any container
+ * saved afterwards, which no longer has them, is written.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private final Storage storage;
+    private final Object writeLock = new Object();
+
+    /** The latest container saved but not written yet, or {@code null} if there is none. */
+    private PendingSave pending;
+    private TaskContainer failed;
+    private Ui failedUi;
+    private boolean isWriting;
+
+    /**
+     * Constructs a {@code WriteBehindStorage} that writes to the given storage on a background thread.
+     *
+     * @param storage the storage that tasks are written to
+     */
+    public WriteBehindStorage(Storage storage) {
+        assert storage != null : "Storage must not be null";
+
+        this.storage = storage;
+        Thread writer = new Thread(this::runWriter, "write-behind-storage");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Schedules the given task container to be written by the background thread.
+     * <p>
+     * Any container that was saved earlier but is not written yet is replaced by this one. If this container
+     * was copied from it, the changes it recorded are written with this one.
+     *
+     * @param tasks the task container containing the tasks to be saved
+     * @param ui the user interface to display any error messages
+     */
+    @Override
+    public synchronized void save(TaskContainer tasks, Ui ui) {
+        assert ui != null : "Ui must not be null";
+        assert tasks != null : "Tasks must not be null";
+
+        if (pending != null && tasks.getBaseVersion() == pending.tasks.getVersion()) {
+            pending.append(tasks, ui);
+        } else {
+            pending = new PendingSave(tasks, ui);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Loads the tasks from the underlying storage, after all saved containers are written.
+     *
+     * @param taskContainer the container where tasks will be added
+     * @param ui the user interface to display any error messages
+     * @throws ReadStorageException if there is an error reading from the underlying storage
+     */
+    @Override
+    public void load(TaskContainer taskContainer, Ui ui) throws ReadStorageException {
+        awaitIdle();
+        synchronized (writeLock) {
+            storage.load(taskContainer, ui);
+        }
+    }
+
+    /**
+     * Blocks until the latest saved container is written and flushed by the underlying storage.
+     * <p>
+     * If the background thread failed to write the latest container, it is written again on this thread.
+     *
+     * @throws WriteStorageException if the latest container could not be written or flushed
+     */
+    @Override
+    public void flush() throws WriteStorageException {
+        awaitIdle();
+        synchronized (writeLock) {
+            TaskContainer retry;
+            Ui retryUi;
+            synchronized (this) {
+                retry = failed;
+                retryUi = failedUi;
+                failed = null;
+                failedUi = null;
+            }
+            if (retry != null) {
+                storage.save(retry, retryUi);
+            }
+            storage.flush();
+        }
+    }
+
+    /**
+     * Returns whether the underlying storage has an archive.
+     *
+     * @return {@code true} if tasks can be archived in the underlying storage
+     */
+    @Override
+    public boolean hasArchive() {
+        return storage.hasArchive();
+    }
+
+    /**
+     * Archives the given tasks in the underlying storage, on this thread.
+     *
+     * @param tasks the tasks to be archived
+     * @param ui the user interface to display any error messages
+     * @throws WriteStorageException if the tasks could not be archived by the underlying storage
+     */
+    @Override
+    public void archive(List<Task> tasks, Ui ui) throws WriteStorageException {
+        storage.archive(tasks, ui);
+    }
+
+    /**
+     * Returns the archived tasks in the underlying storage whose description contains all the given keywords.
+     *
+     * @param keywords the keywords that must all appear in the description of a task
+     * @param ui the user interface to display any error messages
+     * @return the matching tasks, in the order they were archived
+     * @throws ReadStorageException if the archive of the underlying storage could not be read
+     */
+    @Override
+    public List<Task> findArchived(List<String> keywords, Ui ui) throws ReadStorageException {
+        return storage.findArchived(keywords, ui);
+    }
+
+    /**
+     * Returns the number of bytes written by the underlying storage so far.
+     *
+     * @return the number of bytes written
+     */
+    @Override
+    public long getBytesWritten() {
+        return storage.getBytesWritten();
+    }
+
+    private synchronized void awaitIdle() {
+        boolean isInterrupted = false;
+        while (pending != null || isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            TaskContainer tasks;
+            Ui ui;
+            synchronized (this) {
+                while (pending == null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                tasks = pending.toContainer();
+                ui = pending.ui;
+                pending = null;
+                isWriting = true;
+            }
+
+            WriteStorageException error = null;
+            synchronized (writeLock) {
+                try {
+                    storage.save(tasks, ui);
+                } catch (WriteStorageException e) {
+                    error = e;
+                } catch (RuntimeException e) {
+                    error = new WriteStorageException(String.format(
+                            "Error saving tasks in the background [%s]", e.getMessage()));
+                }
+            }
+
+            if (error != null) {
+                ui.showError(error.getMessage());
+            }
+            synchronized (this) {
+                if (error == null) {
+                    failed = null;
+                    failedUi = null;
+                } else if (pending == null) {
+                    failed = tasks;
+                    failedUi = ui;
+                }
+                isWriting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * The latest container saved but not written yet, with the changes recorded since the container saved
+     * before the first one it replaced.
+     */
+    private static final class PendingSave {
+        private final long baseVersion;
+        private TaskContainer tasks;
+        private Ui ui;
+
+        /** The changes of every container saved, or {@code null} while there is only one. */
+        private List<TaskChange> changes;
+
+        private PendingSave(TaskContainer tasks, Ui ui) {
+            this.baseVersion = tasks.getBaseVersion();
+            this.tasks = tasks;
+            this.ui = ui;
+        }
+
+        /**
+         * Replaces the container with one copied from it, keeping the changes recorded by both.
+         */
+        private void append(TaskContainer next, Ui nextUi) {
+            if (changes == null) {
+                changes = new ArrayList<>(tasks.getChanges());
+            }
+            changes.addAll(next.getChanges());
+            tasks = next;
+            ui = nextUi;
+        }
+
+        private TaskContainer toContainer() {
+            return changes == null ? tasks : new CoalescedTasks(tasks, baseVersion, changes);
+        }
+    }
+
+    /**
+     * A read-only view of the latest of several containers saved in a row, which records the changes of all of
+     * them as if they were made to one container copied from the container saved before the first.
+     */
+    private static final class CoalescedTasks implements TaskContainer {
+        private final TaskContainer tasks;
+        private final long baseVersion;
+        private final List<TaskChange> changes;
+
+        private CoalescedTasks(TaskContainer tasks, long baseVersion, List<TaskChange> changes) {
+            this.tasks = tasks;
+            this.baseVersion = baseVersion;
+            this.changes = Collections.unmodifiableList(changes);
+        }
+
+        @Override
+        public void add(Task task) {
+            throw new UnsupportedOperationException("Saved tasks must not be modified");
+        }
+
+        @Override
+        public void insert(int index, Task task) {
+            throw new UnsupportedOperationException("Saved tasks must not be modified");
+        }
+
+        @Override
+        public void list(TaskConsumer consumer) {
+            tasks.list(consumer);
+        }
+
+        @Override
+        public Task get(int index) throws TaskNotFoundException {
+            return tasks.get(index);
+        }
+
+        @Override
+        public int indexOf(long id) throws TaskNotFoundException {
+            return tasks.indexOf(id);
+        }
+
+        @Override
+        public Task set(int index, Task task) {
+            throw new UnsupportedOperationException("Saved tasks must not be modified");
+        }
+
+        @Override
+        public Task remove(int index) {
+            throw new UnsupportedOperationException("Saved tasks must not be modified");
+        }
+
+        @Override
+        public int size() {
+            return tasks.size();
+        }
+
+        @Override
+        public TaskContainer copy() {
+            return tasks.copy();
+        }
+
+        @Override
+        public List<TaskChange> getChanges() {
+            return changes;
+        }
+
+        @Override
+        public long getVersion() {
+            return tasks.getVersion();
+        }
+
+        @Override
+        public long getBaseVersion() {
+            return baseVersion;
+        }
+
+        @Override
+        public Iterator<Task> iterator() {
+            return tasks.iterator();
+        }
+    }
+}
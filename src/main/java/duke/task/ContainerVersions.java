@@ -0,0 +1,23 @@
+package duke.task;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out versions that are unique among all task containers created by the application.
+ */
+final class ContainerVersions {
+
+    private static final AtomicLong LATEST = new AtomicLong();
+
+    private ContainerVersions() {
+    }
+
+    /**
+     * Returns a new version, greater than all versions returned before.
+     *
+     * @return A new unique version.
+     */
+    static long next() {
+        return LATEST.incrementAndGet();
+    }
+}
@@ -1,5 +1,8 @@
 package duke.task;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
@@ -16,6 +19,9 @@ import duke.exception.ParseTaskException;
  */
 public class Deadline extends Task {
 
+    /** Length of the fields following the description in the binary representation, in bytes **/
+    static final int BINARY_FIELDS_BYTES = Integer.BYTES;
+
     private final LocalDate time;
 
     /**
@@ -83,6 +89,15 @@ public class Deadline extends Task {
         return deadline;
     }
 
+    /**
+     * Returns the deadline time of the task.
+     *
+     * @return The date the task is due by.
+     */
+    public LocalDate getTime() {
+        return time;
+    }
+
     /**
      * Returns the icon representing the task type.
      * <p>
@@ -96,18 +111,42 @@ public class Deadline extends Task {
     }
 
     /**
-     * Converts this Deadline task to a PSV string.
+     * Reads the fields of a Deadline task that follow the description in its binary representation.
+     *
+     * @param in The input to read the deadline time from.
+     * @param description The description of the deadline task.
+     * @return A Deadline task with the given description and the deadline time read from the input.
+     * @throws IOException If the input cannot be read.
+     */
+    static Task readFrom(DataInput in, String description) throws IOException {
+        return new Deadline(description, readDate(in));
+    }
+
+    /**
+     * Converts the fields of this Deadline task to a PSV string, without its ID.
      * <p>
      * The format of the PSV string is: "TaskType | StatusIcon | Description | Time".
      *
-     * @return A PSV string representing this Deadline task.
+     * @return A PSV string representing the fields of this Deadline task.
      */
     @Override
-    public String toPsvString() {
+    protected String toPsvFields() {
         return String.format("%s | %s | %s | %s", getTaskIcon(), getStatusIcon(), this.description,
         Utils.dateToString(this.time));
     }
 
+    /**
+     * Writes this Deadline task in its binary representation, with the deadline time after the description.
+     *
+     * @param out The output to write the task to.
+     * @throws IOException If the task cannot be written to the output.
+     */
+    @Override
+    public void writeTo(DataOutput out) throws IOException {
+        super.writeTo(out);
+        writeDate(out, this.time);
+    }
+
     /**
      * Returns a string representation of the Deadline task.
      * <p>
@@ -0,0 +1,113 @@
+package duke.task;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+import duke.exception.ParseTaskException;
+
+/**
+ * Represents a task in its binary representation, which is only decoded into a {@link Task} when it is first
+ * needed.
+ * <p>
+ * Tasks loaded from a large file are mostly never looked at in a session, so they are kept as copies of their
+ * slices of the bytes of the file instead of being decoded into objects up front. Each task copies its own
+ * slice, so the bytes of the whole file are not kept in memory by the tasks loaded from it. The task is measured
+ * and checked when the {@code EncodedTask} is created, so decoding it later cannot fail. Once decoded, the same
+ * task is returned every time, and the bytes are no longer referenced by this task.
+ */
+public final class EncodedTask {
+
+    private final long id;
+    private final int length;
+    private byte[] bytes;
+    private volatile Task task;
+
+    private EncodedTask(long id, byte[] bytes) {
+        this.id = id;
+        this.bytes = bytes;
+        this.length = bytes.length;
+    }
+
+    /**
+     * Creates an {@code EncodedTask} from the binary representation of a task written by
+     * {@link Task#writeTo(java.io.DataOutput)}, without decoding it.
+     * <p>
+     * Only the bytes of the task are copied, so the given bytes may be modified or discarded afterwards.
+     *
+     * @param id The ID of the task, or {@link Task#NO_ID} if it has none.
+     * @param bytes The bytes containing the task.
+     * @param offset The offset of the task in the bytes.
+     * @return The encoded task, whose length is the number of bytes it takes up.
+     * @throws EOFException If the bytes end before the task does.
+     * @throws ParseTaskException If the bytes do not contain a valid task.
+     */
+    public static EncodedTask of(long id, byte[] bytes, int offset) throws EOFException, ParseTaskException {
+        assert bytes != null : "Bytes must not be null";
+        assert offset >= 0 && offset <= bytes.length : "Offset must be within the bytes";
+
+        int length = Task.measureBinary(bytes, offset);
+        return new EncodedTask(id, Arrays.copyOfRange(bytes, offset, offset + length));
+    }
+
+    /**
+     * Returns the ID of the task, without decoding it.
+     *
+     * @return The ID of the task.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the length of the binary representation of the task.
+     *
+     * @return The number of bytes the task takes up.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the task, decoding it the first time it is needed.
+     * <p>
+     * This method may be called from any thread, and always returns the same task.
+     *
+     * @return The decoded task.
+     */
+    public Task decode() {
+        Task decoded = task;
+        if (decoded != null) {
+            return decoded;
+        }
+        synchronized (this) {
+            if (task == null) {
+                task = readTask();
+                bytes = null;
+            }
+            return task;
+        }
+    }
+
+    /**
+     * Returns whether the task has been decoded.
+     *
+     * @return {@code true} if {@link #decode()} has been called.
+     */
+    boolean isDecoded() {
+        return task != null;
+    }
+
+    private Task readTask() {
+        try {
+            Task decoded = Task.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+            decoded.setId(id);
+            return decoded;
+        } catch (IOException | ParseTaskException e) {
+            // The task was measured and checked when it was created
+            throw new IllegalStateException(String.format("Unable to decode task [#%d]: %s", id, e.getMessage()), e);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package duke.task;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
@@ -15,6 +18,9 @@ import duke.exception.ParseTaskException;
  */
 public class Event extends Task {
 
+    /** Length of the fields following the description in the binary representation, in bytes **/
+    static final int BINARY_FIELDS_BYTES = 2 * Integer.BYTES;
+
     private final LocalDate from;
     private final LocalDate to;
 
@@ -95,6 +101,24 @@ public class Event extends Task {
         return event;
     }
 
+    /**
+     * Returns the start time of the event.
+     *
+     * @return The date the event starts on.
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the end time of the event.
+     *
+     * @return The date the event ends on.
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
     /**
      * Returns the icon representing the task type.
      * <p>
@@ -108,18 +132,45 @@ public class Event extends Task {
     }
 
     /**
-     * Converts this Event task to a PSV string.
+     * Reads the fields of an Event task that follow the description in its binary representation.
+     *
+     * @param in The input to read the start and end times from.
+     * @param description The description of the event.
+     * @return An Event task with the given description and the start and end times read from the input.
+     * @throws IOException If the input cannot be read.
+     */
+    static Task readFrom(DataInput in, String description) throws IOException {
+        LocalDate from = readDate(in);
+        LocalDate to = readDate(in);
+        return new Event(description, from, to);
+    }
+
+    /**
+     * Converts the fields of this Event task to a PSV string, without its ID.
      * <p>
      * The format of the PSV string is: "TaskType | StatusIcon | Description | FromTime | ToTime".
      *
-     * @return A PSV string representing this Event task.
+     * @return A PSV string representing the fields of this Event task.
      */
     @Override
-    public String toPsvString() {
+    protected String toPsvFields() {
         return String.format("%s | %s | %s | %s | %s", getTaskIcon(), getStatusIcon(),
                 this.description, Utils.dateToString(this.from), Utils.dateToString(this.to));
     }
 
+    /**
+     * Writes this Event task in its binary representation, with the start and end times after the description.
+     *
+     * @param out The output to write the task to.
+     * @throws IOException If the task cannot be written to the output.
+     */
+    @Override
+    public void writeTo(DataOutput out) throws IOException {
+        super.writeTo(out);
+        writeDate(out, this.from);
+        writeDate(out, this.to);
+    }
+
     /**
      * Returns a string representation of the Event task.
      * <p>
@@ -0,0 +1,474 @@
+package duke.task;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import duke.exception.TaskNotFoundException;
+
+/**
+ * Represents a persistent container of tasks backed by a balanced binary tree.
+ * <p>
+ * Tree nodes are never modified once they are created. Every mutation copies only the path from the root
+ * to the affected node, so {@link #copy()} is O(1), while add, get, set and remove are O(log n). All the
+ * unchanged parts of the tree are shared between a container and the copies made from it.
+ * <p>
+ * Since tasks are shared between copies as well, callers must not mutate a task obtained from this
+ * container in place. Instead, modify a copy of the task and store it back with {@link #set(int, Task)}.
+ * <p>
+ * Tasks added with {@link #addEncoded(EncodedTask)} are kept in their binary representation, and only decoded
+ * when they are retrieved, listed or iterated over. Finding a task by its ID does not decode any task, but the
+ * text index built for the first {@code find} iterates over, and so decodes, every task.
+ */
+public class PersistentTaskList implements TaskContainer {
+
+    private final List<TaskChange> changes = new ArrayList<>();
+    private final long version;
+    private final long baseVersion;
+    private Node root;
+
+    /** The ID given to the next task added without one, which is greater than the ID of every task. */
+    private long nextId;
+
+    /**
+     * The number of adjacent tasks whose IDs are not increasing. A task can be found by its ID in the tree only
+     * while there are none, which is checked again whenever a task is inserted or removed.
+     */
+    private int unorderedCount;
+
+    /**
+     * Constructs an empty PersistentTaskList.
+     */
+    public PersistentTaskList() {
+        this(null, 0, Task.NO_ID + 1, 0);
+    }
+
+    /**
+     * Constructs a PersistentTaskList sharing the given tree.
+     *
+     * @param root The root of the tree, or {@code null} for an empty list.
+     * @param baseVersion The version of the container the tree is copied from, or 0 if it is not copied.
+     * @param nextId The ID given to the next task added without one.
+     * @param unorderedCount The number of adjacent tasks in the tree whose IDs are not increasing.
+     */
+    private PersistentTaskList(Node root, long baseVersion, long nextId, int unorderedCount) {
+        this.root = root;
+        this.version = ContainerVersions.next();
+        this.baseVersion = baseVersion;
+        this.nextId = nextId;
+        this.unorderedCount = unorderedCount;
+    }
+
+    /**
+     * Adds a task to the end of the task list.
+     *
+     * @param task The task to be added to the list.
+     */
+    @Override
+    public void add(Task task) {
+        assert task != null : "Task must not be null";
+
+        if (task.getId() != Task.NO_ID && task.getId() < nextId) {
+            task = task.copy();
+            task.setId(Task.NO_ID);
+        }
+        if (task.getId() == Task.NO_ID) {
+            task.setId(nextId);
+        }
+        nextId = task.getId() + 1;
+        changes.add(new TaskChange.Insert(size(root), task));
+        root = insert(root, size(root), task);
+    }
+
+    /**
+     * Adds a task in its binary representation to the end of the task list, keeping it encoded until it is
+     * needed.
+     * <p>
+     * A task without an ID, or whose ID is below the next ID of the task list, is decoded and added with
+     * {@link #add(Task)} instead, as it must be given a new ID.
+     *
+     * @param task The task to be added.
+     */
+    @Override
+    public void addEncoded(EncodedTask task) {
+        assert task != null : "Task must not be null";
+
+        if (task.getId() == Task.NO_ID || task.getId() < nextId) {
+            add(task.decode());
+            return;
+        }
+        nextId = task.getId() + 1;
+        changes.add(new TaskChange.Insert(size(root), task));
+        root = insert(root, size(root), task);
+    }
+
+    /**
+     * Inserts a task into the task list at the specified index.
+     *
+     * @param index The index to insert the task at.
+     * @param task The task to be inserted.
+     * @throws TaskNotFoundException If the index is out of range (i.e., invalid index).
+     */
+    @Override
+    public void insert(int index, Task task) throws TaskNotFoundException {
+        assert task != null : "Task must not be null";
+
+        if (index < 0 || index > size(root)) {
+            throw new TaskNotFoundException(String.format(
+                    "Index [%d] out of range [%d]", index, size(root) + 1));
+        }
+        if (task.getId() == Task.NO_ID) {
+            task.setId(nextId);
+        }
+        nextId = Math.max(nextId, task.getId() + 1);
+        unorderedCount -= isUnordered(index);
+        changes.add(new TaskChange.Insert(index, task));
+        root = insert(root, index, task);
+        unorderedCount += isUnordered(index) + isUnordered(index + 1);
+    }
+
+    /**
+     * Lists all tasks in the task list in order, providing each task to the given consumer.
+     *
+     * @param consumer A {@link TaskConsumer} to accept each task and its index in the list.
+     */
+    @Override
+    public void list(TaskConsumer consumer) {
+        int index = 0;
+        for (Task task : this) {
+            consumer.accept(index, task);
+            index++;
+        }
+    }
+
+    /**
+     * Retrieves the task at the specified index in the task list.
+     *
+     * @param index The index of the task to be retrieved.
+     * @return The task at the specified index.
+     * @throws TaskNotFoundException If the index is out of range (i.e., invalid index).
+     */
+    @Override
+    public Task get(int index) throws TaskNotFoundException {
+        checkIndex(index);
+        return taskOf(find(root, index).value);
+    }
+
+    /**
+     * Returns the index of the task with the specified ID in the task list.
+     * <p>
+     * While the tasks are in order of ID, the task is found by descending the tree in logarithmic time.
+     * Otherwise, the tasks are searched one by one, until the tasks out of order are removed again.
+     *
+     * @param id The ID of the task to find.
+     * @return The index of the task with the specified ID.
+     * @throws TaskNotFoundException If there is no task with the specified ID in the task list.
+     */
+    @Override
+    public int indexOf(long id) throws TaskNotFoundException {
+        int index = isOrdered() ? indexOfOrdered(root, id) : indexOfUnordered(id);
+        if (index < 0) {
+            throw new TaskNotFoundException(String.format("Task with ID [#%d] not found", id));
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the task at the specified index in the task list.
+     *
+     * @param index The index of the task to be replaced.
+     * @param task The task to store at the specified index.
+     * @return The task that was previously at the specified index.
+     * @throws TaskNotFoundException If the index is out of range (i.e., invalid index).
+     */
+    @Override
+    public Task set(int index, Task task) throws TaskNotFoundException {
+        assert task != null : "Task must not be null";
+
+        checkIndex(index);
+        Task previous = taskOf(find(root, index).value);
+        assert task.getId() == Task.NO_ID || task.getId() == previous.getId() : "Task must keep its ID";
+        if (task.getId() == Task.NO_ID) {
+            task.setId(previous.getId());
+        }
+        root = replace(root, index, task);
+        changes.add(new TaskChange.Replace(index, previous, task));
+        return previous;
+    }
+
+    /**
+     * Removes the task at the specified index from the task list.
+     *
+     * @param index The index of the task to be removed.
+     * @return The task that was removed.
+     * @throws TaskNotFoundException If the index is out of range (i.e., invalid index).
+     */
+    @Override
+    public Task remove(int index) throws TaskNotFoundException {
+        checkIndex(index);
+        Task removed = taskOf(find(root, index).value);
+        unorderedCount -= isUnordered(index) + isUnordered(index + 1);
+        root = delete(root, index);
+        unorderedCount += isUnordered(index);
+        changes.add(new TaskChange.Remove(index, removed));
+        return removed;
+    }
+
+    /**
+     * Returns the number of tasks in the task list.
+     *
+     * @return The number of tasks in the list.
+     */
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Creates a copy of the task list in constant time.
+     * <p>
+     * The copy shares the whole tree with this task list and starts with no recorded changes. Later changes
+     * to either list only copy the nodes along the modified path and are not visible to the other list.
+     *
+     * @return A new PersistentTaskList containing the same tasks as this task list.
+     */
+    @Override
+    public TaskContainer copy() {
+        return new PersistentTaskList(root, version, nextId, unorderedCount);
+    }
+
+    /**
+     * Returns the changes made to this task list since it was created or copied.
+     *
+     * @return An unmodifiable list of the changes made to this task list.
+     */
+    @Override
+    public List<TaskChange> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    /**
+     * Returns an iterator over the tasks in this task list, from the first task to the last task.
+     *
+     * @return An {@link Iterator} over the tasks in this task list.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return new TreeIterator(root);
+    }
+
+    private void checkIndex(int index) throws TaskNotFoundException {
+        if (index < 0 || index >= size(root)) {
+            throw new TaskNotFoundException(String.format(
+                    "Index [%d] out of range [%d]", index, size(root)));
+        }
+    }
+
+    /**
+     * Returns whether the tasks are in increasing order of ID, so a task can be found by its ID in the tree.
+     *
+     * @return {@code true} if no adjacent tasks are out of order.
+     */
+    boolean isOrdered() {
+        return unorderedCount == 0;
+    }
+
+    /**
+     * Returns 1 if the task at the specified index and the task before it are not in increasing order of ID,
+     * or 0 if they are, or either of them does not exist.
+     */
+    private int isUnordered(int index) {
+        if (index <= 0 || index >= size(root)) {
+            return 0;
+        }
+        return idOf(find(root, index - 1).value) < idOf(find(root, index).value) ? 0 : 1;
+    }
+
+    private int indexOfUnordered(long id) {
+        TreeIterator iterator = new TreeIterator(root);
+        for (int index = 0; iterator.hasNext(); index++) {
+            if (idOf(iterator.nextNode().value) == id) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfOrdered(Node node, long id) {
+        int offset = 0;
+        while (node != null) {
+            long nodeId = idOf(node.value);
+            if (id < nodeId) {
+                node = node.left;
+            } else if (id > nodeId) {
+                offset += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return offset + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    private static Task taskOf(Object value) {
+        return value instanceof EncodedTask encoded ? encoded.decode() : (Task) value;
+    }
+
+    private static long idOf(Object value) {
+        return value instanceof EncodedTask encoded ? encoded.getId() : ((Task) value).getId();
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static Node find(Node node, int index) {
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private static Node insert(Node node, int index, Object value) {
+        if (node == null) {
+            return new Node(null, value, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, value), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, value));
+    }
+
+    private static Node replace(Node node, int index, Object value) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node(replace(node.left, index, value), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node(node.left, node.value, replace(node.right, index - leftSize - 1, value));
+        }
+        return new Node(node.left, value, node.right);
+    }
+
+    private static Node delete(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(delete(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, delete(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Object successor = find(node.right, 0).value;
+        return balance(node.left, successor, delete(node.right, 0));
+    }
+
+    /**
+     * Joins two subtrees whose heights differ by at most two around a task, rotating if necessary
+     * to restore the AVL invariant.
+     */
+    private static Node balance(Node left, Object value, Node right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.left, left.value, new Node(left.right, value, right));
+            }
+            Node pivot = left.right;
+            return new Node(new Node(left.left, left.value, pivot.left), pivot.value,
+                    new Node(pivot.right, value, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(new Node(left, value, right.left), right.value, right.right);
+            }
+            Node pivot = right.left;
+            return new Node(new Node(left, value, pivot.left), pivot.value,
+                    new Node(pivot.right, right.value, right.right));
+        }
+        return new Node(left, value, right);
+    }
+
+    /**
+     * An immutable node of the tree, annotated with the size and height of its subtree.
+     * <p>
+     * The value of a node is its task, or an {@link EncodedTask} if the task was added encoded.
+     */
+    private static final class Node {
+        private final Node left;
+        private final Object value;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        private Node(Node left, Object value, Node right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * An in-order iterator over a tree.
+     */
+    private static final class TreeIterator implements Iterator<Task> {
+        private final Deque<Node> stack = new ArrayDeque<>();
+
+        private TreeIterator(Node root) {
+            pushLeft(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public Task next() {
+            return taskOf(nextNode().value);
+        }
+
+        private Node nextNode() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = stack.pop();
+            pushLeft(node.right);
+            return node;
+        }
+
+        private void pushLeft(Node node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
@@ -1,5 +1,13 @@
 package duke.task;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
 import duke.exception.InvalidStatusIconException;
 import duke.exception.ParseTaskException;
 
@@ -27,18 +35,33 @@ public abstract class Task {
         T
     }
 
+    /** ID of a task that has not been added to a container yet **/
+    public static final long NO_ID = 0;
+
     /** Icon to represent task is done **/
     public static final String DONE_ICON = "X";
 
     /** Icon to represent task is not done **/
     public static final String NOT_DONE_ICON = "_";
 
+    /** Length of the type, status and description length preceding the description in the binary representation **/
+    private static final int BINARY_HEADER_BYTES = 2 + Integer.BYTES;
+
+    /** Bit of the status byte in the binary representation that is set if the task is done **/
+    private static final int DONE_FLAG = 1;
+
+    /** Maximum length of a description in the binary representation, in bytes **/
+    private static final int MAX_DESCRIPTION_BYTES = 16 * 1024 * 1024;
+
     /** Description of the task **/
     protected String description;
 
     /** Completion status of the task **/
     protected boolean isDone; // Completion status of the task
 
+    /** ID of the task, which stays the same while the task is moved around or modified **/
+    private long id = NO_ID;
+
     /**
      * Constructs a new Task with the given description.
      * <p>
@@ -59,6 +82,33 @@ public abstract class Task {
     public Task(Task task) {
         this.description = task.description;
         this.isDone = task.isDone;
+        this.id = task.id;
+    }
+
+    /**
+     * Returns the ID of the task.
+     * <p>
+     * A task is given an ID when it is first added to a container, which is kept by its copies, so the ID
+     * identifies the task across the versions of the task list regardless of its position.
+     *
+     * @return The ID of the task, or {@link #NO_ID} if it has not been added to a container yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the ID of the task.
+     * <p>
+     * Tasks may be shared between containers, so this must only be called on a task that has not been added
+     * to any container yet, such as a task read from storage.
+     *
+     * @param id The ID of the task, which must be positive, or {@link #NO_ID}.
+     */
+    public void setId(long id) {
+        assert id >= NO_ID : "Task ID must not be negative";
+
+        this.id = id;
     }
 
     /**
@@ -72,6 +122,15 @@ public abstract class Task {
         return (isDone ? DONE_ICON : NOT_DONE_ICON);
     }
 
+    /**
+     * Returns whether the task is done.
+     *
+     * @return {@code true} if the task is done.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
     /**
      * Marks the task as done.
      */
@@ -120,17 +179,29 @@ public abstract class Task {
     /**
      * Converts the task to a PSV (Pipe-Separated Values) string representation.
      * <p>
-     * The exact format depends on the specific task subclass (e.g., Deadline, Event, Todo).
+     * The string starts with the ID of the task if it has one, followed by the fields of the task in the format
+     * of the specific task subclass (e.g., Deadline, Event, Todo).
      *
      * @return A PSV string representing the task.
      */
-    public abstract String toPsvString();
+    public String toPsvString() {
+        return id == NO_ID ? toPsvFields() : String.format("%d | %s", id, toPsvFields());
+    }
+
+    /**
+     * Converts the fields of the task to a PSV string representation, without its ID.
+     * <p>
+     * The exact format depends on the specific task subclass (e.g., Deadline, Event, Todo).
+     *
+     * @return A PSV string representing the fields of the task.
+     */
+    protected abstract String toPsvFields();
 
     /**
      * Creates a Task from a PSV string representation.
      * <p>
-     * The input string should have the format: "TaskType | StatusIcon | Description".
-     * The task type is inferred from the first part of the string.
+     * The input string should have the format: "TaskType | StatusIcon | Description", optionally preceded by
+     * the ID of the task as "ID | ". The task type is inferred from the first part of the string after the ID.
      *
      * @param input The PSV string representation of the task.
      * @return A Task object created from the given PSV string.
@@ -141,6 +212,18 @@ public abstract class Task {
 
         String[] parts = input.split("\\|", 2);
 
+        long id = NO_ID;
+        String fields = input;
+        if (parts.length == 2 && isId(parts[0].trim())) {
+            try {
+                id = Long.parseLong(parts[0].trim());
+            } catch (NumberFormatException e) {
+                throw new ParseTaskException(String.format("Unable to parse task ID from [%s]", input));
+            }
+            fields = parts[1].trim();
+            parts = fields.split("\\|", 2);
+        }
+
         Task.Type taskType;
         try {
             taskType = Type.valueOf(parts[0].trim());
@@ -149,11 +232,154 @@ public abstract class Task {
                     "Unable to parse task type from [%s]", input));
         }
 
-        return switch (taskType) {
-        case D -> Deadline.fromPsvString(input);
-        case E -> Event.fromPsvString(input);
-        case T -> Todo.fromPsvString(input);
+        Task task = switch (taskType) {
+        case D -> Deadline.fromPsvString(fields);
+        case E -> Event.fromPsvString(fields);
+        case T -> Todo.fromPsvString(fields);
         };
+        task.setId(id);
+        return task;
+    }
+
+    /**
+     * Writes the task in its binary representation to the given output.
+     * <p>
+     * The binary representation starts with the task type icon as a single byte, followed by a status byte
+     * whose lowest bit is set if the task is done, and the description as UTF-8 bytes prefixed with their
+     * length. Subclasses append their own fields, with dates written as their epoch day.
+     *
+     * @param out The output to write the task to.
+     * @throws IOException If the task cannot be written to the output.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        byte[] descriptionBytes = description.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(getTaskIcon().charAt(0));
+        out.writeByte(isDone ? DONE_FLAG : 0);
+        out.writeInt(descriptionBytes.length);
+        out.write(descriptionBytes);
+    }
+
+    /**
+     * Reads a Task from its binary representation.
+     * <p>
+     * The task type is inferred from the first byte, as written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in The input to read the task from.
+     * @return A Task object read from the given input.
+     * @throws IOException If the input cannot be read, or ends before the task does.
+     * @throws ParseTaskException If the input does not contain a valid task.
+     */
+    public static Task readFrom(DataInput in) throws IOException, ParseTaskException {
+        assert in != null : "input must not be null";
+
+        int typeByte = in.readUnsignedByte();
+        int status = in.readUnsignedByte();
+        int length = in.readInt();
+        if (length < 0 || length > MAX_DESCRIPTION_BYTES) {
+            throw new ParseTaskException(String.format("Invalid task description length [%d]", length));
+        }
+        byte[] descriptionBytes = new byte[length];
+        in.readFully(descriptionBytes);
+        String description = new String(descriptionBytes, StandardCharsets.UTF_8);
+
+        Task.Type taskType;
+        try {
+            taskType = Type.valueOf(String.valueOf((char) typeByte));
+        } catch (IllegalArgumentException e) {
+            throw new ParseTaskException(String.format(
+                    "Unable to parse task type from byte [%d]", typeByte));
+        }
+
+        Task task = switch (taskType) {
+        case D -> Deadline.readFrom(in, description);
+        case E -> Event.readFrom(in, description);
+        case T -> Todo.readFrom(in, description);
+        };
+        if ((status & DONE_FLAG) != 0) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * Returns the length of the binary representation of a task in the given bytes, without decoding it.
+     * <p>
+     * The type and the description length of the task are checked as {@link #readFrom(DataInput)} would, so a
+     * task that is measured can be decoded later without errors.
+     *
+     * @param bytes The bytes containing the task.
+     * @param offset The offset of the task in the bytes.
+     * @return The length of the binary representation of the task, in bytes.
+     * @throws EOFException If the bytes end before the task does.
+     * @throws ParseTaskException If the bytes do not contain a valid task.
+     */
+    static int measureBinary(byte[] bytes, int offset) throws EOFException, ParseTaskException {
+        if (bytes.length - offset < BINARY_HEADER_BYTES) {
+            throw new EOFException();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int typeByte = buffer.get(offset) & 0xFF;
+        int length = buffer.getInt(offset + 2);
+        if (length < 0 || length > MAX_DESCRIPTION_BYTES) {
+            throw new ParseTaskException(String.format("Invalid task description length [%d]", length));
+        }
+
+        Task.Type taskType;
+        try {
+            taskType = Type.valueOf(String.valueOf((char) typeByte));
+        } catch (IllegalArgumentException e) {
+            throw new ParseTaskException(String.format(
+                    "Unable to parse task type from byte [%d]", typeByte));
+        }
+
+        int fieldsLength = switch (taskType) {
+        case D -> Deadline.BINARY_FIELDS_BYTES;
+        case E -> Event.BINARY_FIELDS_BYTES;
+        case T -> Todo.BINARY_FIELDS_BYTES;
+        };
+        long total = (long) BINARY_HEADER_BYTES + length + fieldsLength;
+        if (bytes.length - offset < total) {
+            throw new EOFException();
+        }
+        return (int) total;
+    }
+
+    private static boolean isId(String field) {
+        if (field.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            if (field.charAt(i) < '0' || field.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a date as its epoch day to the given output.
+     *
+     * @param out The output to write the date to.
+     * @param date The date to be written.
+     * @throws IOException If the date cannot be written, or its epoch day does not fit in an int.
+     */
+    protected static void writeDate(DataOutput out, LocalDate date) throws IOException {
+        long epochDay = date.toEpochDay();
+        if (epochDay != (int) epochDay) {
+            throw new IOException(String.format("Date [%s] is out of range", date));
+        }
+        out.writeInt((int) epochDay);
+    }
+
+    /**
+     * Reads a date written by {@link #writeDate(DataOutput, LocalDate)}.
+     *
+     * @param in The input to read the date from.
+     * @return The date read from the input.
+     * @throws IOException If the input cannot be read.
+     */
+    protected static LocalDate readDate(DataInput in) throws IOException {
+        return LocalDate.ofEpochDay(in.readInt());
     }
 
     /**
@@ -0,0 +1,202 @@
+package duke.task;
+
+import duke.exception.TaskNotFoundException;
+
+/**
+ * Represents a single reversible change made to a {@link TaskContainer}.
+ * <p>
+ * Containers record a change for every insertion, replacement and removal, so that the change can later
+ * be replayed with {@link #apply(TaskContainer)} or undone with {@link #revert(TaskContainer)}.
+ */
+public abstract class TaskChange {
+
+    /** Rough number of bytes retained by a change object, excluding the tasks it references. */
+    private static final long CHANGE_BYTES = 32;
+
+    /** Rough number of bytes retained by a task object, excluding its description. */
+    private static final long TASK_BYTES = 48;
+
+    /** Index in the container at which the change was made. */
+    protected final int index;
+
+    /**
+     * Constructs a change made at the given index.
+     *
+     * @param index The index in the container at which the change was made.
+     */
+    protected TaskChange(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Returns the index in the container at which the change was made.
+     *
+     * @return The index of the change.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Applies this change to the given container.
+     *
+     * @param tasks The container to apply the change to.
+     * @throws TaskNotFoundException If the index of the change is out of range for the container.
+     */
+    public abstract void apply(TaskContainer tasks) throws TaskNotFoundException;
+
+    /**
+     * Reverts this change on the given container, which must be in the state right after the change.
+     *
+     * @param tasks The container to revert the change on.
+     * @throws TaskNotFoundException If the index of the change is out of range for the container.
+     */
+    public abstract void revert(TaskContainer tasks) throws TaskNotFoundException;
+
+    /**
+     * Returns a rough estimate of the memory retained by this change, in bytes.
+     *
+     * @return The estimated size of this change in bytes.
+     */
+    public abstract long estimateBytes();
+
+    private static long estimateBytes(Task task) {
+        return TASK_BYTES + 2L * task.getDescription().length();
+    }
+
+    /**
+     * Represents a task inserted into a container.
+     */
+    public static final class Insert extends TaskChange {
+        private final Task task;
+        private final EncodedTask encoded;
+
+        /**
+         * Constructs a change inserting the given task at the given index.
+         *
+         * @param index The index at which the task was inserted.
+         * @param task The inserted task.
+         */
+        public Insert(int index, Task task) {
+            super(index);
+            this.task = task;
+            this.encoded = null;
+        }
+
+        /**
+         * Constructs a change inserting the given encoded task at the given index, which is only decoded if the
+         * inserted task is needed.
+         *
+         * @param index The index at which the task was inserted.
+         * @param encoded The inserted task, in its binary representation.
+         */
+        Insert(int index, EncodedTask encoded) {
+            super(index);
+            this.task = null;
+            this.encoded = encoded;
+        }
+
+        public Task getTask() {
+            return task != null ? task : encoded.decode();
+        }
+
+        @Override
+        public void apply(TaskContainer tasks) throws TaskNotFoundException {
+            tasks.insert(index, getTask());
+        }
+
+        @Override
+        public void revert(TaskContainer tasks) throws TaskNotFoundException {
+            tasks.remove(index);
+        }
+
+        @Override
+        public long estimateBytes() {
+            if (task == null) {
+                return CHANGE_BYTES + TASK_BYTES + encoded.getLength();
+            }
+            return CHANGE_BYTES + TaskChange.estimateBytes(task);
+        }
+    }
+
+    /**
+     * Represents a task removed from a container.
+     */
+    public static final class Remove extends TaskChange {
+        private final Task task;
+
+        /**
+         * Constructs a change removing the given task from the given index.
+         *
+         * @param index The index from which the task was removed.
+         * @param task The removed task.
+         */
+        public Remove(int index, Task task) {
+            super(index);
+            this.task = task;
+        }
+
+        public Task getTask() {
+            return task;
+        }
+
+        @Override
+        public void apply(TaskContainer tasks) throws TaskNotFoundException {
+            tasks.remove(index);
+        }
+
+        @Override
+        public void revert(TaskContainer tasks) throws TaskNotFoundException {
+            tasks.insert(index, task);
+        }
+
+        @Override
+        public long estimateBytes() {
+            return CHANGE_BYTES + TaskChange.estimateBytes(task);
+        }
+    }
+
+    /**
+     * Represents a task in a container replaced by another task, such as a marked copy of itself.
+     */
+    public static final class Replace extends TaskChange {
+        private final Task previous;
+        private final Task task;
+
+        /**
+         * Constructs a change replacing the task at the given index.
+         *
+         * @param index The index of the replaced task.
+         * @param previous The task that was replaced.
+         * @param task The task that replaced it.
+         */
+        public Replace(int index, Task previous, Task task) {
+            super(index);
+            this.previous = previous;
+            this.task = task;
+        }
+
+        public Task getPrevious() {
+            return previous;
+        }
+
+        public Task getTask() {
+            return task;
+        }
+
+        @Override
+        public void apply(TaskContainer tasks) throws TaskNotFoundException {
+            tasks.set(index, task);
+        }
+
+        @Override
+        public void revert(TaskContainer tasks) throws TaskNotFoundException {
+            tasks.set(index, previous);
+        }
+
+        @Override
+        public long estimateBytes() {
+            return CHANGE_BYTES + TaskChange.estimateBytes(previous) + TaskChange.estimateBytes(task);
+        }
+    }
+}
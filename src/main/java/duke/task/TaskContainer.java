@@ -1,11 +1,23 @@
 package duke.task;
 
+import java.util.List;
+
 import duke.exception.TaskNotFoundException;
 
 /**
  * Represents a container for storing and managing tasks.
  * <p>
  * Provides methods to add, list, retrieve, remove, and get the size of tasks in the container.
+ * <p>
+ * Every task in a container has an ID, which is given to a task without one when it is added, and can be used
+ * to find the task regardless of its position. IDs are given in increasing order, and containers keep their
+ * tasks ordered by ID as long as tasks are only inserted where they were removed from, so that a task can be
+ * found by its ID in logarithmic time.
+ * <p>
+ * Every change made to a container is recorded as a {@link TaskChange}, so that the changes made since the
+ * container was created or copied can be undone or persisted incrementally. Each container also has a unique
+ * version and remembers the version of the container it was copied from, which lets consumers of the changes
+ * check that they have seen everything that came before them.
  */
 public interface TaskContainer extends Iterable<Task> {
 
@@ -27,12 +39,39 @@ public interface TaskContainer extends Iterable<Task> {
     }
 
     /**
-     * Adds a task to the container.
+     * Adds a task to the end of the container.
+     * <p>
+     * A task without an ID is given the next ID of the container. A task whose ID is below the next ID of the
+     * container, which may be in use already, is copied and given the next ID instead.
      *
      * @param task The task to be added.
      */
     public void add(Task task);
 
+    /**
+     * Adds a task in its binary representation to the end of the container, as {@link #add(Task)} does.
+     * <p>
+     * Containers may keep the task encoded until it is needed, so that loading many tasks is cheap. By default,
+     * the task is decoded and added right away.
+     *
+     * @param task The task to be added.
+     */
+    public default void addEncoded(EncodedTask task) {
+        add(task.decode());
+    }
+
+    /**
+     * Inserts a task into the container at the specified index, shifting later tasks back by one.
+     * <p>
+     * A task without an ID is given the next ID of the container, while a task with an ID keeps it, as tasks
+     * are inserted to restore them where they were removed from.
+     *
+     * @param index The index to insert the task at, between 0 and the size of the container inclusive.
+     * @param task The task to be inserted.
+     * @throws TaskNotFoundException If the index is out of range (invalid index).
+     */
+    public void insert(int index, Task task) throws TaskNotFoundException;
+
     /**
      * Lists all tasks in the container by passing each task to the specified consumer.
      *
@@ -49,6 +88,29 @@ public interface TaskContainer extends Iterable<Task> {
      */
     public Task get(int index) throws TaskNotFoundException;
 
+    /**
+     * Returns the index of the task with the specified ID in the container.
+     *
+     * @param id The ID of the task to find.
+     * @return The index of the task with the specified ID.
+     * @throws TaskNotFoundException If there is no task with the specified ID in the container.
+     */
+    public int indexOf(long id) throws TaskNotFoundException;
+
+    /**
+     * Replaces the task at the specified index in the container.
+     * <p>
+     * Tasks may be shared between a container and its copies, so a modified task should be stored back
+     * with this method instead of being changed in place. The new task takes over the ID of the task it
+     * replaces.
+     *
+     * @param index The index of the task to replace.
+     * @param task The task to store at the specified index.
+     * @return The task that was previously at the specified index.
+     * @throws TaskNotFoundException If the index is out of range (invalid index).
+     */
+    public Task set(int index, Task task) throws TaskNotFoundException;
+
     /**
      * Removes the task at the specified index from the container.
      *
@@ -71,4 +133,25 @@ public interface TaskContainer extends Iterable<Task> {
      * @return A copy of the task container.
      */
     public TaskContainer copy();
+
+    /**
+     * Returns the changes made to this container since it was created or copied, in the order they were made.
+     *
+     * @return An unmodifiable list of the changes made to this container.
+     */
+    public List<TaskChange> getChanges();
+
+    /**
+     * Returns the version of this container, which is unique among all containers.
+     *
+     * @return The version of this container.
+     */
+    public long getVersion();
+
+    /**
+     * Returns the version of the container this container was copied from.
+     *
+     * @return The version of the container this container was copied from, or 0 if it was not copied.
+     */
+    public long getBaseVersion();
 }
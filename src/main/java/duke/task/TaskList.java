@@ -1,6 +1,7 @@
 package duke.task;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -14,6 +15,18 @@ import duke.exception.TaskNotFoundException;
 public class TaskList implements TaskContainer {
 
     private final List<Task> tasks; // List of tasks in the task list
+    private final List<TaskChange> changes; // Changes made since the task list was created
+    private final long version;
+    private final long baseVersion;
+
+    /** The ID given to the next task added without one, which is greater than the ID of every task. */
+    private long nextId = Task.NO_ID + 1;
+
+    /**
+     * The number of adjacent tasks whose IDs are not increasing. A task can be found by its ID with a binary
+     * search only while there are none, which is checked again whenever a task is inserted or removed.
+     */
+    private int unorderedCount;
 
     /**
      * Constructs an empty TaskList.
@@ -21,7 +34,19 @@ public class TaskList implements TaskContainer {
      * Initializes the internal list of tasks as an empty ArrayList.
      */
     public TaskList() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty TaskList copied from the container with the given version.
+     *
+     * @param baseVersion The version of the container this task list is copied from.
+     */
+    private TaskList(long baseVersion) {
         this.tasks = new ArrayList<>();
+        this.changes = new ArrayList<>();
+        this.version = ContainerVersions.next();
+        this.baseVersion = baseVersion;
     }
 
     /**
@@ -31,9 +56,41 @@ public class TaskList implements TaskContainer {
      */
     @Override
     public void add(Task task) {
+        if (task.getId() != Task.NO_ID && task.getId() < nextId) {
+            task = task.copy();
+            task.setId(Task.NO_ID);
+        }
+        if (task.getId() == Task.NO_ID) {
+            task.setId(nextId);
+        }
+        nextId = task.getId() + 1;
+        changes.add(new TaskChange.Insert(tasks.size(), task));
         tasks.add(task);
     }
 
+    /**
+     * Inserts a task into the task list at the specified index.
+     *
+     * @param index The index to insert the task at.
+     * @param task The task to be inserted.
+     * @throws TaskNotFoundException If the index is out of range (i.e., invalid index).
+     */
+    @Override
+    public void insert(int index, Task task) throws TaskNotFoundException {
+        if (index < 0 || index > tasks.size()) {
+            throw new TaskNotFoundException(String.format(
+                    "Index [%d] out of range [%d]", index, tasks.size() + 1));
+        }
+        if (task.getId() == Task.NO_ID) {
+            task.setId(nextId);
+        }
+        nextId = Math.max(nextId, task.getId() + 1);
+        unorderedCount -= isUnordered(index);
+        changes.add(new TaskChange.Insert(index, task));
+        tasks.add(index, task);
+        unorderedCount += isUnordered(index) + isUnordered(index + 1);
+    }
+
     /**
      * Lists all tasks in the task list, providing each task to the given consumer.
      *
@@ -62,6 +119,65 @@ public class TaskList implements TaskContainer {
         return tasks.get(index);
     }
 
+    /**
+     * Returns the index of the task with the specified ID in the task list.
+     * <p>
+     * While the tasks are in order of ID, the task is found with a binary search. Otherwise, the tasks are
+     * searched one by one, until the tasks out of order are removed again.
+     *
+     * @param id The ID of the task to find.
+     * @return The index of the task with the specified ID.
+     * @throws TaskNotFoundException If there is no task with the specified ID in the task list.
+     */
+    @Override
+    public int indexOf(long id) throws TaskNotFoundException {
+        if (unorderedCount == 0) {
+            int low = 0;
+            int high = tasks.size() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                long middleId = tasks.get(middle).getId();
+                if (middleId < id) {
+                    low = middle + 1;
+                } else if (middleId > id) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+        } else {
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).getId() == id) {
+                    return i;
+                }
+            }
+        }
+        throw new TaskNotFoundException(String.format("Task with ID [#%d] not found", id));
+    }
+
+    /**
+     * Replaces the task at the specified index in the task list.
+     *
+     * @param index The index of the task to be replaced.
+     * @param task The task to store at the specified index.
+     * @return The task that was previously at the specified index.
+     * @throws TaskNotFoundException If the index is out of range (i.e., invalid index).
+     */
+    @Override
+    public Task set(int index, Task task) throws TaskNotFoundException {
+        if (index < 0 || index >= tasks.size()) {
+            throw new TaskNotFoundException(String.format(
+                    "Index [%d] out of range [%d]", index, tasks.size()));
+        }
+        assert task.getId() == Task.NO_ID || task.getId() == tasks.get(index).getId() : "Task must keep its ID";
+        if (task.getId() == Task.NO_ID) {
+            task.setId(tasks.get(index).getId());
+        }
+        Task previous = tasks.set(index, task);
+        changes.add(new TaskChange.Replace(index, previous, task));
+        return previous;
+    }
+
     /**
      * Removes the task at the specified index from the task list.
      *
@@ -75,7 +191,11 @@ public class TaskList implements TaskContainer {
             throw new TaskNotFoundException(String.format(
                     "Index [%d] out of range [%d]", index, tasks.size()));
         }
-        return tasks.remove(index);
+        unorderedCount -= isUnordered(index) + isUnordered(index + 1);
+        Task removed = tasks.remove(index);
+        unorderedCount += isUnordered(index);
+        changes.add(new TaskChange.Remove(index, removed));
+        return removed;
     }
 
     /**
@@ -95,14 +215,36 @@ public class TaskList implements TaskContainer {
      */
     @Override
     public TaskContainer copy() {
-        TaskList copy = new TaskList();
+        TaskList copy = new TaskList(version);
+        copy.nextId = nextId;
+        copy.unorderedCount = unorderedCount;
         for (Task task : tasks) {
-            copy.add(task.copy());
+            copy.tasks.add(task.copy());
         }
         assert copy.size() == tasks.size();
         return copy;
     }
 
+    /**
+     * Returns the changes made to this task list since it was created.
+     *
+     * @return An unmodifiable list of the changes made to this task list.
+     */
+    @Override
+    public List<TaskChange> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
     /**
      * Returns an iterator over the tasks in this task list.
      * <p>
@@ -115,4 +257,15 @@ public class TaskList implements TaskContainer {
     public Iterator<Task> iterator() {
         return tasks.iterator();
     }
+
+    /**
+     * Returns 1 if the task at the specified index and the task before it are not in increasing order of ID,
+     * or 0 if they are, or either of them does not exist.
+     */
+    private int isUnordered(int index) {
+        if (index <= 0 || index >= tasks.size()) {
+            return 0;
+        }
+        return tasks.get(index - 1).getId() < tasks.get(index).getId() ? 0 : 1;
+    }
 }
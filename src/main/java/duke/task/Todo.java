@@ -1,5 +1,7 @@
 package duke.task;
 
+import java.io.DataInput;
+
 import duke.exception.InvalidStatusIconException;
 import duke.exception.ParseTaskException;
 
@@ -12,6 +14,9 @@ import duke.exception.ParseTaskException;
  */
 public class Todo extends Task {
 
+    /** Length of the fields following the description in the binary representation, in bytes **/
+    static final int BINARY_FIELDS_BYTES = 0;
+
     /**
      * Constructs a new Todo task with the specified description.
      *
@@ -65,14 +70,27 @@ public class Todo extends Task {
     }
 
     /**
-     * Converts this Todo task to a PSV string.
+     * Reads the fields of a Todo task that follow the description in its binary representation.
+     * <p>
+     * A Todo task has no fields after its description, so nothing is read.
+     *
+     * @param in The input positioned after the description of the task.
+     * @param description The description of the task.
+     * @return A Todo task with the given description.
+     */
+    static Task readFrom(DataInput in, String description) {
+        return new Todo(description);
+    }
+
+    /**
+     * Converts the fields of this Todo task to a PSV string, without its ID.
      * <p>
      * The format of the PSV string is: "TaskType | StatusIcon | Description".
      *
-     * @return A PSV string representing this Todo task.
+     * @return A PSV string representing the fields of this Todo task.
      */
     @Override
-    public String toPsvString() {
+    protected String toPsvFields() {
         return String.format("%s | %s | %s", getTaskIcon(), getStatusIcon(), this.description);
     }
 
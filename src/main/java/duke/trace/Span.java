@@ -0,0 +1,140 @@
+package duke.trace;
+
+/**
+ * Times one stage of the command pipeline, from when it is started until it is closed, as a JFR event.
+ * <p>
+ * A stage is usually timed by running it with {@link #run} or {@link #call}:
+ * <pre>{@code
+ * Command command = Span.call(Span.Stage.PARSE, input, () -> Parser.parseCommand(input));
+ * }</pre>
+ * A span can also be started and closed directly, e.g. in a try-with-resources statement, where the stage does
+ * not fit in a lambda.
+ * The event is only committed if a recording is enabled for the stage, so a span costs little more than
+ * reading the clock otherwise. See the user guide for recording a JFR file of a session.
+ */
+public final class Span implements AutoCloseable {
+
+    /**
+     * A stage of the command pipeline.
+     */
+    public enum Stage {
+        /** Parsing an input into a command. */
+        PARSE,
+
+        /** Executing a command on a copy of the state, including copying the tasks it changes. */
+        EXECUTE,
+
+        /** Displaying the results of a committed command. */
+        RENDER,
+
+        /** Saving tasks to or loading tasks from storage. */
+        PERSIST
+    }
+
+    /**
+     * A stage that produces a result.
+     *
+     * @param <T> The type of the result.
+     * @param <E> The type of exception thrown by the stage.
+     */
+    @FunctionalInterface
+    public interface Action<T, E extends Exception> {
+        /**
+         * Runs the stage.
+         *
+         * @return The result of the stage.
+         * @throws E If the stage fails.
+         */
+        T call() throws E;
+    }
+
+    /**
+     * A stage that produces no result.
+     *
+     * @param <E> The type of exception thrown by the stage.
+     */
+    @FunctionalInterface
+    public interface VoidAction<E extends Exception> {
+        /**
+         * Runs the stage.
+         *
+         * @throws E If the stage fails.
+         */
+        void run() throws E;
+    }
+
+    private final StageEvent event;
+
+    private Span(StageEvent event) {
+        this.event = event;
+    }
+
+    /**
+     * Starts timing a stage.
+     *
+     * @param stage The stage to time.
+     * @param detail The input, command or storage operation of the stage, shown with the event.
+     * @return The span, to be closed when the stage ends.
+     */
+    public static Span start(Stage stage, String detail) {
+        assert stage != null : "Stage must not be null";
+
+        StageEvent event = switch (stage) {
+        case PARSE -> new StageEvent.Parse(detail);
+        case EXECUTE -> new StageEvent.Execute(detail);
+        case RENDER -> new StageEvent.Render(detail);
+        case PERSIST -> new StageEvent.Persist(detail);
+        };
+        event.begin();
+        return new Span(event);
+    }
+
+    /**
+     * Runs a stage that produces a result, timing it as a span.
+     *
+     * @param stage The stage to time.
+     * @param detail The input, command or storage operation of the stage, shown with the event.
+     * @param action The stage to run.
+     * @param <T> The type of the result.
+     * @param <E> The type of exception thrown by the stage.
+     * @return The result of the stage.
+     * @throws E If the stage fails, in which case the span is still ended.
+     */
+    public static <T, E extends Exception> T call(Stage stage, String detail, Action<T, E> action) throws E {
+        Span span = start(stage, detail);
+        try {
+            return action.call();
+        } finally {
+            span.close();
+        }
+    }
+
+    /**
+     * Runs a stage that produces no result, timing it as a span.
+     *
+     * @param stage The stage to time.
+     * @param detail The input, command or storage operation of the stage, shown with the event.
+     * @param action The stage to run.
+     * @param <E> The type of exception thrown by the stage.
+     * @throws E If the stage fails, in which case the span is still ended.
+     */
+    public static <E extends Exception> void run(Stage stage, String detail, VoidAction<E> action) throws E {
+        Span span = start(stage, detail);
+        try {
+            action.run();
+        } finally {
+            span.close();
+        }
+    }
+
+    /**
+     * Ends the stage, committing its event if it is recorded.
+     */
+    @Override
+    public void close() {
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+}
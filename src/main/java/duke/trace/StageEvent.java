@@ -0,0 +1,76 @@
+package duke.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event timing one stage of the command pipeline, emitted by a {@link Span}.
+ * <p>
+ * Every stage has its own event type, named {@code duke.<Stage>}, so that the stages can be told apart and
+ * enabled separately in a recording. Stack traces are not recorded, as the stage and its detail already tell
+ * where the time went.
+ */
+@Category("Duke")
+@StackTrace(false)
+public abstract class StageEvent extends Event {
+
+    @Label("Detail")
+    @Description("The input, command or storage operation of the stage")
+    String detail;
+
+    private StageEvent(String detail) {
+        this.detail = detail;
+    }
+
+    /**
+     * Parsing an input into a command.
+     */
+    @Name("duke.Parse")
+    @Label("Parse")
+    @Description("Parsing an input into a command")
+    static final class Parse extends StageEvent {
+        Parse(String detail) {
+            super(detail);
+        }
+    }
+
+    /**
+     * Executing a command on a copy of the state, once per attempt.
+     */
+    @Name("duke.Execute")
+    @Label("Execute")
+    @Description("Executing a command on a copy of the state, once per attempt")
+    static final class Execute extends StageEvent {
+        Execute(String detail) {
+            super(detail);
+        }
+    }
+
+    /**
+     * Displaying the results of a committed command.
+     */
+    @Name("duke.Render")
+    @Label("Render")
+    @Description("Displaying the results of a committed command")
+    static final class Render extends StageEvent {
+        Render(String detail) {
+            super(detail);
+        }
+    }
+
+    /**
+     * Saving tasks to or loading tasks from storage.
+     */
+    @Name("duke.Persist")
+    @Label("Persist")
+    @Description("Saving tasks to or loading tasks from storage")
+    static final class Persist extends StageEvent {
+        Persist(String detail) {
+            super(detail);
+        }
+    }
+}
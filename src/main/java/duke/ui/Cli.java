@@ -2,8 +2,6 @@ package duke.ui;
 
 import java.io.InputStream;
 import java.io.PrintStream;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 
@@ -16,42 +14,38 @@ import java.util.Scanner;
  * The CLI prompts the user, processes input, and displays task-related outputs
  * or errors. It also provides methods to display formatted messages and a
  * method to close the interface.
+ * <p>
+ * Output is rendered by a {@link TextRenderer}, which writes each response to the terminal at once, either
+ * decorated for the user or in a raw format for piping to other programs.
  */
 public class Cli implements Ui {
 
     private final Scanner scanner;
-    private final PrintStream printStream;
+    private final TextRenderer renderer;
     private boolean isOpen;
 
 
     /**
-     * Constructs a new instance of the CLI.
-     * <p>
-     * Initializes the scanner for input, and displays a welcome message to the user.
+     * Constructs a new instance of the CLI, displaying decorated output.
      *
      * @param inputStream The input stream to read user input from.
      * @param printStream The print stream to display output to the user.
      */
     public Cli(InputStream inputStream, PrintStream printStream) {
-        scanner = new Scanner(inputStream);
-        this.printStream = printStream;
-        isOpen = true;
-    }
-
-    /**
-     * Displays a separator line for visual clarity in the terminal output.
-     */
-    private void showLineSeparator() {
-        printStream.println("   _____________________________________________________________________________");
+        this(inputStream, printStream, TextRenderer.Mode.DECORATED);
     }
 
     /**
-     * Displays a single line of text with indentation for formatting.
+     * Constructs a new instance of the CLI, displaying output in the specified mode.
      *
-     * @param line The text to be displayed.
+     * @param inputStream The input stream to read user input from.
+     * @param printStream The print stream to display output to the user.
+     * @param mode How the output is rendered.
      */
-    private void showLine(String line) {
-        printStream.println(String.format("    %s", line));
+    public Cli(InputStream inputStream, PrintStream printStream, TextRenderer.Mode mode) {
+        scanner = new Scanner(inputStream);
+        renderer = new TextRenderer(printStream, mode);
+        isOpen = true;
     }
 
     /**
@@ -63,7 +57,10 @@ public class Cli implements Ui {
      */
     public String getInput() {
         String input = scanner.nextLine().trim();
-        showLineSeparator();
+        synchronized (this) {
+            renderer.appendSeparator();
+            renderer.flush();
+        }
         return input;
     }
 
@@ -75,11 +72,26 @@ public class Cli implements Ui {
      * @param lines The list of lines to be displayed.
      */
     @Override
-    public void showOutput(List<String> lines) {
+    public synchronized void showOutput(List<String> lines) {
         for (String line : lines) {
-            showLine(line);
+            renderer.appendLine(line);
         }
-        showLineSeparator();
+        renderer.endResponse();
+    }
+
+    /**
+     * Displays output in the terminal as its lines are produced, each on a new line.
+     * <p>
+     * Lines are written to the terminal in chunks as they are produced, with a separator line at the end.
+     *
+     * @param lines The lines to be displayed.
+     */
+    @Override
+    public synchronized void streamOutput(Iterable<String> lines) {
+        for (String line : lines) {
+            renderer.appendLine(line);
+        }
+        renderer.endResponse();
     }
 
     /**
@@ -90,8 +102,11 @@ public class Cli implements Ui {
      * @param lines The strings to be displayed.
      */
     @Override
-    public void showOutput(String... lines) {
-        showOutput(new ArrayList<>(Arrays.asList(lines)));
+    public synchronized void showOutput(String... lines) {
+        for (String line : lines) {
+            renderer.appendLine(line);
+        }
+        renderer.endResponse();
     }
 
     /**
@@ -102,11 +117,11 @@ public class Cli implements Ui {
      * @param lines The list of error messages to be displayed.
      */
     @Override
-    public void showError(List<String> lines) {
+    public synchronized void showError(List<String> lines) {
         for (String line : lines) {
-            showLine(String.format("OOPS!!! %s", line));
+            renderer.appendError(line);
         }
-        showLineSeparator();
+        renderer.endResponse();
     }
 
     /**
@@ -117,32 +132,38 @@ public class Cli implements Ui {
      * @param lines The error messages to be displayed.
      */
     @Override
-    public void showError(String... lines) {
-        showError(new ArrayList<>(Arrays.asList(lines)));
+    public synchronized void showError(String... lines) {
+        for (String line : lines) {
+            renderer.appendError(line);
+        }
+        renderer.endResponse();
     }
 
     /**
      * Displays a greeting message to the user when the program starts.
      * <p>
-     * The greeting provides a welcome message and asks the user for input.
+     * The greeting provides a welcome message and asks the user for input. Raw output is not greeted.
      */
     @Override
-    public void start() {
-        showLineSeparator();
-        showLine("Hello! I'm Mr Meeseeks");
-        showLine("What can I do for you?");
-        showLineSeparator();
+    public synchronized void start() {
+        if (renderer.isRaw()) {
+            return;
+        }
+        renderer.appendSeparator();
+        renderer.appendLine("Hello! I'm Mr Meeseeks");
+        renderer.appendLine("What can I do for you?");
+        renderer.endResponse();
     }
 
     /**
      * Displays a goodbye message and a separator line before closing the interface.
      */
     @Override
-    public void close() {
+    public synchronized void close() {
         assert isOpen() : "Cli is not open";
 
-        showLine("Bye. Hope to see you again soon!");
-        showLineSeparator();
+        renderer.appendLine("Bye. Hope to see you again soon!");
+        renderer.endResponse();
         isOpen = false;
         try {
             scanner.close();
@@ -156,7 +177,7 @@ public class Cli implements Ui {
      *
      * @return true if the CLI is open, false otherwise.
      */
-    public boolean isOpen() {
+    public synchronized boolean isOpen() {
         return isOpen;
     }
 }
@@ -0,0 +1,144 @@
+package duke.ui;
+
+import java.io.PrintStream;
+
+import duke.ui.server.SocketUi;
+
+/**
+ * Renders the responses of a text user interface to a print stream.
+ * <p>
+ * Lines are appended to a buffer that is reused for every response, and the buffer is written to the stream
+ * only when it fills up or the response ends, so that long responses are not slowed down by formatting and
+ * flushing every line.
+ * <p>
+ * In {@link Mode#DECORATED} mode, lines are indented and every response ends with a separator line, for people
+ * reading the output. In {@link Mode#RAW} mode, meant for piping the output to other programs, lines are written
+ * in the format described by {@link SocketUi}: each line is prefixed with whether it is output or an error, even
+ * when several lines are appended as one string, and every response ends with a line containing only
+ * {@value SocketUi#END_OF_RESPONSE}.
+ */
+public class TextRenderer {
+
+    /** The number of characters buffered before they are written to the stream within a response. */
+    static final int BUFFER_CAPACITY = 8192;
+
+    private static final String INDENT = "    ";
+    private static final String ERROR_PREFIX = "OOPS!!! ";
+    private static final String SEPARATOR =
+            "   _____________________________________________________________________________";
+
+    /**
+     * How the lines of a response are rendered.
+     */
+    public enum Mode {
+        /** Indented lines and separator lines, for people reading the output. */
+        DECORATED,
+
+        /** Prefixed lines and an end of response line, for programs reading the output. */
+        RAW
+    }
+
+    private final PrintStream printStream;
+    private final Mode mode;
+    private final String lineSeparator = System.lineSeparator();
+    private final StringBuilder buffer = new StringBuilder(BUFFER_CAPACITY);
+
+    /**
+     * Constructs a {@code TextRenderer} writing to the specified print stream.
+     *
+     * @param printStream The print stream to write to.
+     * @param mode How the lines of a response are rendered.
+     */
+    public TextRenderer(PrintStream printStream, Mode mode) {
+        assert printStream != null : "Print stream must not be null";
+        assert mode != null : "Mode must not be null";
+
+        this.printStream = printStream;
+        this.mode = mode;
+    }
+
+    /**
+     * Returns whether the output is rendered for other programs to read.
+     *
+     * @return {@code true} if the mode is {@link Mode#RAW}.
+     */
+    public boolean isRaw() {
+        return mode == Mode.RAW;
+    }
+
+    /**
+     * Appends a line of output to the response.
+     *
+     * @param line The line to append.
+     */
+    public void appendLine(String line) {
+        if (isRaw()) {
+            appendPrefixed(SocketUi.OUTPUT_PREFIX, line);
+        } else {
+            appendLine(INDENT, line);
+        }
+    }
+
+    /**
+     * Appends a line of an error message to the response.
+     *
+     * @param line The line to append.
+     */
+    public void appendError(String line) {
+        if (isRaw()) {
+            appendPrefixed(SocketUi.ERROR_PREFIX, line);
+        } else {
+            buffer.append(INDENT).append(ERROR_PREFIX);
+            appendLine("", line);
+        }
+    }
+
+    /**
+     * Appends a separator line, which is only rendered in {@link Mode#DECORATED} mode.
+     */
+    public void appendSeparator() {
+        if (!isRaw()) {
+            appendLine("", SEPARATOR);
+        }
+    }
+
+    /**
+     * Ends the response and writes it to the stream.
+     */
+    public void endResponse() {
+        if (isRaw()) {
+            appendLine("", SocketUi.END_OF_RESPONSE);
+        } else {
+            appendLine("", SEPARATOR);
+        }
+        flush();
+    }
+
+    /**
+     * Writes the buffered lines to the stream and flushes it.
+     */
+    public void flush() {
+        writeBuffer();
+        printStream.flush();
+    }
+
+    private void appendPrefixed(String prefix, String line) {
+        for (String part : SocketUi.splitLines(line)) {
+            appendLine(prefix, part);
+        }
+    }
+
+    private void appendLine(String prefix, String line) {
+        buffer.append(prefix).append(line).append(lineSeparator);
+        if (buffer.length() >= BUFFER_CAPACITY) {
+            writeBuffer();
+        }
+    }
+
+    private void writeBuffer() {
+        if (buffer.length() > 0) {
+            printStream.append(buffer);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package duke.ui;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,6 +25,24 @@ public interface Ui {
      */
     public void showOutput(String... lines);
 
+    /**
+     * Displays output to the user as its lines are produced.
+     * <p>
+     * The lines may be produced lazily while they are iterated, so that a long output does not have to be held
+     * in memory at once. They are iterated at most once, possibly after the command displaying them has
+     * returned, so they must be produced from data that is not modified afterwards, such as the tasks of a
+     * state. By default, the lines are collected and displayed with {@link #showOutput(List)}.
+     *
+     * @param lines The lines to be displayed.
+     */
+    public default void streamOutput(Iterable<String> lines) {
+        List<String> output = new ArrayList<>();
+        for (String line : lines) {
+            output.add(line);
+        }
+        showOutput(output);
+    }
+
     /**
      * Displays a list of error messages to the user, usually prefixed with "OOPS!!!".
      *
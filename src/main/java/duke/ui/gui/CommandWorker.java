@@ -0,0 +1,87 @@
+package duke.ui.gui;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javafx.application.Platform;
+
+/**
+ * Processes the inputs of the GUI on a single worker thread, off the JavaFX application thread.
+ * <p>
+ * Inputs are processed one at a time in the order they were submitted, so the window stays responsive while
+ * a long command, such as one saving or listing many tasks, is processed. The processor is expected to marshal
+ * whatever it displays back to the JavaFX application thread, as {@link GuiAdaptor} does.
+ * <p>
+ * The worker also tells a listener, on the JavaFX application thread, when it starts to be busy and when every
+ * submitted input has been processed, so that the GUI can indicate that commands are in progress.
+ */
+public class CommandWorker {
+
+    /** The maximum time to wait for the submitted inputs to be processed when the worker is shut down. */
+    static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService worker;
+    private final Consumer<String> processor;
+    private final Consumer<Boolean> busyListener;
+
+    /** The number of inputs submitted but not yet processed, only accessed on the JavaFX application thread. */
+    private int pendingCount;
+
+    /**
+     * Constructs a {@code CommandWorker} with the specified processor and busy listener.
+     *
+     * @param processor    a {@code Consumer<String>} processing each input on the worker thread
+     * @param busyListener a {@code Consumer<Boolean>} told whether the worker has inputs to process
+     */
+    public CommandWorker(Consumer<String> processor, Consumer<Boolean> busyListener) {
+        this.processor = processor;
+        this.busyListener = busyListener;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gui-command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the input to be processed after every input submitted before it.
+     * <p>
+     * This method must be called on the JavaFX application thread.
+     *
+     * @param input the user input to process
+     */
+    public void submit(String input) {
+        assert Platform.isFxApplicationThread() : "Inputs must be submitted on the JavaFX application thread";
+
+        if (pendingCount++ == 0) {
+            busyListener.accept(true);
+        }
+        worker.execute(() -> {
+            try {
+                processor.accept(input);
+            } finally {
+                Platform.runLater(this::finishInput);
+            }
+        });
+    }
+
+    /**
+     * Stops accepting inputs and waits for the submitted inputs to be processed.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void finishInput() {
+        if (--pendingCount == 0) {
+            busyListener.accept(false);
+        }
+    }
+}
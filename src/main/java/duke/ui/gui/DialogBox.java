@@ -1,65 +1,84 @@
 package duke.ui.gui;
 
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
 
 /**
  * Represents a dialog box consisting of an ImageView to represent the speaker's face
  * and a label containing text from the speaker.
+ * <p>
+ * A dialog box is built in code rather than loaded from FXML, and can be reused for another message with
+ * {@link #show(Transcript.Message, Image)}, so that the boxes of messages scrolled out of the conversation can be
+ * recycled.
  */
 public class DialogBox extends HBox {
 
+    private static final double SPACING = 10;
+    private static final double PICTURE_SIZE = 45;
+    private static final double PICTURE_ARC = 20;
+    private static final double MAX_DIALOG_WIDTH = 300;
+    private static final double PREF_WIDTH = 400;
+    private static final String DIALOG_STYLE = "-fx-text-fill: #333333; -fx-background-radius: 12; -fx-padding: 10;";
+
     /**
      * Label to display the dialog text.
      */
-    @FXML
-    private Label dialog;
+    private final Label dialog = new Label();
 
     /**
      * ImageView to display the speaker's image.
      */
-    @FXML
-    private ImageView displayPicture;
+    private final ImageView displayPicture = new ImageView();
 
     /**
-     * Constructs a DialogBox with the specified text and image.
-     *
-     * @param text the text to display in the dialog box
-     * @param img  the image to display in the dialog box
+     * Constructs an empty DialogBox, to be filled with {@link #show(Transcript.Message, Image)}.
      */
-    private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    public DialogBox() {
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPrefWidth(PREF_WIDTH);
+        setPadding(new Insets(SPACING));
+        setSpacing(SPACING);
 
-        dialog.setText(text);
-        displayPicture.setImage(img);
+        dialog.setWrapText(true);
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        dialog.setMaxWidth(MAX_DIALOG_WIDTH);
+
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
+        Rectangle clip = new Rectangle(PICTURE_SIZE, PICTURE_SIZE);
+        clip.setArcWidth(PICTURE_ARC);
+        clip.setArcHeight(PICTURE_ARC);
+        displayPicture.setClip(clip);
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and the text is on the right.
+     * Shows the specified message in the dialog box, replacing the message it showed before.
+     * <p>
+     * Messages from the user are shown on the right, with the image after the text, while messages from Duke
+     * are flipped such that the image is on the left and the text is on the right.
+     *
+     * @param message the message to display
+     * @param img the image of the speaker of the message
      */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
+    public void show(Transcript.Message message, Image img) {
+        dialog.setText(message.getText());
+        displayPicture.setImage(img);
+        if (message.getSpeaker() == Transcript.Speaker.USER) {
+            getChildren().setAll(dialog, displayPicture);
+            setAlignment(Pos.TOP_RIGHT);
+        } else {
+            getChildren().setAll(displayPicture, dialog);
+            setAlignment(Pos.TOP_LEFT);
+        }
+        setColor(getColor(message.getSpeaker()));
     }
 
     /**
@@ -68,49 +87,14 @@ public class DialogBox extends HBox {
      * @param color the color to set
      */
     private void setColor(String color) {
-        String existingStyle = dialog.getStyle();
-        dialog.setStyle(String.format("%s -fx-background-color: %s;", existingStyle, color));
+        dialog.setStyle(String.format("%s -fx-background-color: %s;", DIALOG_STYLE, color));
     }
 
-    /**
-     * Creates a dialog box for user input.
-     *
-     * @param text the user's input text
-     * @param img  the user's profile image
-     * @return a DialogBox containing the user's dialog
-     */
-    public static DialogBox getUserDialog(String text, Image img) {
-        var db = new DialogBox(text, img);
-        db.setColor("#D6F6D5");
-        return db;
-    }
-
-    /**
-     * Creates a dialog box for Duke's response, with the layout flipped.
-     *
-     * @param text Duke's response text
-     * @param img  Duke's profile image
-     * @return a flipped DialogBox containing Duke's dialog
-     */
-    public static DialogBox getDukeDialog(String text, Image img) {
-        var db = new DialogBox(text, img);
-        db.flip();
-        db.setColor("#E8F0FE");
-        return db;
-    }
-
-    /**
-     * Create a dialog box for an error message, with the layout flipped.
-     *
-     * @param text The message to display
-     * @param img  The image to display
-     * @return a flipped DialogBox containing Error message
-     */
-    public static DialogBox getErrorDialog(String text, Image img) {
-        var db = new DialogBox(text, img);
-        db.flip();
-        db.setColor("#FFEDED");
-        return db;
+    private static String getColor(Transcript.Speaker speaker) {
+        return switch (speaker) {
+        case USER -> "#D6F6D5";
+        case DUKE -> "#E8F0FE";
+        case ERROR -> "#FFEDED";
+        };
     }
 }
-
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import duke.ui.Ui;
+import javafx.application.Platform;
 
 /**
  * An adapter class that connects the GUI interface to Duke's backend logic.
@@ -15,6 +16,9 @@ import duke.ui.Ui;
  */
 public class GuiAdaptor implements Ui {
 
+    /** The maximum number of lines of streamed output shown in a dialog box. */
+    static final int MAX_STREAMED_LINES = 100;
+
     private final MainWindow mainWindow;
     private final Runnable closeGui;
 
@@ -36,8 +40,9 @@ public class GuiAdaptor implements Ui {
      */
     @Override
     public void showOutput(List<String> lines) {
-        mainWindow.showDukeMessage(lines.stream().collect(
-                StringBuilder::new, (sb, line) -> sb.append(line).append("\n"), StringBuilder::append).toString());
+        String output = lines.stream().collect(
+                StringBuilder::new, (sb, line) -> sb.append(line).append("\n"), StringBuilder::append).toString();
+        runOnFxThread(() -> mainWindow.showDukeMessage(output));
     }
 
     /**
@@ -50,15 +55,43 @@ public class GuiAdaptor implements Ui {
         showOutput(new ArrayList<>(Arrays.asList(lines)));
     }
 
+    /**
+     * Displays streamed output in the GUI dialog box, up to {@value #MAX_STREAMED_LINES} lines.
+     * <p>
+     * Long outputs, such as the list of every task, are cut short instead of being laid out in a single giant
+     * label, as the tasks are all shown in the task panel anyway.
+     *
+     * @param lines the lines to display
+     */
+    @Override
+    public void streamOutput(Iterable<String> lines) {
+        StringBuilder output = new StringBuilder();
+        int count = 0;
+        for (String line : lines) {
+            if (count == MAX_STREAMED_LINES) {
+                output.append("... and more! Check the task panel for the rest.\n");
+                break;
+            }
+            output.append(line).append("\n");
+            count++;
+        }
+        String message = output.toString();
+        runOnFxThread(() -> mainWindow.showDukeMessage(message));
+    }
+
     /**
      * Displays error messages in the GUI dialog box with a prefix message.
+     * <p>
+     * Errors may be reported by background threads, such as the storage writer, in which case the message is
+     * displayed later on the JavaFX application thread.
      *
      * @param lines a list of error lines to display
      */
     @Override
     public void showError(List<String> lines) {
-        mainWindow.showErrorMessage("OOPS!!!\n" + lines.stream().collect(
-                StringBuilder::new, (sb, line) -> sb.append(line).append("\n"), StringBuilder::append).toString());
+        String output = "OOPS!!!\n" + lines.stream().collect(
+                StringBuilder::new, (sb, line) -> sb.append(line).append("\n"), StringBuilder::append).toString();
+        runOnFxThread(() -> mainWindow.showErrorMessage(output));
     }
 
     /**
@@ -81,10 +114,20 @@ public class GuiAdaptor implements Ui {
 
     /**
      * Displays a farewell message and closes the GUI.
+     * <p>
+     * Commands are executed off the JavaFX application thread, so the GUI is closed later on it.
      */
     @Override
     public void close() {
         showOutput("Bye. Hope to see you again soon!");
-        this.closeGui.run();
+        runOnFxThread(closeGui);
+    }
+
+    private static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
     }
 }
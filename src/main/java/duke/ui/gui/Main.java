@@ -3,7 +3,9 @@ package duke.ui.gui;
 import java.io.IOException;
 
 import duke.Duke;
+import duke.task.TaskContainer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.layout.AnchorPane;
@@ -21,6 +23,9 @@ public class Main extends Application {
     static final int MIN_SCREEN_WIDTH = 220;
     static final int MIN_SCREEN_HEIGHT = 417;
 
+    private Duke duke;
+    private CommandWorker commandWorker;
+
     /**
      * Starts the JavaFX application by setting up the main stage and scene,
      * loading the FXML layout, and injecting dependencies.
@@ -42,11 +47,18 @@ public class Main extends Application {
             stage.setTitle("Meeseeks Tasks");
 
             // Set up the adapter for GUI communication and initialize the Duke instance
-            GuiAdaptor guiAdaptor = new GuiAdaptor(fxmlLoader.<MainWindow>getController(), () -> stage.close());
-            Duke duke = new Duke(guiAdaptor);
+            MainWindow mainWindow = fxmlLoader.getController();
+            GuiAdaptor guiAdaptor = new GuiAdaptor(mainWindow, () -> stage.close());
+            duke = new Duke(guiAdaptor);
+            mainWindow.showTasks(duke.getState().getTasks());
 
-            // Inject input consumer to handle user interactions
-            fxmlLoader.<MainWindow>getController().setInputConsumer((String userInput) -> duke.process(userInput));
+            // Process inputs in order off the JavaFX application thread, showing the tasks after every command
+            commandWorker = new CommandWorker((String userInput) -> {
+                duke.process(userInput);
+                TaskContainer tasks = duke.getState().getTasks();
+                Platform.runLater(() -> mainWindow.showTasks(tasks));
+            }, mainWindow::setBusy);
+            mainWindow.setInputConsumer(commandWorker::submit);
 
             // Show the main GUI window
             stage.show();
@@ -56,4 +68,18 @@ public class Main extends Application {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Waits for the submitted commands to be processed and all saved tasks to be written to storage before the
+     * application exits.
+     */
+    @Override
+    public void stop() {
+        if (commandWorker != null) {
+            commandWorker.shutdown();
+        }
+        if (duke != null) {
+            duke.flush();
+        }
+    }
 }
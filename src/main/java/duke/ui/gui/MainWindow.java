@@ -1,14 +1,23 @@
 package duke.ui.gui;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.Consumer;
 
+import duke.task.TaskContainer;
+import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 
 
 /**
@@ -17,9 +26,26 @@ import javafx.scene.layout.VBox;
  * Manages the layout and interactions for the chat interface, including displaying
  * user and Duke messages in dialog boxes, handling user input, and setting up initial properties.
  * </p>
+ * <p>
+ * Only the latest messages of the {@link Transcript} are shown, and older messages are shown again a few at a
+ * time when the user scrolls to the top. The dialog boxes of messages that are no longer shown are recycled for
+ * new messages, rather than created for every message.
+ * </p>
  */
 public class MainWindow extends AnchorPane {
 
+    /** The number of latest messages shown after a message is added. */
+    static final int MAX_VISIBLE_MESSAGES = 50;
+
+    /** The number of latest messages kept to be shown again when the user scrolls up. */
+    static final int MAX_KEPT_MESSAGES = 1000;
+
+    /** The number of older messages shown each time the user scrolls to the top. */
+    static final int OLDER_MESSAGES_SHOWN = 20;
+
+    /** The time commands must be in progress for before the progress indicator is shown. */
+    static final long PROGRESS_DELAY_MILLIS = 200;
+
     @FXML
     private ScrollPane scrollPane;
 
@@ -32,19 +58,51 @@ public class MainWindow extends AnchorPane {
     @FXML
     private Button sendButton;
 
+    @FXML
+    private TaskPanel taskPanel;
+
+    @FXML
+    private ProgressIndicator progressIndicator;
+
     private Consumer<String> inputConsumer;
 
+    private final Transcript transcript = new Transcript(MAX_VISIBLE_MESSAGES, MAX_KEPT_MESSAGES);
+    private final Deque<DialogBox> recycledDialogs = new ArrayDeque<>();
+    private final PauseTransition progressDelay = new PauseTransition(Duration.millis(PROGRESS_DELAY_MILLIS));
+
+    /** Whether older messages were just shown, so the next change of height should not scroll to the bottom. */
+    private boolean isShowingOlder;
+
     private final Image userImage = new Image(this.getClass().getResourceAsStream("/images/User.png"));
     private final Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/Meeseeks.png"));
     private final Image errorImage = new Image(this.getClass().getResourceAsStream("/images/RedMeeseeks.png"));
 
     /**
-     * Initializes the MainWindow by binding the scroll pane's vertical scroll value
-     * to the height of the dialog container, ensuring it scrolls to the latest message.
+     * Initializes the MainWindow by scrolling to the latest message whenever the dialog container grows, and
+     * showing older messages whenever the user scrolls to the top.
+     * <p>
+     * When older messages are shown, the scroll position is moved down by their height instead, so that the
+     * messages the user was reading stay in place.
      */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        progressDelay.setOnFinished(event -> progressIndicator.setVisible(true));
+        dialogContainer.heightProperty().addListener((observable, oldHeight, newHeight) -> {
+            if (!isShowingOlder) {
+                scrollPane.setVvalue(1.0);
+                return;
+            }
+            isShowingOlder = false;
+            double scrollableHeight = newHeight.doubleValue() - scrollPane.getViewportBounds().getHeight();
+            if (scrollableHeight > 0) {
+                scrollPane.setVvalue((newHeight.doubleValue() - oldHeight.doubleValue()) / scrollableHeight);
+            }
+        });
+        scrollPane.vvalueProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue.doubleValue() == 0 && transcript.hasOlder()) {
+                showOlderMessages();
+            }
+        });
     }
 
     /**
@@ -53,9 +111,7 @@ public class MainWindow extends AnchorPane {
      * @param output the message text to display
      */
     public void showUserMessage(String output) {
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(output, userImage)
-        );
+        showMessage(new Transcript.Message(Transcript.Speaker.USER, output));
     }
 
     /**
@@ -64,9 +120,7 @@ public class MainWindow extends AnchorPane {
      * @param output the message text to display
      */
     public void showDukeMessage(String output) {
-        dialogContainer.getChildren().addAll(
-                DialogBox.getDukeDialog(output, dukeImage)
-        );
+        showMessage(new Transcript.Message(Transcript.Speaker.DUKE, output));
     }
 
     /**
@@ -75,9 +129,33 @@ public class MainWindow extends AnchorPane {
      * @param output the message text to display
      */
     public void showErrorMessage(String output) {
-        dialogContainer.getChildren().addAll(
-                DialogBox.getErrorDialog(output, errorImage)
-        );
+        showMessage(new Transcript.Message(Transcript.Speaker.ERROR, output));
+    }
+
+    /**
+     * Shows the given tasks in the task panel, updating only the rows that changed since it was last shown.
+     *
+     * @param tasks the tasks to show
+     */
+    public void showTasks(TaskContainer tasks) {
+        taskPanel.sync(tasks);
+    }
+
+    /**
+     * Shows whether commands are in progress.
+     * <p>
+     * The progress indicator is only shown once commands have been in progress for
+     * {@value #PROGRESS_DELAY_MILLIS} milliseconds, so that it does not flicker for every quick command.
+     *
+     * @param isBusy whether commands are in progress
+     */
+    public void setBusy(boolean isBusy) {
+        if (isBusy) {
+            progressDelay.playFromStart();
+        } else {
+            progressDelay.stop();
+            progressIndicator.setVisible(false);
+        }
     }
 
     /**
@@ -89,6 +167,46 @@ public class MainWindow extends AnchorPane {
         this.inputConsumer = inputConsumer;
     }
 
+    private void showMessage(Transcript.Message message) {
+        int hiddenCount = transcript.add(message);
+        List<Node> hiddenDialogs = dialogContainer.getChildren().subList(0, hiddenCount);
+        for (Node dialog : hiddenDialogs) {
+            recycle((DialogBox) dialog);
+        }
+        hiddenDialogs.clear();
+        dialogContainer.getChildren().add(createDialog(message));
+    }
+
+    private void showOlderMessages() {
+        List<DialogBox> olderDialogs = new ArrayList<>();
+        for (Transcript.Message message : transcript.showOlder(OLDER_MESSAGES_SHOWN)) {
+            olderDialogs.add(createDialog(message));
+        }
+        isShowingOlder = true;
+        dialogContainer.getChildren().addAll(0, olderDialogs);
+    }
+
+    private DialogBox createDialog(Transcript.Message message) {
+        DialogBox dialog = recycledDialogs.isEmpty() ? new DialogBox() : recycledDialogs.pop();
+        dialog.show(message, getImage(message.getSpeaker()));
+        return dialog;
+    }
+
+    private void recycle(DialogBox dialog) {
+        // Keeping more boxes than are ever shown at once would only hold on to memory
+        if (recycledDialogs.size() < MAX_VISIBLE_MESSAGES) {
+            recycledDialogs.push(dialog);
+        }
+    }
+
+    private Image getImage(Transcript.Speaker speaker) {
+        return switch (speaker) {
+        case USER -> userImage;
+        case DUKE -> dukeImage;
+        case ERROR -> errorImage;
+        };
+    }
+
     /**
      * Handles user input when the send button is pressed or the Enter key is triggered.
      * <p>
@@ -0,0 +1,102 @@
+package duke.ui.gui;
+
+import java.util.List;
+
+import duke.task.Task;
+import duke.task.TaskChange;
+import duke.task.TaskContainer;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+
+/**
+ * A panel showing every task of a task container, next to the conversation in the GUI.
+ * <p>
+ * The panel is a {@link ListView}, which only creates cells for the rows that are visible, so that it stays
+ * responsive with any number of tasks. Like the indexes of the tasks, the panel remembers the version of the
+ * container it last showed, and when it is synchronized with a container copied from it, only the tasks that
+ * were added, removed or replaced are updated.
+ */
+public class TaskPanel extends ListView<Task> {
+
+    /** The height of every row, so that the rows do not have to be measured. */
+    static final double ROW_HEIGHT = 24;
+
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList();
+
+    private long syncedVersion;
+    private int syncedChangeCount;
+    private boolean isBuilt;
+
+    /**
+     * Constructs an empty {@code TaskPanel}.
+     */
+    public TaskPanel() {
+        setItems(tasks);
+        setFixedCellSize(ROW_HEIGHT);
+        setCellFactory(listView -> new TaskCell());
+    }
+
+    /**
+     * Brings the panel up to date with the given task container.
+     * <p>
+     * This method must be called on the JavaFX application thread.
+     *
+     * @param container The task container to show.
+     */
+    public void sync(TaskContainer container) {
+        assert container != null : "Tasks must not be null";
+
+        List<TaskChange> changes = container.getChanges();
+        if (isBuilt && container.getVersion() == syncedVersion) {
+            apply(changes.subList(syncedChangeCount, changes.size()), container);
+        } else if (isBuilt && container.getBaseVersion() == syncedVersion) {
+            apply(changes, container);
+        } else {
+            rebuild(container);
+        }
+        syncedVersion = container.getVersion();
+        syncedChangeCount = changes.size();
+    }
+
+    private void apply(List<TaskChange> changes, TaskContainer container) {
+        if (changes.size() > tasks.size() / 2) {
+            // Replacing every row at once is cheaper than many single updates, each relaying out the view
+            rebuild(container);
+            return;
+        }
+        for (TaskChange change : changes) {
+            if (change instanceof TaskChange.Insert insert) {
+                tasks.add(insert.getIndex(), insert.getTask());
+            } else if (change instanceof TaskChange.Remove) {
+                tasks.remove(change.getIndex());
+            } else if (change instanceof TaskChange.Replace replace) {
+                tasks.set(replace.getIndex(), replace.getTask());
+            }
+        }
+        assert tasks.size() == container.size() : "Panel should show every task";
+    }
+
+    private void rebuild(TaskContainer container) {
+        Task[] all = new Task[container.size()];
+        container.list((index, task) -> all[index] = task);
+        tasks.setAll(all);
+        isBuilt = true;
+    }
+
+    /**
+     * A row of the panel, showing the position, the task and its ID.
+     */
+    private static class TaskCell extends ListCell<Task> {
+        @Override
+        protected void updateItem(Task task, boolean isEmpty) {
+            super.updateItem(task, isEmpty);
+            if (isEmpty || task == null) {
+                setText(null);
+            } else {
+                setText(String.format("%d. %s (#%d)", getIndex() + 1, task, task.getId()));
+            }
+        }
+    }
+}
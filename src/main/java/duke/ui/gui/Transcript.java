@@ -0,0 +1,147 @@
+package duke.ui.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the messages of the conversation in the GUI, of which only the latest few are shown.
+ * <p>
+ * At most a fixed number of the latest messages are visible, so that the number of nodes in the conversation
+ * does not grow with the length of the session. Older messages are kept, up to a larger limit, and can be made
+ * visible again a few at a time as the user scrolls up. Once a new message is added, the visible messages are
+ * cut back to the latest ones.
+ */
+public class Transcript {
+
+    /**
+     * The speaker of a message, which decides how it is displayed.
+     */
+    public enum Speaker {
+        /** A message typed by the user. */
+        USER,
+
+        /** A response from Duke. */
+        DUKE,
+
+        /** An error message from Duke. */
+        ERROR
+    }
+
+    private final int maxVisible;
+    private final int maxKept;
+    private final List<Message> messages = new ArrayList<>();
+
+    /** The index in {@link #messages} of the first visible message. */
+    private int firstVisible;
+
+    /**
+     * Constructs an empty {@code Transcript}.
+     *
+     * @param maxVisible The number of latest messages visible after a message is added.
+     * @param maxKept The number of latest messages kept to be shown again when the user scrolls up.
+     */
+    public Transcript(int maxVisible, int maxKept) {
+        assert maxVisible > 0 : "Transcript must show at least one message";
+        assert maxKept >= maxVisible : "Transcript must keep every visible message";
+
+        this.maxVisible = maxVisible;
+        this.maxKept = maxKept;
+    }
+
+    /**
+     * Adds a message to the end of the transcript, hiding the oldest visible messages beyond the limit.
+     *
+     * @param message The message to add.
+     * @return The number of messages at the start of the visible messages that are no longer visible.
+     */
+    public int add(Message message) {
+        assert message != null : "Message must not be null";
+
+        int visibleCount = getVisibleCount();
+        messages.add(message);
+        if (messages.size() > maxKept) {
+            int dropped = messages.size() - maxKept;
+            messages.subList(0, dropped).clear();
+            firstVisible = Math.max(0, firstVisible - dropped);
+        }
+        firstVisible = Math.max(firstVisible, messages.size() - maxVisible);
+        return visibleCount + 1 - getVisibleCount();
+    }
+
+    /**
+     * Makes up to the given number of older messages visible again, before the visible messages.
+     *
+     * @param count The maximum number of messages to show.
+     * @return The messages made visible, from the oldest to the latest.
+     */
+    public List<Message> showOlder(int count) {
+        assert count > 0 : "Count must be positive";
+
+        int first = Math.max(0, firstVisible - count);
+        List<Message> older = List.copyOf(messages.subList(first, firstVisible));
+        firstVisible = first;
+        return older;
+    }
+
+    /**
+     * Returns whether there are older messages that are not visible.
+     *
+     * @return {@code true} if {@link #showOlder(int)} would make messages visible.
+     */
+    public boolean hasOlder() {
+        return firstVisible > 0;
+    }
+
+    /**
+     * Returns the visible messages.
+     *
+     * @return The visible messages, from the oldest to the latest.
+     */
+    public List<Message> getVisible() {
+        return List.copyOf(messages.subList(firstVisible, messages.size()));
+    }
+
+    private int getVisibleCount() {
+        return messages.size() - firstVisible;
+    }
+
+    /**
+     * A message in the conversation.
+     */
+    public static final class Message {
+        private final Speaker speaker;
+        private final String text;
+
+        /**
+         * Constructs a {@code Message} from the given speaker.
+         *
+         * @param speaker The speaker of the message.
+         * @param text The text of the message.
+         */
+        public Message(Speaker speaker, String text) {
+            assert speaker != null : "Speaker must not be null";
+            assert text != null : "Text must not be null";
+
+            this.speaker = speaker;
+            this.text = text;
+        }
+
+        /**
+         * Returns the speaker of the message.
+         *
+         * @return The speaker.
+         */
+        public Speaker getSpeaker() {
+            return speaker;
+        }
+
+        /**
+         * Returns the text of the message.
+         *
+         * @return The text.
+         */
+        public String getText() {
+            return text;
+        }
+    }
+}
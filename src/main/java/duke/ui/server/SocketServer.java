@@ -0,0 +1,137 @@
+package duke.ui.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import duke.Duke;
+import duke.ui.Ui;
+
+/**
+ * A server that lets local clients execute commands over TCP, sharing the tasks of a single {@link Duke}.
+ * <p>
+ * The server only accepts connections from the loopback address. Clients send one command per line, and
+ * receive a response for every line in the format described by {@link SocketUi}. Each connection is served by
+ * its own thread, and the commands of all connections are committed one at a time against the shared tasks,
+ * so several clients can submit commands concurrently.
+ */
+public class SocketServer implements Closeable {
+
+    private final Duke duke;
+    private final Ui log;
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections;
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a {@code SocketServer} for the specified {@code Duke}, listening on the specified port.
+     *
+     * @param duke The {@code Duke} to execute the commands of the clients.
+     * @param log The user interface to display errors of the connections to.
+     * @param port The port to listen on, or 0 to listen on any free port.
+     * @throws IOException If the server cannot listen on the port.
+     */
+    public SocketServer(Duke duke, Ui log, int port) throws IOException {
+        assert duke != null : "Duke must not be null";
+        assert log != null : "Log must not be null";
+
+        this.duke = duke;
+        this.log = log;
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+
+        AtomicInteger count = new AtomicInteger();
+        this.connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "socket-connection-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return The local port of the server.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server is closed.
+     *
+     * @throws IOException If a connection cannot be accepted while the server is open.
+     */
+    public void serve() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            sockets.add(socket);
+            connections.execute(() -> handle(socket));
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes the open connections.
+     *
+     * @throws IOException If the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdown();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    private void handle(Socket socket) {
+        SocketUi ui = null;
+        try (socket;
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                BufferedWriter writer = new BufferedWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            ui = new SocketUi(writer);
+            String line;
+            while (ui.isOpen() && (line = reader.readLine()) != null) {
+                String input = line.trim();
+                if (!input.isEmpty()) {
+                    duke.process(input, ui);
+                }
+                ui.writeResponse();
+            }
+        } catch (IOException e) {
+            if (serverSocket.isClosed()) {
+                return;
+            }
+            log.showError(String.format("Connection from [%s] failed %s", socket.getRemoteSocketAddress(),
+                    e.getMessage()));
+        } finally {
+            sockets.remove(socket);
+            if (ui != null) {
+                ui.disconnect();
+                duke.discardBatch(ui);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package duke.ui.server;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.StreamSupport;
+
+import duke.ui.Ui;
+
+/**
+ * Represents the user interface of a client connected to a {@link SocketServer}.
+ * <p>
+ * The lines displayed while a command is executed are buffered, and written to the client as the response to
+ * the command once it has been executed, so that a slow client does not hold up the commands of other clients.
+ * Streamed output is not buffered line by line: its lines are produced as they are written.
+ * Each line of a response is prefixed with {@value #OUTPUT_PREFIX} or {@value #ERROR_PREFIX}, and every
+ * response ends with a line containing only {@value #END_OF_RESPONSE}. Strings displayed with line breaks in
+ * them are split into several lines, each with its own prefix, so that every line on the wire is prefixed.
+ * <p>
+ * Errors displayed by storage in the background after a response is written are included in the next response.
+ * Once the client has disconnected, anything displayed is dropped instead of buffered.
+ */
+public class SocketUi implements Ui {
+
+    /** Prefix of the lines of output in a response. */
+    public static final String OUTPUT_PREFIX = "out ";
+
+    /** Prefix of the lines of errors in a response. */
+    public static final String ERROR_PREFIX = "err ";
+
+    /** The line that ends every response. */
+    public static final String END_OF_RESPONSE = "end";
+
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
+
+    private final Writer writer;
+    private final List<Iterable<String>> response = new ArrayList<>();
+    private boolean isOpen = true;
+    private boolean isConnected = true;
+
+    /**
+     * Constructs a {@code SocketUi} writing responses to the specified writer.
+     *
+     * @param writer The writer to the client.
+     */
+    public SocketUi(Writer writer) {
+        assert writer != null : "Writer must not be null";
+
+        this.writer = writer;
+    }
+
+    /**
+     * Buffers a list of strings as output to the client.
+     *
+     * @param lines The list of strings to be displayed.
+     */
+    @Override
+    public synchronized void showOutput(List<String> lines) {
+        if (isConnected) {
+            response.add(prefix(lines, OUTPUT_PREFIX));
+        }
+    }
+
+    /**
+     * Buffers output to the client, whose lines are produced and prefixed only when the response is written.
+     *
+     * @param lines The lines to be displayed.
+     */
+    @Override
+    public synchronized void streamOutput(Iterable<String> lines) {
+        if (!isConnected) {
+            return;
+        }
+        response.add(() -> StreamSupport.stream(lines.spliterator(), false)
+                .flatMap(line -> Arrays.stream(splitLines(line)))
+                .map(line -> OUTPUT_PREFIX + line)
+                .iterator());
+    }
+
+    /**
+     * Buffers one or more strings as output to the client.
+     *
+     * @param lines The strings to be displayed.
+     */
+    @Override
+    public void showOutput(String... lines) {
+        showOutput(Arrays.asList(lines));
+    }
+
+    /**
+     * Buffers a list of error messages to the client.
+     *
+     * @param lines The list of error messages to be displayed.
+     */
+    @Override
+    public synchronized void showError(List<String> lines) {
+        if (isConnected) {
+            response.add(prefix(lines, ERROR_PREFIX));
+        }
+    }
+
+    /**
+     * Buffers one or more error messages to the client.
+     *
+     * @param lines The error messages to be displayed.
+     */
+    @Override
+    public void showError(String... lines) {
+        showError(Arrays.asList(lines));
+    }
+
+    /**
+     * Does nothing, as clients are not greeted when they connect.
+     */
+    @Override
+    public void start() {
+    }
+
+    /**
+     * Displays a goodbye message, after which the connection is closed once the response is written.
+     */
+    @Override
+    public synchronized void close() {
+        if (isConnected) {
+            response.add(List.of(OUTPUT_PREFIX + "Bye. Hope to see you again soon!"));
+        }
+        isOpen = false;
+    }
+
+    /**
+     * Drops the buffered lines once the connection to the client is closed, along with anything displayed later,
+     * such as errors from saving tasks in the background.
+     */
+    public synchronized void disconnect() {
+        isConnected = false;
+        isOpen = false;
+        response.clear();
+    }
+
+    /**
+     * Returns whether the client may send more commands.
+     *
+     * @return {@code true} if the user interface has not been closed.
+     */
+    public synchronized boolean isOpen() {
+        return isOpen;
+    }
+
+    /**
+     * Writes the buffered lines to the client, followed by the end of the response.
+     *
+     * @throws IOException If the response cannot be written to the client.
+     */
+    public void writeResponse() throws IOException {
+        List<Iterable<String>> chunks;
+        synchronized (this) {
+            chunks = new ArrayList<>(response);
+            response.clear();
+        }
+        for (Iterable<String> lines : chunks) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        writer.write(END_OF_RESPONSE);
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * Splits a displayed string into the lines it is written as, so that each of them can be prefixed.
+     * A string ending with a line break ends with an empty line.
+     *
+     * @param line the string to split, which may contain line breaks
+     * @return the lines of the string, without their line breaks
+     */
+    public static String[] splitLines(String line) {
+        return LINE_BREAK.split(line, -1);
+    }
+
+    private static List<String> prefix(List<String> lines, String prefix) {
+        List<String> prefixed = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            for (String part : splitLines(line)) {
+                prefixed.add(prefix + part);
+            }
+        }
+        return prefixed;
+    }
+}
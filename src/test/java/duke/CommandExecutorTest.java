@@ -0,0 +1,163 @@
+package duke;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import duke.command.AddTodoCommand;
+import duke.command.Command;
+import duke.command.ListCommand;
+import duke.exception.ParseCommandException;
+import duke.history.UndoHistory;
+import duke.storage.Storage;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+public class CommandExecutorTest {
+
+    @Test
+    public void testExecute_conflictingCommand_retriedAndDisplayedOnce() throws ParseCommandException {
+        RecordingStorage storage = new RecordingStorage();
+        RecordingUi ui = new RecordingUi();
+        CommandExecutor executor = new CommandExecutor(
+                new State(new PersistentTaskList(), storage, ui, new UndoHistory()));
+        Command first = AddTodoCommand.parse("todo first");
+        Command addSecond = AddTodoCommand.parse("todo second");
+        AtomicBoolean isInterrupted = new AtomicBoolean();
+        Command second = state -> {
+            if (!isInterrupted.getAndSet(true)) {
+                executor.execute(first, ui);
+            }
+            return addSecond.execute(state);
+        };
+
+        State state = executor.execute(second, ui);
+
+        Assertions.assertEquals(1, executor.getConflictCount());
+        Assertions.assertSame(state, executor.getState());
+        Assertions.assertEquals(List.of("[T][_] first", "[T][_] second"), toStrings(state.getTasks()));
+        Assertions.assertEquals(2, state.getHistory().size());
+        Assertions.assertEquals(2, ui.outputs.size());
+        Assertions.assertEquals(List.of(1, 2), storage.savedSizes);
+    }
+
+    @Test
+    public void testExecute_concurrentCommands_allCommitted() throws InterruptedException {
+        RecordingStorage storage = new RecordingStorage();
+        CommandExecutor executor = new CommandExecutor(
+                new State(new PersistentTaskList(), storage, new RecordingUi(), new UndoHistory()));
+        int threadCount = 8;
+        int commandCount = 100;
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean isDone = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!isDone.get()) {
+                TaskContainer tasks = executor.getState().getTasks();
+                int count = 0;
+                for (Task task : tasks) {
+                    count++;
+                }
+                if (count != tasks.size()) {
+                    failures.add(new AssertionError("Snapshot changed while it was read"));
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < threadCount; i++) {
+            int threadIndex = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    RecordingUi ui = new RecordingUi();
+                    for (int j = 0; j < commandCount; j++) {
+                        executor.execute(AddTodoCommand.parse(String.format("todo task %d-%d", threadIndex, j)), ui);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        isDone.set(true);
+        reader.join();
+
+        Assertions.assertTrue(failures.isEmpty());
+        Assertions.assertEquals(threadCount * commandCount, executor.getState().getTasks().size());
+        int lastSavedSize = storage.savedSizes.get(storage.savedSizes.size() - 1);
+        Assertions.assertEquals(threadCount * commandCount, lastSavedSize);
+    }
+
+    @Test
+    public void testExecute_readOnlyCommand_stateNotCommitted() throws ParseCommandException {
+        RecordingUi ui = new RecordingUi();
+        CommandExecutor executor = new CommandExecutor(
+                new State(new PersistentTaskList(), new RecordingStorage(), ui, new UndoHistory()));
+        State state = executor.getState();
+
+        executor.execute(ListCommand.parse("list"), ui);
+
+        Assertions.assertSame(state, executor.getState());
+        Assertions.assertEquals(1, ui.outputs.size());
+    }
+
+    private static List<String> toStrings(TaskContainer tasks) {
+        List<String> strings = new ArrayList<>();
+        for (Task task : tasks) {
+            strings.add(task.toString());
+        }
+        return strings;
+    }
+
+    private static class RecordingStorage implements Storage {
+        private final List<Integer> savedSizes = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void save(TaskContainer taskList, Ui ui) {
+            savedSizes.add(taskList.size());
+        }
+
+        @Override
+        public void load(TaskContainer taskContainer, Ui ui) {
+        }
+    }
+
+    private static class RecordingUi implements Ui {
+        private final List<List<String>> outputs = new ArrayList<>();
+
+        @Override
+        public void showOutput(List<String> lines) {
+            outputs.add(lines);
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+            outputs.add(List.of(lines));
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+        }
+
+        @Override
+        public void showError(String... lines) {
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
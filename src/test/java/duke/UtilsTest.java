@@ -0,0 +1,37 @@
+package duke;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class UtilsTest {
+
+    @Test
+    public void testParseDate_bothFormats_sameDate() {
+        LocalDate expected = LocalDate.of(2024, 2, 29);
+
+        Assertions.assertEquals(expected, Utils.parseDate("2024-02-29"));
+        Assertions.assertEquals(expected, Utils.parseDate("Feb 29 2024"));
+        Assertions.assertEquals(expected, Utils.parseDate("2024-02-29"));
+    }
+
+    @Test
+    public void testParseDate_invalidDate_throwsDateTimeParseException() {
+        Assertions.assertThrows(DateTimeParseException.class, () -> Utils.parseDate("2023-02-29"));
+        Assertions.assertThrows(DateTimeParseException.class, () -> Utils.parseDate("2024-2-1"));
+        Assertions.assertThrows(DateTimeParseException.class, () -> Utils.parseDate("no idea :-p"));
+        Assertions.assertThrows(DateTimeParseException.class, () -> Utils.parseDate(""));
+    }
+
+    @Test
+    public void testDateToString_manyDates_formattedConsistently() {
+        LocalDate first = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < Utils.CACHE_SIZE * 2; i++) {
+            LocalDate date = first.plusDays(i);
+            Assertions.assertEquals(date, Utils.parseDate(Utils.dateToString(date)));
+        }
+        Assertions.assertEquals("Jan 1 2024", Utils.dateToString(first));
+    }
+}
@@ -9,6 +9,7 @@ import org.mockito.Mockito;
 
 import duke.State;
 import duke.exception.ParseCommandException;
+import duke.history.UndoHistory;
 import duke.storage.Storage;
 import duke.task.Event;
 import duke.task.TaskContainer;
@@ -103,7 +104,7 @@ public class AddEventCommandTest {
         TaskContainer taskContainer = Mockito.mock(TaskContainer.class);
         Storage storage = Mockito.mock(Storage.class);
         Ui ui = Mockito.mock(Ui.class);
-        State state = new State(taskContainer, storage, ui, null, null);
+        State state = new State(taskContainer, storage, ui, new UndoHistory());
         Mockito.when(taskContainer.copy()).thenReturn(taskContainer);
 
         // Act
@@ -0,0 +1,122 @@
+package duke.command;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.State;
+import duke.exception.ParseCommandException;
+import duke.history.UndoHistory;
+import duke.storage.LogStorage;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+import duke.ui.Ui;
+
+class ArchiveCommandTest {
+
+    @TempDir
+    Path directory;
+
+    private RecordingUi ui;
+    private State state;
+
+    @BeforeEach
+    void setUp() {
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("return book"));
+        tasks.add(new Todo("buy groceries"));
+        ui = new RecordingUi();
+        LogStorage storage = new LogStorage(directory.resolve("duke.txt").toString());
+        state = new State(tasks, storage, ui, new UndoHistory());
+    }
+
+    @Test
+    void testParse_noSelection_archivesCompletedTasks() throws ParseCommandException {
+        ArchiveCommand command = (ArchiveCommand) ArchiveCommand.parse("archive");
+
+        Assertions.assertEquals("/done", command.getSelection().toString());
+    }
+
+    @Test
+    void testParse_invalidSelection_throwsParseCommandException() {
+        Assertions.assertThrows(ParseCommandException.class, () -> ArchiveCommand.parse("archive everything"));
+    }
+
+    @Test
+    void testExecute_completedTasks_movedToArchive() throws ParseCommandException {
+        state = MarkCommand.parse("mark 1-2").execute(state);
+
+        State newState = ArchiveCommand.parse("archive").execute(state);
+
+        Assertions.assertEquals(List.of("[T][_] buy groceries"), toStrings(newState.getTasks()));
+        Assertions.assertTrue(newState.getHistory().isEmpty());
+        Assertions.assertTrue(ui.errors.isEmpty());
+
+        ui.outputs.clear();
+        FindCommand.parse("find /archive book").execute(newState);
+        Assertions.assertEquals(List.of(
+                "Here you go! Archived tasks matching \"book\":",
+                "1. [T][X] read book (#1)",
+                "2. [T][X] return book (#2)",
+                "Now go finish it!"), ui.outputs);
+    }
+
+    @Test
+    void testExecute_selectionWithoutCompletedTasks_nothingArchived() throws ParseCommandException {
+        state = MarkCommand.parse("mark 1").execute(state);
+
+        State newState = ArchiveCommand.parse("archive 2-3").execute(state);
+
+        Assertions.assertSame(state, newState);
+        Assertions.assertEquals(List.of("No completed tasks match [2-3] to be archived."), ui.errors);
+    }
+
+    private static List<String> toStrings(TaskContainer tasks) {
+        List<String> strings = new ArrayList<>();
+        for (Task task : tasks) {
+            strings.add(task.toString());
+        }
+        return strings;
+    }
+
+    private static class RecordingUi implements Ui {
+        private final List<String> outputs = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void showOutput(List<String> lines) {
+            outputs.addAll(lines);
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+            outputs.addAll(List.of(lines));
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+            errors.addAll(lines);
+        }
+
+        @Override
+        public void showError(String... lines) {
+            errors.addAll(List.of(lines));
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package duke.command;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.State;
+import duke.exception.ParseCommandException;
+import duke.history.UndoHistory;
+import duke.storage.Storage;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+import duke.ui.Ui;
+
+class BatchCommandTest {
+
+    @TempDir
+    Path directory;
+
+    private RecordingStorage storage;
+    private RecordingUi ui;
+    private State state;
+
+    @BeforeEach
+    void setUp() {
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("existing"));
+        storage = new RecordingStorage();
+        ui = new RecordingUi();
+        state = new State(tasks, storage, ui, new UndoHistory());
+    }
+
+    @Test
+    void testExecute_validCommands_savedAndRecordedOnce() {
+        BatchCommand command = new BatchCommand(List.of(
+                "todo first", "", "# a comment", "todo second", "mark 2", "delete 1", "list"), "batch");
+
+        State newState = command.execute(state);
+
+        Assertions.assertEquals(List.of("[T][X] first", "[T][_] second"), toStrings(newState.getTasks()));
+        Assertions.assertEquals(1, storage.saveCount);
+        Assertions.assertEquals(1, newState.getHistory().size());
+        Assertions.assertTrue(ui.errors.isEmpty());
+        Assertions.assertEquals(List.of(
+                "Phew! I ran 5 commands from the batch:",
+                "2 tasks added, 1 deleted and 1 updated.",
+                "Now you have 2 tasks in the list!"), ui.outputs);
+    }
+
+    @Test
+    void testExecute_thenUndo_wholeBatchUndone() {
+        State newState = new BatchCommand(List.of("todo first", "todo second", "delete 1"), "batch").execute(state);
+
+        State undoneState = new UndoCommand().execute(newState);
+
+        Assertions.assertEquals(List.of("[T][_] existing"), toStrings(undoneState.getTasks()));
+        Assertions.assertTrue(undoneState.getHistory().isEmpty());
+    }
+
+    @Test
+    void testExecute_unparsableCommand_nothingExecuted() {
+        BatchCommand command = new BatchCommand(List.of("todo first", "mark x", "bye"), "batch");
+
+        State newState = command.execute(state);
+
+        Assertions.assertSame(state, newState);
+        Assertions.assertEquals(0, storage.saveCount);
+        Assertions.assertEquals(3, ui.errors.size());
+        Assertions.assertEquals("Line 2: Mark command requires an integer index.", ui.errors.get(1));
+        Assertions.assertEquals("Line 3: Command [bye] cannot be used in a batch.", ui.errors.get(2));
+    }
+
+    @Test
+    void testExecute_failingCommand_restExecuted() {
+        BatchCommand command = new BatchCommand(List.of("mark 5", "todo first"), "batch");
+
+        State newState = command.execute(state);
+
+        Assertions.assertEquals(2, newState.getTasks().size());
+        Assertions.assertEquals(1, ui.errors.size());
+        Assertions.assertTrue(ui.errors.get(0).startsWith("Line 1: "));
+    }
+
+    @Test
+    void testParse_file_linesRead() throws IOException, ParseCommandException {
+        Path path = directory.resolve("import.txt");
+        Files.writeString(path, "todo first\ntodo second\n");
+
+        BatchCommand command = (BatchCommand) BatchCommand.parse("batch " + path);
+
+        Assertions.assertEquals(List.of("todo first", "todo second"), command.getLines());
+    }
+
+    @Test
+    void testParse_missingFile_throwsParseCommandException() {
+        String input = "batch " + directory.resolve("missing.txt");
+
+        Assertions.assertThrows(ParseCommandException.class, () -> BatchCommand.parse(input));
+    }
+
+    private static List<String> toStrings(TaskContainer tasks) {
+        List<String> strings = new ArrayList<>();
+        for (Task task : tasks) {
+            strings.add(task.toString());
+        }
+        return strings;
+    }
+
+    private static class RecordingStorage implements Storage {
+        private int saveCount;
+
+        @Override
+        public void save(TaskContainer taskList, Ui ui) {
+            saveCount++;
+        }
+
+        @Override
+        public void load(TaskContainer taskContainer, Ui ui) {
+        }
+    }
+
+    private static class RecordingUi implements Ui {
+        private final List<String> outputs = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void showOutput(List<String> lines) {
+            outputs.addAll(lines);
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+            outputs.addAll(List.of(lines));
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+            errors.addAll(lines);
+        }
+
+        @Override
+        public void showError(String... lines) {
+            errors.addAll(List.of(lines));
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package duke.command;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,9 +11,12 @@ import duke.State;
 import duke.exception.ParseCommandException;
 import duke.exception.TaskNotFoundException;
 import duke.exception.WriteStorageException;
+import duke.history.UndoHistory;
 import duke.storage.Storage;
+import duke.task.PersistentTaskList;
 import duke.task.Task;
 import duke.task.TaskContainer;
+import duke.task.Todo;
 import duke.ui.Ui;
 
 class DeleteCommandTest {
@@ -26,7 +31,7 @@ class DeleteCommandTest {
         taskContainer = Mockito.mock(TaskContainer.class);
         storage = Mockito.mock(Storage.class);
         ui = Mockito.mock(Ui.class);
-        state = new State(taskContainer, storage, ui, null, null);
+        state = new State(taskContainer, storage, ui, new UndoHistory());
     }
 
     // Test parse() for valid input
@@ -38,6 +43,25 @@ class DeleteCommandTest {
         Assertions.assertEquals(3, command.getTaskIndex());
     }
 
+    // Test parse() for a task ID
+    @Test
+    void testParse_taskId_returnsDeleteCommand() throws ParseCommandException {
+        String input = "delete #12";
+        DeleteCommand command = (DeleteCommand) DeleteCommand.parse(input);
+
+        Assertions.assertTrue(command.getSelection().getTask().isId());
+        Assertions.assertEquals("#12", command.getSelection().toString());
+    }
+
+    // Test parse() for a task ID that is not positive
+    @Test
+    void testParse_zeroTaskId_throwsParseCommandException() {
+        String input = "delete #0";
+        ParseCommandException exception = Assertions.assertThrows(
+                ParseCommandException.class, () -> DeleteCommand.parse(input));
+        Assertions.assertEquals("Invalid task ID [#0]. Task ID should be a positive integer.", exception.getMessage());
+    }
+
     // Test parse() for invalid input (non-integer)
     @Test
     void testParse_nonIntegerInput_throwsParseCommandException() {
@@ -85,6 +109,43 @@ class DeleteCommandTest {
         Mockito.verify(storage).save(taskContainer, ui);
     }
 
+    // Test execute() for deletion by task ID
+    @Test
+    void testExecute_taskId_removesTaskWithId() throws TaskNotFoundException, WriteStorageException {
+        Task task = Mockito.mock(Task.class);
+        Mockito.when(taskContainer.indexOf(12)).thenReturn(2);
+        Mockito.when(taskContainer.remove(2)).thenReturn(task);
+        Mockito.when(taskContainer.size()).thenReturn(5).thenReturn(4);
+        Mockito.when(taskContainer.copy()).thenReturn(taskContainer);
+
+        DeleteCommand command = new DeleteCommand(TaskReference.ofId(12), "delete #12");
+        command.execute(state);
+
+        Mockito.verify(taskContainer).remove(2);
+        Mockito.verify(storage).save(taskContainer, ui);
+    }
+
+    // Test execute() for deletion of a range of tasks
+    @Test
+    void testExecute_range_removesAllTasksInOneSave() throws ParseCommandException, TaskNotFoundException,
+            WriteStorageException {
+        TaskContainer tasks = new PersistentTaskList();
+        for (int i = 1; i <= 5; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        State rangeState = new State(tasks, storage, ui, new UndoHistory());
+
+        State result = DeleteCommand.parse("delete 2-3, 5").execute(rangeState);
+
+        Assertions.assertEquals(2, result.getTasks().size());
+        Assertions.assertEquals("task 1", result.getTasks().get(0).getDescription());
+        Assertions.assertEquals("task 4", result.getTasks().get(1).getDescription());
+        Assertions.assertEquals(5, tasks.size());
+        Mockito.verify(ui).showOutput(List.of("POOF! I’ve removed these 3 tasks:", "[T][_] task 2", "[T][_] task 3",
+                "[T][_] task 5", "Now you have 2 tasks in the list! Less work for you!"));
+        Mockito.verify(storage, Mockito.times(1)).save(result.getTasks(), ui);
+    }
+
     // Test execute() for task not found
     @Test
     void testExecute_taskNotFound_showsError() throws TaskNotFoundException, WriteStorageException {
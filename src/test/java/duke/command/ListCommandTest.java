@@ -0,0 +1,129 @@
+package duke.command;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import duke.State;
+import duke.exception.ParseCommandException;
+import duke.history.UndoHistory;
+import duke.storage.Storage;
+import duke.task.PersistentTaskList;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+import duke.ui.Ui;
+
+public class ListCommandTest {
+
+    @Test
+    public void testExecute_page_streamsTasksOnPage() throws ParseCommandException {
+        RecordingUi ui = new RecordingUi();
+
+        ListCommand.parse("list /page 2 /size 3").execute(createState(8, ui));
+
+        Assertions.assertEquals(List.of("Here's what's on your plate (page 2 of 3):", "4. [T][_] task 4",
+                "5. [T][_] task 5", "6. [T][_] task 6", "Let's get these done so I can poof away!"), ui.streamed);
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testExecute_lastPage_partialPage() throws ParseCommandException {
+        RecordingUi ui = new RecordingUi();
+
+        ListCommand.parse("list /page 3 /size 3").execute(createState(8, ui));
+
+        Assertions.assertEquals(List.of("Here's what's on your plate (page 3 of 3):", "7. [T][_] task 7",
+                "8. [T][_] task 8", "Let's get these done so I can poof away!"), ui.streamed);
+    }
+
+    @Test
+    public void testExecute_noPage_allTasksListed() throws ParseCommandException {
+        RecordingUi ui = new RecordingUi();
+
+        ListCommand.parse("list").execute(createState(ListCommand.DEFAULT_PAGE_SIZE + 1, ui));
+
+        Assertions.assertEquals(ListCommand.DEFAULT_PAGE_SIZE + 3, ui.streamed.size());
+        Assertions.assertEquals("Here's what's on your plate:", ui.streamed.get(0));
+    }
+
+    @Test
+    public void testExecute_pageOutOfRange_showsError() throws ParseCommandException {
+        RecordingUi ui = new RecordingUi();
+
+        ListCommand.parse("list /page 4").execute(createState(ListCommand.DEFAULT_PAGE_SIZE * 3, ui));
+
+        Assertions.assertEquals(List.of("Page [4] out of range [3]"), ui.errors);
+        Assertions.assertTrue(ui.streamed.isEmpty());
+    }
+
+    @Test
+    public void testParse_invalidPageSize_throwsParseCommandException() {
+        ParseCommandException exception = Assertions.assertThrows(
+                ParseCommandException.class, () -> ListCommand.parse("list /size 0"));
+        Assertions.assertEquals("Invalid page size [0]. Page size should be a positive integer.",
+                exception.getMessage());
+
+        exception = Assertions.assertThrows(ParseCommandException.class, () -> ListCommand.parse("list all"));
+        Assertions.assertEquals("Unable to parse [list all] to list command.", exception.getMessage());
+    }
+
+    private static State createState(int taskCount, Ui ui) {
+        TaskContainer tasks = new PersistentTaskList();
+        for (int i = 1; i <= taskCount; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        return new State(tasks, new DiscardingStorage(), ui, new UndoHistory());
+    }
+
+    private static class DiscardingStorage implements Storage {
+        @Override
+        public void save(TaskContainer taskList, Ui ui) {
+        }
+
+        @Override
+        public void load(TaskContainer taskContainer, Ui ui) {
+        }
+    }
+
+    private static class RecordingUi implements Ui {
+        private final List<String> streamed = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void streamOutput(Iterable<String> lines) {
+            for (String line : lines) {
+                streamed.add(line);
+            }
+        }
+
+        @Override
+        public void showOutput(List<String> lines) {
+            Assertions.fail("Tasks should be streamed");
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+            Assertions.fail("Tasks should be streamed");
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+            errors.addAll(lines);
+        }
+
+        @Override
+        public void showError(String... lines) {
+            showError(List.of(lines));
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
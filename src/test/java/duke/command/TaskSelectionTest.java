@@ -0,0 +1,92 @@
+package duke.command;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import duke.exception.ParseCommandException;
+import duke.exception.TaskNotFoundException;
+import duke.task.Deadline;
+import duke.task.PersistentTaskList;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+
+public class TaskSelectionTest {
+
+    @Test
+    public void testResolve_listOfReferences_sortedDistinctIndices() throws Exception {
+        TaskContainer tasks = createTasks(10);
+
+        TaskSelection selection = TaskSelection.parse("7, 2-4 #3,3");
+
+        Assertions.assertFalse(selection.isSingle());
+        Assertions.assertArrayEquals(new int[] {1, 2, 3, 6}, selection.resolve(tasks));
+    }
+
+    @Test
+    public void testResolve_singleReference_isSingle() throws Exception {
+        TaskContainer tasks = createTasks(3);
+
+        TaskSelection selection = TaskSelection.parse("#2");
+
+        Assertions.assertTrue(selection.isSingle());
+        Assertions.assertArrayEquals(new int[] {1}, selection.resolve(tasks));
+    }
+
+    @Test
+    public void testResolve_filters_matchingIndices() throws Exception {
+        TaskContainer tasks = createTasks(4);
+        Todo done = new Todo("done");
+        done.markAsDone();
+        tasks.set(1, done);
+        tasks.add(new Deadline("early", LocalDate.of(2024, 1, 1)));
+        tasks.add(new Deadline("late", LocalDate.of(2024, 3, 1)));
+
+        Assertions.assertArrayEquals(new int[] {1}, TaskSelection.parse("/done").resolve(tasks));
+        Assertions.assertArrayEquals(new int[] {0, 2, 3, 4, 5}, TaskSelection.parse("/undone").resolve(tasks));
+        Assertions.assertArrayEquals(new int[] {4}, TaskSelection.parse("/before 2024-02-01").resolve(tasks));
+    }
+
+    @Test
+    public void testResolve_positionOutOfRange_throwsTaskNotFoundException() throws ParseCommandException {
+        TaskContainer tasks = createTasks(5);
+
+        TaskNotFoundException exception = Assertions.assertThrows(
+                TaskNotFoundException.class, () -> TaskSelection.parse("1, 4-6").resolve(tasks));
+        Assertions.assertEquals("Index [5] out of range [5]", exception.getMessage());
+    }
+
+    @Test
+    public void testResolve_noMatches_throwsTaskNotFoundException() throws ParseCommandException {
+        TaskContainer tasks = createTasks(2);
+
+        TaskNotFoundException exception = Assertions.assertThrows(
+                TaskNotFoundException.class, () -> TaskSelection.parse("/done").resolve(tasks));
+        Assertions.assertEquals("No tasks match [/done]", exception.getMessage());
+    }
+
+    @Test
+    public void testParse_invalidSelection_throwsParseCommandException() {
+        ParseCommandException exception = Assertions.assertThrows(
+                ParseCommandException.class, () -> TaskSelection.parse("5-2"));
+        Assertions.assertEquals("Invalid range [5-2]. The first index should not be after the last.",
+                exception.getMessage());
+
+        exception = Assertions.assertThrows(ParseCommandException.class, () -> TaskSelection.parse("/later"));
+        Assertions.assertEquals("Unknown filter [/later]. Use /done, /undone or /before <date>.",
+                exception.getMessage());
+
+        exception = Assertions.assertThrows(ParseCommandException.class, () -> TaskSelection.parse("0, 1"));
+        Assertions.assertEquals("Invalid index [0]. Task index should be a positive integer.",
+                exception.getMessage());
+    }
+
+    private static TaskContainer createTasks(int count) {
+        TaskContainer tasks = new PersistentTaskList();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        return tasks;
+    }
+}
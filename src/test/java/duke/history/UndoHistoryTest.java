@@ -0,0 +1,94 @@
+package duke.history;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import duke.exception.TaskNotFoundException;
+import duke.task.PersistentTaskList;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+
+public class UndoHistoryTest {
+
+    @Test
+    public void testRevert_revertsChangesOfLatestCommand() throws TaskNotFoundException {
+        TaskContainer before = new PersistentTaskList();
+        before.add(new Todo("first"));
+        before.add(new Todo("second"));
+
+        TaskContainer after = before.copy();
+        after.remove(0);
+        Todo marked = new Todo("second");
+        marked.markAsDone();
+        after.set(0, marked);
+        after.add(new Todo("third"));
+
+        UndoHistory history = new UndoHistory().record("command", before, after);
+        TaskContainer reverted = history.getLatest().revert(after);
+
+        Assertions.assertEquals("command", history.getLatest().getCommand());
+        Assertions.assertIterableEquals(before, reverted);
+        Assertions.assertEquals(2, after.size());
+    }
+
+    @Test
+    public void testRecord_exceedsMaxDepth_dropsOldestEntries() {
+        UndoHistory history = new UndoHistory(3, Long.MAX_VALUE, 1);
+        TaskContainer tasks = new PersistentTaskList();
+
+        for (int i = 0; i < 5; i++) {
+            TaskContainer next = tasks.copy();
+            next.add(new Todo("task " + i));
+            history = history.record("todo task " + i, tasks, next);
+            tasks = next;
+        }
+
+        Assertions.assertEquals(3, history.size());
+        Assertions.assertEquals("todo task 4", history.getLatest().getCommand());
+        Assertions.assertEquals("todo task 2", history.pop().pop().getLatest().getCommand());
+    }
+
+    @Test
+    public void testRecord_exceedsMaxBytes_keepsLatestEntryOnly() {
+        UndoHistory history = new UndoHistory(100, 1, 1);
+        TaskContainer tasks = new PersistentTaskList();
+
+        for (int i = 0; i < 3; i++) {
+            TaskContainer next = tasks.copy();
+            next.add(new Todo("task " + i));
+            history = history.record("todo task " + i, tasks, next);
+            tasks = next;
+        }
+
+        Assertions.assertEquals(1, history.size());
+        Assertions.assertEquals("todo task 2", history.getLatest().getCommand());
+    }
+
+    @Test
+    public void testRecord_bulkChanges_keepsCheckpoint() throws TaskNotFoundException {
+        UndoHistory history = new UndoHistory(100, Long.MAX_VALUE, 1000).record(
+                "first", new PersistentTaskList(), new PersistentTaskList());
+        TaskContainer before = new PersistentTaskList();
+        TaskContainer after = before.copy();
+        for (int i = 0; i <= UndoHistory.BULK_CHANGE_THRESHOLD; i++) {
+            after.add(new Todo("task " + i));
+        }
+
+        history = history.record("bulk", before, after);
+
+        Assertions.assertTrue(history.getLatest().hasCheckpoint());
+        Assertions.assertEquals(0, history.getLatest().revert(after).size());
+    }
+
+    @Test
+    public void testPop_removesLatestEntry() {
+        UndoHistory history = new UndoHistory().record(
+                "command", new PersistentTaskList(), new PersistentTaskList());
+
+        UndoHistory popped = history.pop();
+
+        Assertions.assertTrue(popped.isEmpty());
+        Assertions.assertEquals(0, popped.estimateBytes());
+        Assertions.assertFalse(history.isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package duke.index;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import duke.exception.TaskNotFoundException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+
+public class DateIndexTest {
+
+    @Test
+    public void testFindOverlapping_deadlinesAndEvents_tasksWithinRange() {
+        TaskContainer tasks = new PersistentTaskList();
+        Task early = new Deadline("early", LocalDate.of(2024, 1, 1));
+        Task due = new Deadline("due", LocalDate.of(2024, 1, 10));
+        Task longEvent = new Event("long", LocalDate.of(2023, 12, 1), LocalDate.of(2024, 1, 5));
+        Task shortEvent = new Event("short", LocalDate.of(2024, 1, 12), LocalDate.of(2024, 1, 13));
+        tasks.add(early);
+        tasks.add(due);
+        tasks.add(longEvent);
+        tasks.add(shortEvent);
+        tasks.add(new Todo("undated"));
+        DateIndex index = new DateIndex();
+        index.sync(tasks);
+
+        Assertions.assertEquals(Set.of(due, longEvent),
+                index.findOverlapping(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 10)));
+        Assertions.assertEquals(Set.of(early, longEvent),
+                index.findOverlapping(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1)));
+        Assertions.assertEquals(Set.of(shortEvent),
+                index.findOverlapping(LocalDate.of(2024, 1, 13), LocalDate.of(2024, 2, 1)));
+        Assertions.assertTrue(index.findOverlapping(LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 9)).isEmpty());
+    }
+
+    @Test
+    public void testSync_removedTask_notFound() throws TaskNotFoundException {
+        TaskContainer tasks = new PersistentTaskList();
+        Task due = new Deadline("due", LocalDate.of(2024, 1, 10));
+        tasks.add(due);
+        DateIndex index = new DateIndex();
+        index.sync(tasks);
+
+        TaskContainer next = tasks.copy();
+        next.remove(0);
+        index.sync(next);
+
+        Assertions.assertTrue(index.findOverlapping(LocalDate.MIN, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    public void testFindOverlapping_longEventsAmongShortTasks_matchesEveryLevel() throws TaskNotFoundException {
+        TaskContainer tasks = new PersistentTaskList();
+        Task yearLong = new Event("year", LocalDate.of(2023, 6, 1), LocalDate.of(2024, 6, 1));
+        Task week = new Event("week", LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 14));
+        Task due = new Deadline("due", LocalDate.of(2024, 1, 10));
+        Task twoDays = new Event("two days", LocalDate.of(2024, 1, 9), LocalDate.of(2024, 1, 10));
+        tasks.add(yearLong);
+        tasks.add(week);
+        tasks.add(due);
+        tasks.add(twoDays);
+        tasks.add(new Deadline("earlier", LocalDate.of(2023, 12, 31)));
+        DateIndex index = new DateIndex();
+        index.sync(tasks);
+
+        Assertions.assertEquals(Set.of(yearLong, week, due, twoDays),
+                index.findOverlapping(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 10)));
+        Assertions.assertEquals(Set.of(yearLong, week),
+                index.findOverlapping(LocalDate.of(2024, 1, 14), LocalDate.of(2024, 1, 20)));
+
+        TaskContainer next = tasks.copy();
+        next.remove(0);
+        index.sync(next);
+
+        Assertions.assertEquals(Set.of(week),
+                index.findOverlapping(LocalDate.of(2024, 1, 14), LocalDate.of(2024, 1, 20)));
+        Assertions.assertEquals(Set.of(week, due, twoDays),
+                index.findOverlapping(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10)));
+    }
+}
@@ -0,0 +1,47 @@
+package duke.index;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import duke.exception.TaskNotFoundException;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+
+public class TaskIndexTest {
+
+    @Test
+    public void testFindText_matchesReturnedInContainerOrder() {
+        TaskContainer tasks = new PersistentTaskList();
+        Task third = new Todo("return book");
+        Task first = new Todo("read book");
+        tasks.add(first);
+        tasks.add(new Todo("buy groceries"));
+        tasks.add(third);
+        TaskIndex index = new TaskIndex();
+
+        Set<Task> found = index.findText(tasks, List.of("book"));
+
+        Assertions.assertEquals(List.of(first, third), TaskIndex.inContainerOrder(tasks, found));
+    }
+
+    @Test
+    public void testInContainerOrder_tasksOutOfIdOrder_orderedByPosition() throws TaskNotFoundException {
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("buy groceries"));
+        tasks.add(new Todo("return book"));
+        Task moved = tasks.remove(2);
+        tasks.insert(0, moved);
+        TaskIndex index = new TaskIndex();
+
+        Set<Task> found = index.findText(tasks, List.of("book"));
+
+        Assertions.assertEquals(List.of(moved, tasks.get(1)), TaskIndex.inContainerOrder(tasks, found));
+        Assertions.assertEquals("read book", tasks.get(1).getDescription());
+    }
+}
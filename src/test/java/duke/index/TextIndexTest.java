@@ -0,0 +1,73 @@
+package duke.index;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import duke.exception.TaskNotFoundException;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+
+public class TextIndexTest {
+
+    @Test
+    public void testSearch_substringAndMultipleKeywords_matchingTasksOnly() {
+        TaskContainer tasks = new PersistentTaskList();
+        Task book = new Todo("return library book");
+        Task books = new Todo("buy books");
+        Task meeting = new Todo("project meeting");
+        tasks.add(book);
+        tasks.add(books);
+        tasks.add(meeting);
+        TextIndex index = new TextIndex();
+        index.sync(tasks);
+
+        Assertions.assertEquals(Set.of(book, books), index.search(List.of("book")));
+        Assertions.assertEquals(Set.of(book), index.search(List.of("book", "return")));
+        Assertions.assertEquals(Set.of(meeting), index.search(List.of("ee")));
+        Assertions.assertTrue(index.search(List.of("Book")).isEmpty());
+        Assertions.assertTrue(index.search(List.of("bookshelf")).isEmpty());
+    }
+
+    @Test
+    public void testSync_copiedContainers_appliesChanges() throws TaskNotFoundException {
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("read book"));
+        TextIndex index = new TextIndex();
+        index.sync(tasks);
+
+        TaskContainer next = tasks.copy();
+        next.remove(0);
+        Task renamed = new Todo("read paper");
+        next.add(renamed);
+        index.sync(next);
+
+        TaskContainer last = next.copy();
+        Task marked = new Todo("read paper");
+        marked.markAsDone();
+        last.set(0, marked);
+        index.sync(last);
+
+        Assertions.assertTrue(index.search(List.of("book")).isEmpty());
+        Assertions.assertEquals(Set.of(marked), index.search(List.of("paper")));
+    }
+
+    @Test
+    public void testSync_unrelatedContainer_rebuildsIndex() {
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("read book"));
+        TextIndex index = new TextIndex();
+        index.sync(tasks);
+
+        TaskContainer other = new PersistentTaskList();
+        Task paper = new Todo("read paper");
+        other.add(paper);
+        index.sync(other);
+
+        Assertions.assertEquals(Set.of(paper), index.search(List.of("read")));
+    }
+}
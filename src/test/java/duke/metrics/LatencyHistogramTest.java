@@ -0,0 +1,45 @@
+package duke.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testGetPercentile_withinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        Assertions.assertEquals(1000, histogram.getCount());
+        Assertions.assertEquals(500_500, histogram.getMean());
+        Assertions.assertEquals(1_000_000, histogram.getMax());
+        assertWithin(500_000, histogram.getPercentile(50));
+        assertWithin(990_000, histogram.getPercentile(99));
+        Assertions.assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testGetPercentile_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assertions.assertEquals(0, histogram.getPercentile(50));
+        Assertions.assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void testIndexOf_everyBucketContainsItsValues() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            Assertions.assertTrue(value <= LatencyHistogram.highestValueOf(index));
+            Assertions.assertTrue(index == 0 || value > LatencyHistogram.highestValueOf(index - 1));
+        }
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        Assertions.assertTrue(actual >= expected && actual <= expected + expected / LatencyHistogram.SUB_BUCKET_COUNT,
+                String.format("Expected about %d but was %d", expected, actual));
+    }
+}
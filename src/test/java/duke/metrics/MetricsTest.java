@@ -0,0 +1,74 @@
+package duke.metrics;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import duke.CommandExecutor;
+import duke.State;
+import duke.command.AddTodoCommand;
+import duke.command.Command;
+import duke.exception.ParseCommandException;
+import duke.history.UndoHistory;
+import duke.storage.Storage;
+import duke.task.PersistentTaskList;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+public class MetricsTest {
+
+    @Test
+    public void testReport_afterCommands_countsCommandsAndChangedTasks() throws ParseCommandException {
+        Metrics metrics = new Metrics();
+        Ui ui = new SilentUi();
+        CommandExecutor executor = new CommandExecutor(
+                new State(new PersistentTaskList(), new Storage() {
+                    @Override
+                    public void save(TaskContainer taskList, Ui ui) {
+                    }
+
+                    @Override
+                    public void load(TaskContainer taskContainer, Ui ui) {
+                    }
+                }, ui, new UndoHistory()), metrics);
+
+        executor.execute(AddTodoCommand.parse("todo first"), ui);
+        executor.execute(AddTodoCommand.parse("todo second"), ui);
+        executor.execute(state -> state, ui);
+        metrics.recordSave(2_000_000, 128);
+
+        List<String> report = metrics.report();
+        Assertions.assertEquals(4, report.size());
+        Assertions.assertTrue(report.get(1).matches("todo: 2, \\d+ \\d+ \\d+ \\d+, 2, (\\d+|unknown)"),
+                report.get(1));
+        Assertions.assertEquals("save: 1, 2000 2000 2000 2000, 128 bytes written", report.get(2));
+        Assertions.assertEquals(Command.Type.TODO, AddTodoCommand.parse("todo third").getType());
+    }
+
+    private static class SilentUi implements Ui {
+        @Override
+        public void showOutput(List<String> lines) {
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+        }
+
+        @Override
+        public void showError(String... lines) {
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
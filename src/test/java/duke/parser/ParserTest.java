@@ -1,5 +1,7 @@
 package duke.parser;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -9,6 +11,7 @@ import duke.command.AddTodoCommand;
 import duke.command.ByeCommand;
 import duke.command.Command;
 import duke.command.DeleteCommand;
+import duke.command.DueCommand;
 import duke.command.ListCommand;
 import duke.command.MarkCommand;
 import duke.command.UnmarkCommand;
@@ -88,6 +91,18 @@ public class ParserTest {
         Assertions.assertTrue(result instanceof MarkCommand);
     }
 
+    @Test
+    public void testParseMarkCommandWithTaskId() throws ParseCommandException {
+        // Prepare the input string
+        String input = "mark #42";
+
+        // Act
+        Command result = Parser.parseCommand(input);
+
+        // Assert
+        Assertions.assertTrue(result instanceof MarkCommand);
+    }
+
     @Test
     public void testParseUnmarkCommand() throws ParseCommandException {
         // Prepare the input string
@@ -112,6 +127,34 @@ public class ParserTest {
         Assertions.assertTrue(result instanceof ByeCommand);
     }
 
+    @Test
+    public void testParseDueCommand() throws ParseCommandException {
+        // Prepare the input string
+        String input = "due /from 2025-02-01 /to 2025-02-07";
+
+        // Act
+        Command result = Parser.parseCommand(input);
+
+        // Assert
+        Assertions.assertTrue(result instanceof DueCommand);
+        Assertions.assertEquals(LocalDate.of(2025, 2, 1), ((DueCommand) result).getFrom());
+        Assertions.assertEquals(LocalDate.of(2025, 2, 7), ((DueCommand) result).getTo());
+    }
+
+    @Test
+    public void testParseOnCommand() throws ParseCommandException {
+        // Prepare the input string
+        String input = "on Feb 1 2025";
+
+        // Act
+        Command result = Parser.parseCommand(input);
+
+        // Assert
+        Assertions.assertTrue(result instanceof DueCommand);
+        Assertions.assertEquals(LocalDate.of(2025, 2, 1), ((DueCommand) result).getFrom());
+        Assertions.assertEquals(LocalDate.of(2025, 2, 1), ((DueCommand) result).getTo());
+    }
+
     @Test
     public void testParseUnknownCommand() {
         // Prepare the input string with an unknown command
@@ -122,4 +165,15 @@ public class ParserTest {
             ParseCommandException.class, () -> Parser.parseCommand(input));
         Assertions.assertEquals("Unknown command [unknowncommand]", exception.getMessage());
     }
+
+    @Test
+    public void testParseCommandPrefix() {
+        // Prepare the input string with a prefix of a command word
+        String input = "mar 1";
+
+        // Act & Assert
+        ParseCommandException exception = Assertions.assertThrows(
+            ParseCommandException.class, () -> Parser.parseCommand(input));
+        Assertions.assertEquals("Unknown command [mar]", exception.getMessage());
+    }
 }
@@ -0,0 +1,160 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.CommandExecutor;
+import duke.State;
+import duke.command.ArchiveCommand;
+import duke.command.MarkCommand;
+import duke.exception.ParseCommandException;
+import duke.exception.ReadStorageException;
+import duke.exception.TaskNotFoundException;
+import duke.exception.WriteStorageException;
+import duke.history.UndoHistory;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+import duke.ui.Ui;
+
+public class ArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testFind_appendedTasks_foundWithTheirIds()
+            throws WriteStorageException, ReadStorageException, TaskNotFoundException {
+        Path path = directory.resolve("duke.txt.archive");
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("return book"));
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("buy groceries"));
+        Archive archive = new Archive(path);
+        archive.append(List.of(tasks.get(2)));
+        archive.append(List.of(tasks.get(0), tasks.get(1)));
+
+        RecordingUi ui = new RecordingUi();
+        List<Task> found = new Archive(path).find(List.of("book"), ui);
+
+        Assertions.assertEquals(2, found.size());
+        Assertions.assertEquals("return book", found.get(0).getDescription());
+        Assertions.assertEquals(1, found.get(0).getId());
+        Assertions.assertEquals("read book", found.get(1).getDescription());
+        Assertions.assertEquals(2, found.get(1).getId());
+        Assertions.assertEquals(3, new Archive(path).find(List.of("groceries"), ui).get(0).getId());
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testFind_tasksAppendedAfterSearch_foundInIndex() throws WriteStorageException, ReadStorageException {
+        Archive archive = new Archive(directory.resolve("duke.txt.archive"));
+        RecordingUi ui = new RecordingUi();
+
+        Assertions.assertTrue(archive.find(List.of("book"), ui).isEmpty());
+
+        archive.append(List.of(new Todo("read book")));
+
+        Assertions.assertEquals(1, archive.find(List.of("book"), ui).size());
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testFind_partlyAppendedTask_keepsTasksBefore()
+            throws WriteStorageException, ReadStorageException, IOException {
+        Path path = directory.resolve("duke.txt.archive");
+        new Archive(path).append(List.of(new Todo("read book"), new Todo("return book")));
+        Files.write(path, new byte[] {0, 0, 0}, StandardOpenOption.APPEND);
+
+        RecordingUi ui = new RecordingUi();
+        List<Task> found = new Archive(path).find(List.of("book"), ui);
+
+        Assertions.assertEquals(2, found.size());
+        Assertions.assertEquals(1, ui.errors.size());
+    }
+
+    @Test
+    public void testAppend_unwritableFile_tasksNotArchived() throws IOException, ReadStorageException {
+        Files.createFile(directory.resolve("data"));
+        Path path = directory.resolve("data").resolve("duke.txt.archive");
+        Archive archive = new Archive(path);
+
+        Assertions.assertThrows(WriteStorageException.class, () -> archive.append(List.of(new Todo("read book"))));
+
+        RecordingUi ui = new RecordingUi();
+        Assertions.assertTrue(archive.find(List.of("book"), ui).isEmpty());
+    }
+
+    @Test
+    public void testExecute_archiveFails_tasksKeptInSavedList()
+            throws IOException, ParseCommandException, ReadStorageException, TaskNotFoundException {
+        String filename = directory.resolve("duke.txt").toString();
+        // A directory in place of the archive file cannot be appended to
+        Files.createDirectory(directory.resolve("duke.txt.archive"));
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("buy groceries"));
+        tasks.add(new Todo("return book"));
+        RecordingUi ui = new RecordingUi();
+        CommandExecutor executor = new CommandExecutor(
+                new State(tasks, new LogStorage(filename), ui, new UndoHistory()));
+
+        executor.execute(MarkCommand.parse("mark 1, 3"), ui);
+        executor.execute(ArchiveCommand.parse("archive"), ui);
+
+        List<String> expected = List.of("[T][X] read book", "[T][_] buy groceries", "[T][X] return book");
+        Assertions.assertEquals(expected, toStrings(executor.getState().getTasks()));
+        Assertions.assertEquals(2, ui.errors.size());
+        TaskContainer loaded = new PersistentTaskList();
+        new LogStorage(filename).load(loaded, ui);
+        Assertions.assertEquals(expected, toStrings(loaded));
+        Assertions.assertEquals(3, loaded.indexOf(3) + 1);
+    }
+
+    private static List<String> toStrings(TaskContainer tasks) {
+        List<String> strings = new ArrayList<>();
+        for (Task task : tasks) {
+            strings.add(task.toString());
+        }
+        return strings;
+    }
+
+    private static class RecordingUi implements Ui {
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void showOutput(List<String> lines) {
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+            errors.addAll(lines);
+        }
+
+        @Override
+        public void showError(String... lines) {
+            errors.addAll(List.of(lines));
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
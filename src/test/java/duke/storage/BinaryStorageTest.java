@@ -0,0 +1,132 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.exception.ReadStorageException;
+import duke.exception.WriteStorageException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+import duke.ui.Ui;
+
+public class BinaryStorageTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testSaveAndLoad_allTaskTypes_sameTasks() throws ReadStorageException, WriteStorageException {
+        String filename = directory.resolve("duke.bin").toString();
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("read book | chapter 1"));
+        Deadline deadline = new Deadline("return book ✓", LocalDate.of(2019, 12, 1));
+        deadline.markAsDone();
+        tasks.add(deadline);
+        tasks.add(new Event("project meeting", LocalDate.of(2019, 12, 1), LocalDate.of(2019, 12, 2)));
+        RecordingUi ui = new RecordingUi();
+
+        new BinaryStorage(filename).save(tasks, ui);
+        TaskContainer loaded = new PersistentTaskList();
+        new BinaryStorage(filename).load(loaded, ui);
+
+        Assertions.assertEquals(toStrings(tasks), toStrings(loaded));
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testLoad_psvFile_migratedToBinary() throws ReadStorageException, IOException {
+        Path path = directory.resolve("duke.txt");
+        String psv = "D | _ | return book | Dec 1 2019\nE | X | project meeting | Dec 1 2019 | Dec 2 2019\n";
+        Files.writeString(path, psv);
+        RecordingUi ui = new RecordingUi();
+
+        TaskContainer loaded = new PersistentTaskList();
+        new BinaryStorage(path.toString()).load(loaded, ui);
+        TaskContainer reloaded = new PersistentTaskList();
+        new BinaryStorage(path.toString()).load(reloaded, ui);
+
+        Assertions.assertEquals(2, loaded.size());
+        Assertions.assertEquals(toStrings(loaded), toStrings(reloaded));
+        Assertions.assertTrue(BinaryTaskFormat.isBinary(path));
+        Assertions.assertEquals(psv, Files.readString(directory.resolve("duke.txt.psv.bak")));
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testLoad_truncatedFile_keepsTasksBeforeError()
+            throws ReadStorageException, WriteStorageException, IOException {
+        Path path = directory.resolve("duke.bin");
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("first"));
+        tasks.add(new Todo("second"));
+        new BinaryStorage(path.toString()).save(tasks, new RecordingUi());
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 2));
+        RecordingUi ui = new RecordingUi();
+
+        TaskContainer loaded = new PersistentTaskList();
+        new BinaryStorage(path.toString()).load(loaded, ui);
+
+        Assertions.assertEquals(1, loaded.size());
+        Assertions.assertEquals(1, ui.errors.size());
+    }
+
+    @Test
+    public void testLoad_missingFile_exceptionThrown() {
+        BinaryStorage storage = new BinaryStorage(directory.resolve("missing.bin").toString());
+
+        Assertions.assertThrows(ReadStorageException.class, () ->
+                storage.load(new PersistentTaskList(), new RecordingUi()));
+    }
+
+    private static List<String> toStrings(TaskContainer tasks) {
+        List<String> strings = new ArrayList<>();
+        for (Task task : tasks) {
+            strings.add(task.toString());
+        }
+        return strings;
+    }
+
+    private static class RecordingUi implements Ui {
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void showOutput(List<String> lines) {
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+            errors.addAll(lines);
+        }
+
+        @Override
+        public void showError(String... lines) {
+            errors.addAll(List.of(lines));
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
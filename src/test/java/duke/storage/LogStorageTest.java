@@ -0,0 +1,270 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.exception.ReadStorageException;
+import duke.exception.TaskNotFoundException;
+import duke.exception.WriteStorageException;
+import duke.task.PersistentTaskList;
+import duke.task.Task;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+import duke.ui.Ui;
+
+public class LogStorageTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testSave_copiedContainer_appendsRecordsOnly()
+            throws ReadStorageException, WriteStorageException, TaskNotFoundException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        Files.writeString(Path.of(filename), "T | _ | first\n");
+        RecordingUi ui = new RecordingUi();
+        LogStorage storage = new LogStorage(filename);
+        TaskContainer tasks = new PersistentTaskList();
+        storage.load(tasks, ui);
+
+        TaskContainer next = tasks.copy();
+        next.add(new Todo("second"));
+        Todo marked = new Todo("first");
+        marked.markAsDone();
+        next.set(0, marked);
+        storage.save(next, ui);
+
+        TaskContainer last = next.copy();
+        last.remove(1);
+        storage.save(last, ui);
+        storage.flush();
+
+        Assertions.assertEquals(3, Files.readAllLines(Path.of(filename + ".log")).size());
+
+        TaskContainer loaded = new PersistentTaskList();
+        new LogStorage(filename).load(loaded, ui);
+        Assertions.assertIterableEquals(toPsv(last), toPsv(loaded));
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testSave_unrelatedContainer_writesSnapshot()
+            throws ReadStorageException, WriteStorageException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        RecordingUi ui = new RecordingUi();
+        LogStorage storage = new LogStorage(filename);
+
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("first"));
+        storage.save(tasks, ui);
+
+        Assertions.assertFalse(Files.exists(Path.of(filename + ".log")));
+        TaskContainer loaded = new PersistentTaskList();
+        new LogStorage(filename).load(loaded, ui);
+        Assertions.assertIterableEquals(toPsv(tasks), toPsv(loaded));
+    }
+
+    @Test
+    public void testSave_logExceedsThreshold_compactsIntoSnapshot()
+            throws ReadStorageException, WriteStorageException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        RecordingUi ui = new RecordingUi();
+        LogStorage storage = new LogStorage(filename, 64, 1, 0);
+        TaskContainer tasks = new PersistentTaskList();
+        storage.save(tasks, ui);
+
+        for (int i = 0; i < 20; i++) {
+            TaskContainer next = tasks.copy();
+            next.add(new Todo("task " + i));
+            storage.save(next, ui);
+            tasks = next;
+        }
+        storage.flush();
+
+        Assertions.assertFalse(Files.exists(Path.of(filename + ".log.compacting")));
+        Assertions.assertTrue(BinaryTaskFormat.isBinary(Path.of(filename)));
+        Path log = Path.of(filename + ".log");
+        Assertions.assertTrue(!Files.exists(log) || Files.readAllLines(log).size() < 20);
+        TaskContainer loaded = new PersistentTaskList();
+        new LogStorage(filename).load(loaded, ui);
+        Assertions.assertIterableEquals(toPsv(tasks), toPsv(loaded));
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testLoad_interruptedCompaction_replaysBothLogs() throws ReadStorageException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        Files.writeString(Path.of(filename), "# 1\nT | _ | first\n");
+        Files.writeString(Path.of(filename + ".log.compacting"),
+                "1 | I | 0 | T | _ | first\n2 | I | 1 | T | _ | second\n");
+        Files.writeString(Path.of(filename + ".log"), "3 | D | 0\n");
+        RecordingUi ui = new RecordingUi();
+
+        TaskContainer loaded = new PersistentTaskList();
+        new LogStorage(filename).load(loaded, ui);
+
+        Assertions.assertEquals(List.of("2 | T | _ | second"), toPsv(loaded));
+        Assertions.assertFalse(Files.exists(Path.of(filename + ".log.compacting")));
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testLoad_psvSnapshot_migratedToBinary() throws ReadStorageException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        Files.writeString(Path.of(filename), "# 2\nT | X | first\nD | _ | second | Dec 1 2019\n");
+        Files.writeString(Path.of(filename + ".log"), "3 | I | 2 | T | _ | third\n");
+        RecordingUi ui = new RecordingUi();
+
+        TaskContainer loaded = new PersistentTaskList();
+        new LogStorage(filename).load(loaded, ui);
+        TaskContainer reloaded = new PersistentTaskList();
+        new LogStorage(filename).load(reloaded, ui);
+
+        List<String> expected = List.of("1 | T | X | first", "2 | D | _ | second | Dec 1 2019",
+                "3 | T | _ | third");
+        Assertions.assertEquals(expected, toPsv(loaded));
+        Assertions.assertEquals(expected, toPsv(reloaded));
+        Assertions.assertTrue(BinaryTaskFormat.isBinary(Path.of(filename)));
+        Assertions.assertTrue(Files.exists(Path.of(filename + ".psv.bak")));
+        Assertions.assertFalse(Files.exists(Path.of(filename + ".log")));
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testLoad_corruptSequenceNumber_replayStopsAtLastGoodRecord()
+            throws ReadStorageException, WriteStorageException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        // Applied after the corrupt delete, the later records would replace and delete the wrong tasks
+        Files.writeString(Path.of(filename + ".log"), "1 | I | 0 | T | _ | first\n"
+                + "2 | I | 1 | T | _ | second\n"
+                + "x3 | D | 0\n"
+                + "4 | S | 0 | T | X | second\n"
+                + "5 | D | 1\n");
+        RecordingUi ui = new RecordingUi();
+        LogStorage storage = new LogStorage(filename);
+        TaskContainer loaded = new PersistentTaskList();
+        storage.load(loaded, ui);
+
+        Assertions.assertEquals(List.of("1 | T | _ | first", "2 | T | _ | second"), toPsv(loaded));
+        Assertions.assertEquals(2, ui.errors.size());
+
+        TaskContainer next = loaded.copy();
+        next.add(new Todo("third"));
+        storage.save(next, ui);
+        storage.flush();
+        TaskContainer reloaded = new PersistentTaskList();
+        RecordingUi reloadUi = new RecordingUi();
+        new LogStorage(filename).load(reloaded, reloadUi);
+
+        Assertions.assertEquals(List.of("1 | T | _ | first", "2 | T | _ | second", "3 | T | _ | third"),
+                toPsv(reloaded));
+        Assertions.assertTrue(reloadUi.errors.isEmpty());
+    }
+
+    @Test
+    public void testLoad_recordOutOfRange_replayStopsAtLastGoodRecord() throws ReadStorageException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        Files.writeString(Path.of(filename + ".log"), "1 | I | 0 | T | _ | first\n"
+                + "2 | D | 5\n"
+                + "3 | I | 1 | T | _ | third\n");
+        RecordingUi ui = new RecordingUi();
+
+        TaskContainer loaded = new PersistentTaskList();
+        new LogStorage(filename).load(loaded, ui);
+
+        Assertions.assertEquals(List.of("1 | T | _ | first"), toPsv(loaded));
+        Assertions.assertEquals(2, ui.errors.size());
+    }
+
+    @Test
+    public void testLoad_corruptSnapshotHeader_wholeLogReplayed() throws ReadStorageException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        Files.writeString(Path.of(filename), "# x\nT | _ | first\n");
+        Files.writeString(Path.of(filename + ".log"), "1 | I | 1 | T | _ | second\n");
+        RecordingUi ui = new RecordingUi();
+
+        TaskContainer loaded = new PersistentTaskList();
+        new LogStorage(filename).load(loaded, ui);
+
+        Assertions.assertEquals(List.of("1 | T | _ | first", "2 | T | _ | second"), toPsv(loaded));
+        Assertions.assertEquals(List.of("Unable to parse sequence number [x]"), ui.errors);
+    }
+
+    @Test
+    public void testLoad_tornLastRecord_skippedAndLaterRecordsKept()
+            throws ReadStorageException, WriteStorageException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        Files.writeString(Path.of(filename + ".log"), "1 | I | 0 | T | _ | first\n2 | I | 1 | T | _ | rea");
+        RecordingUi ui = new RecordingUi();
+        LogStorage storage = new LogStorage(filename);
+        TaskContainer loaded = new PersistentTaskList();
+        storage.load(loaded, ui);
+
+        Assertions.assertEquals(List.of("1 | T | _ | first"), toPsv(loaded));
+        Assertions.assertEquals(1, ui.errors.size());
+
+        TaskContainer next = loaded.copy();
+        next.add(new Todo("second"));
+        storage.save(next, ui);
+        storage.flush();
+        RecordingUi reloadUi = new RecordingUi();
+        TaskContainer reloaded = new PersistentTaskList();
+        new LogStorage(filename).load(reloaded, reloadUi);
+
+        Assertions.assertEquals(List.of("1 | T | _ | first", "2 | T | _ | second"), toPsv(reloaded));
+        Assertions.assertTrue(reloadUi.errors.isEmpty());
+    }
+
+    @Test
+    public void testLoad_noFiles_exceptionThrown() {
+        LogStorage storage = new LogStorage(directory.resolve("missing.txt").toString());
+
+        Assertions.assertThrows(ReadStorageException.class, () ->
+                storage.load(new PersistentTaskList(), new RecordingUi()));
+    }
+
+    private static List<String> toPsv(TaskContainer tasks) {
+        List<String> lines = new ArrayList<>();
+        for (Task task : tasks) {
+            lines.add(task.toPsvString());
+        }
+        return lines;
+    }
+
+    private static class RecordingUi implements Ui {
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void showOutput(List<String> lines) {
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+            errors.addAll(lines);
+        }
+
+        @Override
+        public void showError(String... lines) {
+            errors.addAll(List.of(lines));
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.task.Task;
+
+public class MappedPsvReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testRead_manySmallChunks_tasksInFileOrder() throws IOException {
+        Path path = directory.resolve("duke.txt");
+        StringBuilder content = new StringBuilder("# 7\n");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String line = i % 3 == 0
+                    ? "D | X | deadline " + i + " | Dec 1 2019"
+                    : "T | _ | todo " + i;
+            content.append(line).append(i % 2 == 0 ? "\n" : "\r\n");
+            expected.add(line);
+        }
+        content.append("T | _ | last line without break");
+        expected.add("T | _ | last line without break");
+        Files.writeString(path, content.toString());
+
+        List<String> errors = new ArrayList<>();
+        List<Task> tasks = MappedPsvReader.read(path, errors, 64);
+
+        List<String> actual = new ArrayList<>();
+        for (Task task : tasks) {
+            actual.add(task.toPsvString());
+        }
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void testRead_invalidLines_errorsInFileOrder() throws IOException {
+        Path path = directory.resolve("duke.txt");
+        Files.writeString(path, "X | _ | first\nT | _ | valid\nY | _ | second\n");
+
+        List<String> errors = new ArrayList<>();
+        List<Task> tasks = MappedPsvReader.read(path, errors, 8);
+
+        Assertions.assertEquals(1, tasks.size());
+        Assertions.assertEquals(2, errors.size());
+        Assertions.assertTrue(errors.get(0).contains("first"));
+        Assertions.assertTrue(errors.get(1).contains("second"));
+    }
+
+    @Test
+    public void testRead_emptyFile_noTasks() throws IOException {
+        Path path = directory.resolve("duke.txt");
+        Files.writeString(path, "");
+
+        List<String> errors = new ArrayList<>();
+
+        Assertions.assertTrue(MappedPsvReader.read(path, errors).isEmpty());
+        Assertions.assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void testRead_missingFile_exceptionThrown() {
+        Assertions.assertThrows(NoSuchFileException.class, () ->
+                MappedPsvReader.read(directory.resolve("missing.txt"), new ArrayList<>()));
+    }
+}
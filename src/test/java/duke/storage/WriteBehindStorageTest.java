@@ -0,0 +1,216 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.exception.ReadStorageException;
+import duke.exception.WriteStorageException;
+import duke.task.PersistentTaskList;
+import duke.task.TaskContainer;
+import duke.task.Todo;
+import duke.ui.Ui;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testSave_burstWhileWriting_writesLatestWithAllChanges()
+            throws WriteStorageException, InterruptedException {
+        BlockingStorage blocking = new BlockingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(blocking);
+        RecordingUi ui = new RecordingUi();
+        TaskContainer first = new PersistentTaskList();
+        TaskContainer second = first.copy();
+        second.add(new Todo("second"));
+        TaskContainer third = second.copy();
+        third.add(new Todo("third"));
+        TaskContainer fourth = third.copy();
+        fourth.add(new Todo("fourth"));
+
+        storage.save(first, ui);
+        Assertions.assertTrue(blocking.started.await(5, TimeUnit.SECONDS));
+        storage.save(second, ui);
+        storage.save(third, ui);
+        storage.save(fourth, ui);
+        blocking.release.countDown();
+        storage.flush();
+
+        Assertions.assertEquals(2, blocking.saved.size());
+        Assertions.assertSame(first, blocking.saved.get(0));
+        TaskContainer written = blocking.saved.get(1);
+        Assertions.assertEquals(fourth.getVersion(), written.getVersion());
+        Assertions.assertEquals(first.getVersion(), written.getBaseVersion());
+        Assertions.assertEquals(3, written.getChanges().size());
+        Assertions.assertEquals(3, written.size());
+        Assertions.assertEquals(1, blocking.flushCount);
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testSave_burstOfUnrelatedContainers_writesLatestOnly()
+            throws WriteStorageException, InterruptedException {
+        BlockingStorage blocking = new BlockingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(blocking);
+        RecordingUi ui = new RecordingUi();
+        TaskContainer first = new PersistentTaskList();
+        TaskContainer second = first.copy();
+        TaskContainer restored = new PersistentTaskList();
+
+        storage.save(first, ui);
+        Assertions.assertTrue(blocking.started.await(5, TimeUnit.SECONDS));
+        storage.save(second, ui);
+        storage.save(restored, ui);
+        blocking.release.countDown();
+        storage.flush();
+
+        Assertions.assertEquals(List.of(first, restored), blocking.saved);
+    }
+
+    @Test
+    public void testSave_burstOverLogStorage_onlyGrowsLog()
+            throws WriteStorageException, ReadStorageException, InterruptedException, IOException {
+        String filename = directory.resolve("duke.txt").toString();
+        GatedStorage gated = new GatedStorage(new LogStorage(filename));
+        WriteBehindStorage storage = new WriteBehindStorage(gated);
+        RecordingUi ui = new RecordingUi();
+        TaskContainer tasks = new PersistentTaskList();
+        tasks.add(new Todo("first"));
+
+        storage.save(tasks, ui);
+        Assertions.assertTrue(gated.started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 50; i++) {
+            tasks = tasks.copy();
+            tasks.add(new Todo("task " + i));
+            storage.save(tasks, ui);
+        }
+        gated.release.countDown();
+        storage.flush();
+
+        TaskContainer loaded = new PersistentTaskList();
+        new LogStorage(filename).load(loaded, ui);
+        Assertions.assertEquals(50, Files.readAllLines(Path.of(filename + ".log")).size());
+        Assertions.assertEquals(51, loaded.size());
+        Assertions.assertTrue(ui.errors.isEmpty());
+    }
+
+    @Test
+    public void testSave_writeFails_errorShownAndRetriedOnFlush() throws WriteStorageException {
+        BlockingStorage blocking = new BlockingStorage();
+        blocking.release.countDown();
+        blocking.failuresLeft = 1;
+        WriteBehindStorage storage = new WriteBehindStorage(blocking);
+        RecordingUi ui = new RecordingUi();
+        TaskContainer tasks = new PersistentTaskList();
+
+        storage.save(tasks, ui);
+        storage.flush();
+
+        Assertions.assertEquals(List.of("Disk full"), ui.errors);
+        Assertions.assertEquals(List.of(tasks), blocking.saved);
+    }
+
+    private static class GatedStorage implements Storage {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Storage storage;
+
+        private GatedStorage(Storage storage) {
+            this.storage = storage;
+        }
+
+        @Override
+        public void save(TaskContainer taskList, Ui ui) throws WriteStorageException {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            storage.save(taskList, ui);
+        }
+
+        @Override
+        public void load(TaskContainer taskContainer, Ui ui) throws ReadStorageException {
+            storage.load(taskContainer, ui);
+        }
+
+        @Override
+        public void flush() throws WriteStorageException {
+            storage.flush();
+        }
+    }
+
+    private static class BlockingStorage implements Storage {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<TaskContainer> saved = Collections.synchronizedList(new ArrayList<>());
+        private volatile int failuresLeft;
+        private volatile int flushCount;
+
+        @Override
+        public void save(TaskContainer taskList, Ui ui) throws WriteStorageException {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new WriteStorageException("Disk full");
+            }
+            saved.add(taskList);
+        }
+
+        @Override
+        public void load(TaskContainer taskContainer, Ui ui) throws ReadStorageException {
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+    }
+
+    private static class RecordingUi implements Ui {
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void showOutput(List<String> lines) {
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+            errors.addAll(lines);
+        }
+
+        @Override
+        public void showError(String... lines) {
+            errors.addAll(List.of(lines));
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
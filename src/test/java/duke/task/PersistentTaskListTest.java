@@ -0,0 +1,261 @@
+package duke.task;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import duke.exception.ParseTaskException;
+import duke.exception.TaskNotFoundException;
+import duke.history.UndoHistory;
+
+public class PersistentTaskListTest {
+
+    @Test
+    public void testAdd_appendsTasksInOrder() throws TaskNotFoundException {
+        PersistentTaskList tasks = new PersistentTaskList();
+
+        tasks.add(new Todo("first"));
+        tasks.add(new Todo("second"));
+        tasks.add(new Todo("third"));
+
+        Assertions.assertEquals(3, tasks.size());
+        Assertions.assertEquals("first", tasks.get(0).getDescription());
+        Assertions.assertEquals("third", tasks.get(2).getDescription());
+    }
+
+    @Test
+    public void testCopy_mutatingCopy_leavesOriginalUnchanged() throws TaskNotFoundException {
+        PersistentTaskList original = new PersistentTaskList();
+        for (int i = 0; i < 10; i++) {
+            original.add(new Todo("task " + i));
+        }
+
+        TaskContainer copy = original.copy();
+        copy.remove(3);
+        copy.add(new Todo("extra"));
+        copy.set(0, new Todo("replaced"));
+
+        Assertions.assertEquals(10, original.size());
+        Assertions.assertEquals("task 0", original.get(0).getDescription());
+        Assertions.assertEquals("task 3", original.get(3).getDescription());
+        Assertions.assertEquals(10, copy.size());
+        Assertions.assertEquals("replaced", copy.get(0).getDescription());
+        Assertions.assertEquals("task 4", copy.get(3).getDescription());
+        Assertions.assertEquals("extra", copy.get(9).getDescription());
+    }
+
+    @Test
+    public void testSet_returnsPreviousTask() throws TaskNotFoundException {
+        PersistentTaskList tasks = new PersistentTaskList();
+        Todo first = new Todo("first");
+        tasks.add(first);
+
+        Task previous = tasks.set(0, new Todo("second"));
+
+        Assertions.assertSame(first, previous);
+        Assertions.assertEquals("second", tasks.get(0).getDescription());
+    }
+
+    @Test
+    public void testGet_outOfRange_throwsTaskNotFoundException() {
+        PersistentTaskList tasks = new PersistentTaskList();
+        tasks.add(new Todo("only"));
+
+        TaskNotFoundException exception = Assertions.assertThrows(
+                TaskNotFoundException.class, () -> tasks.get(1));
+        Assertions.assertEquals("Index [1] out of range [1]", exception.getMessage());
+        Assertions.assertThrows(TaskNotFoundException.class, () -> tasks.remove(-1));
+    }
+
+    @Test
+    public void testIndexOf_tasksRemoved_idsKept() throws TaskNotFoundException {
+        PersistentTaskList tasks = new PersistentTaskList();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        long id = tasks.get(5).getId();
+
+        tasks.remove(0);
+        tasks.remove(1);
+        tasks.set(3, new Todo("replaced"));
+
+        Assertions.assertEquals(3, tasks.indexOf(id));
+        Assertions.assertEquals(id, tasks.get(3).getId());
+        Assertions.assertEquals("replaced", tasks.get(3).getDescription());
+        tasks.add(new Todo("extra"));
+        Assertions.assertEquals(11, tasks.get(8).getId());
+    }
+
+    @Test
+    public void testIndexOf_insertedOutOfOrder_found() throws TaskNotFoundException {
+        PersistentTaskList tasks = new PersistentTaskList();
+        tasks.add(new Todo("first"));
+        tasks.add(new Todo("second"));
+        Task moved = tasks.remove(1);
+
+        tasks.insert(0, moved);
+        tasks.add(new Todo("third"));
+
+        Assertions.assertEquals(0, tasks.indexOf(2));
+        Assertions.assertEquals(1, tasks.indexOf(1));
+        Assertions.assertEquals(2, tasks.indexOf(3));
+    }
+
+    @Test
+    public void testIndexOf_outOfOrderInsertUndone_orderedAgain() throws TaskNotFoundException {
+        PersistentTaskList before = new PersistentTaskList();
+        before.add(new Todo("first"));
+        before.add(new Todo("second"));
+        before.add(new Todo("third"));
+        PersistentTaskList after = (PersistentTaskList) before.copy();
+        after.insert(0, after.remove(2));
+
+        Assertions.assertFalse(after.isOrdered());
+        Assertions.assertEquals(0, after.indexOf(3));
+
+        UndoHistory history = new UndoHistory().record("move", before, after);
+        PersistentTaskList undone = (PersistentTaskList) history.getLatest().revert(after);
+
+        Assertions.assertTrue(undone.isOrdered());
+        Assertions.assertEquals(2, undone.indexOf(3));
+        Assertions.assertEquals(0, undone.indexOf(1));
+    }
+
+    @Test
+    public void testIsOrdered_randomInsertsAndRemoves_matchesIds() throws TaskNotFoundException {
+        Random random = new Random(42);
+        PersistentTaskList tasks = new PersistentTaskList();
+        List<Task> removed = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || tasks.size() == 0) {
+                tasks.add(new Todo("task " + i));
+            } else if (operation == 1) {
+                removed.add(tasks.remove(random.nextInt(tasks.size())));
+            } else if (!removed.isEmpty()) {
+                tasks.insert(random.nextInt(tasks.size() + 1), removed.remove(removed.size() - 1));
+            }
+
+            long previousId = Long.MIN_VALUE;
+            boolean isOrdered = true;
+            for (Task task : tasks) {
+                isOrdered &= previousId < task.getId();
+                previousId = task.getId();
+            }
+            Assertions.assertEquals(isOrdered, tasks.isOrdered());
+        }
+    }
+
+    @Test
+    public void testIndexOf_unknownId_throwsTaskNotFoundException() {
+        PersistentTaskList tasks = new PersistentTaskList();
+        tasks.add(new Todo("only"));
+
+        TaskNotFoundException exception = Assertions.assertThrows(
+                TaskNotFoundException.class, () -> tasks.indexOf(2));
+        Assertions.assertEquals("Task with ID [#2] not found", exception.getMessage());
+    }
+
+    @Test
+    public void testRandomOperations_matchArrayList() throws TaskNotFoundException {
+        Random random = new Random(42);
+        PersistentTaskList tasks = new PersistentTaskList();
+        List<Task> expected = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                Todo todo = new Todo("task " + i);
+                tasks.add(todo);
+                expected.add(todo);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertSame(expected.remove(index), tasks.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                Todo todo = new Todo("replacement " + i);
+                Assertions.assertSame(expected.set(index, todo), tasks.set(index, todo));
+            }
+        }
+
+        Assertions.assertEquals(expected.size(), tasks.size());
+        Assertions.assertIterableEquals(expected, tasks);
+        List<Task> listed = new ArrayList<>();
+        tasks.list((index, task) -> listed.add(task));
+        Assertions.assertEquals(expected, listed);
+    }
+
+    @Test
+    public void testAddEncoded_decodesTasksOnlyWhenRetrieved() throws Exception {
+        Task[] originals = {new Todo("first"), new Deadline("second", LocalDate.of(2024, 12, 1)),
+            new Event("third", LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 2))};
+        originals[1].markAsDone();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Task task : originals) {
+            task.writeTo(out);
+        }
+        byte[] data = bytes.toByteArray();
+
+        PersistentTaskList tasks = new PersistentTaskList();
+        List<EncodedTask> encoded = new ArrayList<>();
+        int offset = 0;
+        for (int i = 0; i < originals.length; i++) {
+            EncodedTask task = EncodedTask.of(10 + i, data, offset);
+            offset += task.getLength();
+            encoded.add(task);
+            tasks.addEncoded(task);
+        }
+
+        Assertions.assertEquals(data.length, offset);
+        Assertions.assertEquals(1, tasks.indexOf(11));
+        Assertions.assertFalse(encoded.stream().anyMatch(EncodedTask::isDecoded));
+
+        Task second = tasks.get(1);
+        Assertions.assertEquals(originals[1].toString(), second.toString());
+        Assertions.assertEquals(11, second.getId());
+        Assertions.assertSame(second, tasks.get(1));
+        Assertions.assertFalse(encoded.get(0).isDecoded() || encoded.get(2).isDecoded());
+
+        Assertions.assertEquals(Arrays.stream(originals).map(Task::toString).toList(),
+                List.of(tasks.get(0).toString(), second.toString(), tasks.get(2).toString()));
+        tasks.add(new Todo("fourth"));
+        Assertions.assertEquals(13, tasks.get(3).getId());
+    }
+
+    @Test
+    public void testEncodedTask_sourceBytesOverwritten_decodesOwnCopy() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(42);
+        new Todo("read book").writeTo(out);
+        byte[] data = bytes.toByteArray();
+
+        EncodedTask task = EncodedTask.of(1, data, Integer.BYTES);
+        Arrays.fill(data, (byte) 0);
+
+        Assertions.assertEquals(data.length - Integer.BYTES, task.getLength());
+        Assertions.assertEquals("[T][_] read book", task.decode().toString());
+    }
+
+    @Test
+    public void testEncodedTask_invalidBytes_throwsWhenCreated() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new Event("event", LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 2)).writeTo(new DataOutputStream(bytes));
+        byte[] data = bytes.toByteArray();
+
+        Assertions.assertThrows(EOFException.class, () -> EncodedTask.of(1, Arrays.copyOf(data, data.length - 1), 0));
+        data[0] = 'X';
+        Assertions.assertThrows(ParseTaskException.class, () -> EncodedTask.of(1, data, 0));
+    }
+}
@@ -5,6 +5,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -115,4 +116,64 @@ public class CliTest {
         String normalizedExpected = expectedOutput.replace("\n", System.lineSeparator());
         Assertions.assertEquals(normalizedExpected, byteArrayOutputStream.toString());
     }
+
+    @Test
+    public void testStreamOutput_exceedsBuffer_writesEveryLine() {
+        // Act
+        String line = "x".repeat(100);
+        cli.streamOutput(Collections.nCopies(TextRenderer.BUFFER_CAPACITY / 50, line));
+
+        // Assert
+        String expectedOutput = ("    " + line + "\n").repeat(TextRenderer.BUFFER_CAPACITY / 50)
+                + "   _____________________________________________________________________________\n";
+        String normalizedExpected = expectedOutput.replace("\n", System.lineSeparator());
+        Assertions.assertEquals(normalizedExpected, byteArrayOutputStream.toString());
+    }
+
+    @Test
+    public void testRawMode_prefixesLinesAndEndsResponses() {
+        // Arrange
+        cli = new Cli(mockInputStream, mockPrintStream, TextRenderer.Mode.RAW);
+
+        // Act
+        cli.start();
+        String input = cli.getInput();
+        cli.showOutput("Line 1", "Line 2");
+        cli.showError("Error 1");
+        cli.close();
+
+        // Assert
+        String expectedOutput = "out Line 1\n"
+                + "out Line 2\n"
+                + "end\n"
+                + "err Error 1\n"
+                + "end\n"
+                + "out Bye. Hope to see you again soon!\n"
+                + "end\n";
+        String normalizedExpected = expectedOutput.replace("\n", System.lineSeparator());
+        Assertions.assertEquals("Test input", input);
+        Assertions.assertEquals(normalizedExpected, byteArrayOutputStream.toString());
+    }
+
+    @Test
+    public void testRawMode_lineBreaksInLines_everyLinePrefixed() {
+        // Arrange
+        cli = new Cli(mockInputStream, mockPrintStream, TextRenderer.Mode.RAW);
+
+        // Act
+        cli.showOutput("Line 1", "Line 2\nLine 3\n");
+        cli.showError("Error 1\r\nError 2");
+
+        // Assert
+        String expectedOutput = "out Line 1\n"
+                + "out Line 2\n"
+                + "out Line 3\n"
+                + "out \n"
+                + "end\n"
+                + "err Error 1\n"
+                + "err Error 2\n"
+                + "end\n";
+        String normalizedExpected = expectedOutput.replace("\n", System.lineSeparator());
+        Assertions.assertEquals(normalizedExpected, byteArrayOutputStream.toString());
+    }
 }
@@ -0,0 +1,60 @@
+package duke.ui.gui;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TranscriptTest {
+
+    @Test
+    public void testAdd_exceedsMaxVisible_hidesOldestMessages() {
+        Transcript transcript = new Transcript(3, 10);
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(0, transcript.add(duke("message " + i)));
+        }
+        Assertions.assertEquals(1, transcript.add(duke("message 3")));
+
+        Assertions.assertEquals(List.of("message 1", "message 2", "message 3"), texts(transcript.getVisible()));
+        Assertions.assertTrue(transcript.hasOlder());
+    }
+
+    @Test
+    public void testShowOlder_showsOlderMessagesUntilNoneLeft() {
+        Transcript transcript = new Transcript(2, 10);
+        for (int i = 0; i < 5; i++) {
+            transcript.add(duke("message " + i));
+        }
+
+        Assertions.assertEquals(List.of("message 1", "message 2"), texts(transcript.showOlder(2)));
+        Assertions.assertEquals(List.of("message 0"), texts(transcript.showOlder(2)));
+        Assertions.assertFalse(transcript.hasOlder());
+        Assertions.assertEquals(5, transcript.getVisible().size());
+
+        // Adding a message cuts the visible messages back to the latest ones
+        Assertions.assertEquals(4, transcript.add(duke("message 5")));
+        Assertions.assertEquals(List.of("message 4", "message 5"), texts(transcript.getVisible()));
+    }
+
+    @Test
+    public void testAdd_exceedsMaxKept_dropsOldestMessages() {
+        Transcript transcript = new Transcript(2, 3);
+        for (int i = 0; i < 5; i++) {
+            transcript.add(new Transcript.Message(Transcript.Speaker.USER, "message " + i));
+        }
+
+        Assertions.assertEquals(List.of("message 2"), texts(transcript.showOlder(10)));
+        Assertions.assertFalse(transcript.hasOlder());
+        Assertions.assertEquals(2, transcript.add(duke("message 5")));
+        Assertions.assertEquals(List.of("message 4", "message 5"), texts(transcript.getVisible()));
+    }
+
+    private static Transcript.Message duke(String text) {
+        return new Transcript.Message(Transcript.Speaker.DUKE, text);
+    }
+
+    private static List<String> texts(List<Transcript.Message> messages) {
+        return messages.stream().map(Transcript.Message::getText).toList();
+    }
+}
@@ -0,0 +1,211 @@
+package duke.ui.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import duke.Duke;
+import duke.storage.Storage;
+import duke.task.TaskContainer;
+import duke.ui.Ui;
+
+public class SocketServerTest {
+
+    private SocketServer server;
+    private Thread serverThread;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Ui ui = new SilentUi();
+        Duke duke = new Duke(ui, new MemoryStorage(), "memory");
+        server = new SocketServer(duke, ui, 0);
+        serverThread = new Thread(() -> {
+            try {
+                server.serve();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        serverThread.setDaemon(true);
+        serverThread.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException, InterruptedException {
+        server.close();
+        serverThread.join();
+    }
+
+    @Test
+    public void testProcess_command_responseWritten() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            List<String> response = client.send("todo read book");
+
+            Assertions.assertEquals(List.of(
+                    "out Ooooh! Look at that! I've added this task:",
+                    "out [T][_] read book",
+                    "out Now you have 1 tasks in the list! Let's get it done fast!"), response);
+            Assertions.assertEquals(List.of("err Unknown command [blah]"), client.send("blah"));
+        }
+    }
+
+    @Test
+    public void testProcess_outputWithLineBreak_everyLinePrefixed() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.send("todo read book");
+            List<String> response = client.send("unmark 1");
+
+            Assertions.assertEquals(List.of(
+                    "out Awww man! Okay, I've marked this task as not done yet:",
+                    "out [T][_] read book",
+                    "out Better get back to work!",
+                    "out "), response);
+        }
+    }
+
+    @Test
+    public void testShowError_afterDisconnect_notBuffered() throws IOException {
+        StringWriter writer = new StringWriter();
+        SocketUi ui = new SocketUi(writer);
+        ui.showOutput("unsent");
+
+        ui.disconnect();
+        ui.showError("Error saving tasks in the background");
+        ui.writeResponse();
+
+        Assertions.assertFalse(ui.isOpen());
+        Assertions.assertEquals(SocketUi.END_OF_RESPONSE + "\n", writer.toString());
+    }
+
+    @Test
+    public void testProcess_concurrentClients_allCommandsExecuted() throws Exception {
+        int clientCount = 4;
+        int commandCount = 50;
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            int clientIndex = i;
+            Thread thread = new Thread(() -> {
+                try (Client client = new Client(server.getPort())) {
+                    for (int j = 0; j < commandCount; j++) {
+                        client.send(String.format("todo task %d-%d", clientIndex, j));
+                    }
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertTrue(failures.isEmpty());
+        try (Client client = new Client(server.getPort())) {
+            List<String> response = client.send("list");
+            Assertions.assertEquals(clientCount * commandCount + 2, response.size());
+        }
+    }
+
+    @Test
+    public void testProcess_batchOnOneClient_otherClientUnaffected() throws IOException {
+        try (Client first = new Client(server.getPort()); Client second = new Client(server.getPort())) {
+            first.send("batch");
+            first.send("todo first");
+            second.send("todo second");
+            first.send("end");
+
+            List<String> response = second.send("list");
+            Assertions.assertEquals(List.of("out Here's what's on your plate:", "out 1. [T][_] second",
+                    "out 2. [T][_] first", "out Let's get these done so I can poof away!"), response);
+        }
+    }
+
+    @Test
+    public void testProcess_bye_connectionClosed() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            List<String> response = client.send("bye");
+
+            Assertions.assertTrue(response.contains("out Bye. Hope to see you again soon!"));
+            Assertions.assertNull(client.reader.readLine());
+        }
+    }
+
+    private static class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+
+        private Client(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        private List<String> send(String command) throws IOException {
+            writer.println(command);
+            List<String> response = new ArrayList<>();
+            for (String line = reader.readLine(); !SocketUi.END_OF_RESPONSE.equals(line); line = reader.readLine()) {
+                Assertions.assertNotNull(line);
+                response.add(line);
+            }
+            return response;
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    private static class MemoryStorage implements Storage {
+        @Override
+        public void save(TaskContainer taskList, Ui ui) {
+        }
+
+        @Override
+        public void load(TaskContainer taskContainer, Ui ui) {
+        }
+    }
+
+    private static class SilentUi implements Ui {
+        @Override
+        public void showOutput(List<String> lines) {
+        }
+
+        @Override
+        public void showOutput(String... lines) {
+        }
+
+        @Override
+        public void showError(List<String> lines) {
+        }
+
+        @Override
+        public void showError(String... lines) {
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}